@@ -146,6 +146,19 @@ public interface TimeSeriesChart<DS, COLOR> {
 
     void setCrosshairTrigger(@Nullable DisplayTrigger crosshairTrigger);
 
+    /**
+     * Applies several changes as a single transaction. The work triggered by
+     * the changes is deferred until the end of the transaction and done only
+     * once, so that the chart is refreshed at most once. Nested calls join the
+     * outer transaction.
+     *
+     * @param changes the changes to apply, usually calls to setters
+     * @since 2.7.1
+     */
+    default void batch(@NonNull Runnable changes) {
+        changes.run();
+    }
+
     void copyImage() throws IOException;
 
     void saveImage() throws IOException;
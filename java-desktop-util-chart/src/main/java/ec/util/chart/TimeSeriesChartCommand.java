@@ -81,26 +81,28 @@ public abstract class TimeSeriesChartCommand {
         return new TimeSeriesChartCommand() {
             @Override
             public void execute(@NonNull TimeSeriesChart<?, ?> chart) {
-                chart.setDataset(null);
-                chart.setColorSchemeSupport(null);
-                chart.setTitle(null);
-                chart.setNoDataMessage(null);
-                for (Element o : Element.values()) {
-                    chart.setElementVisible(o, true);
-                }
-                chart.setPlotWeights(null);
-                chart.setPlotDispatcher(null);
-                chart.setLineThickness(1f);
-                chart.setPeriodFormat(null);
-                chart.setValueFormat(null);
-                chart.setSeriesRenderer(null);
-                chart.setSeriesFormatter(null);
-                chart.setObsFormatter(null);
-                chart.setDashPredicate(null);
-                chart.setLegendVisibilityPredicate(null);
-                chart.setCrosshairOrientation(null);
-                chart.setHoveredObs(null);
-                chart.setObsHighlighter(null);
+                chart.batch(() -> {
+                    chart.setDataset(null);
+                    chart.setColorSchemeSupport(null);
+                    chart.setTitle(null);
+                    chart.setNoDataMessage(null);
+                    for (Element o : Element.values()) {
+                        chart.setElementVisible(o, true);
+                    }
+                    chart.setPlotWeights(null);
+                    chart.setPlotDispatcher(null);
+                    chart.setLineThickness(1f);
+                    chart.setPeriodFormat(null);
+                    chart.setValueFormat(null);
+                    chart.setSeriesRenderer(null);
+                    chart.setSeriesFormatter(null);
+                    chart.setObsFormatter(null);
+                    chart.setDashPredicate(null);
+                    chart.setLegendVisibilityPredicate(null);
+                    chart.setCrosshairOrientation(null);
+                    chart.setHoveredObs(null);
+                    chart.setObsHighlighter(null);
+                });
             }
         };
     }
@@ -0,0 +1,258 @@
+/*
+ * Copyright 2026 National Bank of Belgium
+ *
+ * Licensed under the EUPL, Version 1.1 or - as soon they will be approved
+ * by the European Commission - subsequent versions of the EUPL (the "Licence");
+ * You may not use this work except in compliance with the Licence.
+ * You may obtain a copy of the Licence at:
+ *
+ * http://ec.europa.eu/idabc/eupl
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the Licence is distributed on an "AS IS" basis,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Licence for the specific language governing permissions and
+ * limitations under the Licence.
+ */
+package ec.util.chart.swing;
+
+import lombok.NonNull;
+import org.jfree.chart.LegendItem;
+import org.jfree.chart.LegendItemCollection;
+import org.jfree.chart.LegendItemSource;
+import org.jfree.chart.block.Arrangement;
+import org.jfree.chart.block.Block;
+import org.jfree.chart.block.BlockContainer;
+import org.jfree.chart.block.ColumnArrangement;
+import org.jfree.chart.block.FlowArrangement;
+import org.jfree.chart.block.LabelBlock;
+import org.jfree.chart.block.LengthConstraintType;
+import org.jfree.chart.block.RectangleConstraint;
+import org.jfree.chart.event.TitleChangeEvent;
+import org.jfree.chart.title.LegendTitle;
+import org.jfree.data.Range;
+import org.jfree.ui.HorizontalAlignment;
+import org.jfree.ui.RectangleEdge;
+import org.jfree.ui.Size2D;
+import org.jfree.ui.VerticalAlignment;
+import org.jfree.util.SortOrder;
+import org.jspecify.annotations.Nullable;
+
+import java.awt.*;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.IntSupplier;
+
+/**
+ * A legend that keeps its entries between frames and only lays out and paints
+ * the ones that fit.
+ * <p>
+ * The legend items are fetched from the sources, and thus from the renderers
+ * and their predicates, only when the version given by the owner of the
+ * legend changes or when a property of the legend itself changes. A legend
+ * at the top or the bottom of a chart takes at most a third of its height; the
+ * entries that don't fit are replaced by a single "+N more" label.
+ *
+ * @author Philippe Charles
+ */
+final class CachedLegendTitle extends LegendTitle {
+
+    private static final double GAP = 2;
+    private static final double MAX_HEIGHT_RATIO = 1.0 / 3;
+
+    private final Arrangement horizontalArrangement;
+    private final Arrangement verticalArrangement;
+    private final IntSupplier version;
+    // null if not fetched or out of date
+    private List<Block> blocks;
+    private Size2D[] sizes;
+    private int blocksVersion;
+    private Font moreFont;
+    private Paint morePaint;
+
+    /**
+     * Creates a legend.
+     *
+     * @param source the source of the legend items
+     * @param version a number that changes each time the legend items may
+     * have changed
+     */
+    CachedLegendTitle(@NonNull LegendItemSource source, @NonNull IntSupplier version) {
+        // same arrangements as LegendTitle
+        this(source, version,
+                new FlowArrangement(HorizontalAlignment.CENTER, VerticalAlignment.CENTER, GAP, GAP),
+                new ColumnArrangement(HorizontalAlignment.LEFT, VerticalAlignment.CENTER, GAP, GAP));
+    }
+
+    private CachedLegendTitle(LegendItemSource source, IntSupplier version, Arrangement horizontalArrangement, Arrangement verticalArrangement) {
+        super(source, horizontalArrangement, verticalArrangement);
+        this.horizontalArrangement = horizontalArrangement;
+        this.verticalArrangement = verticalArrangement;
+        this.version = version;
+    }
+
+    @Override
+    protected void fetchLegendItems() {
+        // the entries are selected by arrange()
+    }
+
+    @Override
+    public Size2D arrange(Graphics2D g2, RectangleConstraint constraint) {
+        checkBlocks();
+        selectBlocks(g2, toContentConstraint(constraint));
+        return super.arrange(g2, constraint);
+    }
+
+    @Override
+    protected void notifyListeners(TitleChangeEvent event) {
+        // fonts, paints, sources or order may have changed
+        blocks = null;
+        super.notifyListeners(event);
+    }
+
+    private void checkBlocks() {
+        int current = version.getAsInt();
+        if (blocks != null && blocksVersion == current) {
+            return;
+        }
+        List<LegendItem> items = new ArrayList<>();
+        for (LegendItemSource source : getSources()) {
+            LegendItemCollection collection = source.getLegendItems();
+            if (collection != null) {
+                for (int i = 0; i < collection.getItemCount(); i++) {
+                    items.add(collection.get(i));
+                }
+            }
+        }
+        blocks = new ArrayList<>(items.size());
+        for (int i = 0; i < items.size(); i++) {
+            // same order as LegendTitle#fetchLegendItems()
+            LegendItem item = items.get(getSortOrder().equals(SortOrder.ASCENDING) ? i : items.size() - 1 - i);
+            blocks.add(createLegendItemBlock(item));
+        }
+        sizes = new Size2D[blocks.size()];
+        blocksVersion = current;
+        LegendItem first = items.isEmpty() ? null : items.get(0);
+        moreFont = first != null && first.getLabelFont() != null ? first.getLabelFont() : getItemFont();
+        morePaint = first != null && first.getLabelPaint() != null ? first.getLabelPaint() : getItemPaint();
+    }
+
+    private void selectBlocks(Graphics2D g2, RectangleConstraint constraint) {
+        boolean horizontal = RectangleEdge.isTopOrBottom(getPosition());
+        double maxWidth = getMaxLength(constraint.getWidthConstraintType(), constraint.getWidth(), constraint.getWidthRange());
+        double maxHeight = getMaxLength(constraint.getHeightConstraintType(), constraint.getHeight(), constraint.getHeightRange());
+        if (horizontal) {
+            maxHeight *= MAX_HEIGHT_RATIO;
+        }
+
+        int count = fit(g2, horizontal, maxWidth, maxHeight, null);
+        LabelBlock more = null;
+        if (count < blocks.size()) {
+            // the longest label is used to reserve room for the actual one
+            Size2D reserved = newMoreLabel(blocks.size()).arrange(g2, RectangleConstraint.NONE);
+            count = fit(g2, horizontal, maxWidth, maxHeight, reserved);
+            more = newMoreLabel(blocks.size() - count);
+        }
+
+        BlockContainer container = getItemContainer();
+        container.clear();
+        container.setArrangement(horizontal ? horizontalArrangement : verticalArrangement);
+        for (int i = 0; i < count; i++) {
+            container.add(blocks.get(i));
+        }
+        if (more != null) {
+            container.add(more);
+        }
+    }
+
+    private int fit(Graphics2D g2, boolean horizontal, double maxWidth, double maxHeight, @Nullable Size2D reserved) {
+        Flow flow = new Flow(horizontal, maxWidth, maxHeight);
+        int result = 0;
+        for (int i = 0; i < blocks.size(); i++) {
+            if (!flow.add(getSize(g2, i)) || (reserved != null && !flow.copy().add(reserved))) {
+                break;
+            }
+            result = i + 1;
+        }
+        return result;
+    }
+
+    private Size2D getSize(Graphics2D g2, int index) {
+        Size2D result = sizes[index];
+        if (result == null) {
+            result = blocks.get(index).arrange(g2, RectangleConstraint.NONE);
+            sizes[index] = result;
+        }
+        return result;
+    }
+
+    private LabelBlock newMoreLabel(int count) {
+        return new LabelBlock("+" + count + " more", moreFont, morePaint);
+    }
+
+    private static double getMaxLength(LengthConstraintType type, double length, Range range) {
+        if (type == LengthConstraintType.FIXED) {
+            return length;
+        }
+        if (type == LengthConstraintType.RANGE && range != null) {
+            return range.getUpperBound();
+        }
+        return Double.POSITIVE_INFINITY;
+    }
+
+    //<editor-fold defaultstate="collapsed" desc="Implementation details">
+    /**
+     * Simulates the arrangements of the legend: rows of entries for a
+     * horizontal legend, a single column for a vertical one.
+     */
+    private static final class Flow {
+
+        private final boolean horizontal;
+        private final double maxWidth;
+        private final double maxHeight;
+        private double x;
+        private double y;
+        private double rowHeight;
+
+        Flow(boolean horizontal, double maxWidth, double maxHeight) {
+            this.horizontal = horizontal;
+            this.maxWidth = maxWidth;
+            this.maxHeight = maxHeight;
+        }
+
+        Flow copy() {
+            Flow result = new Flow(horizontal, maxWidth, maxHeight);
+            result.x = x;
+            result.y = y;
+            result.rowHeight = rowHeight;
+            return result;
+        }
+
+        boolean add(Size2D size) {
+            if (!horizontal) {
+                if (y + size.getHeight() > maxHeight) {
+                    return false;
+                }
+                y += size.getHeight() + GAP;
+                return true;
+            }
+            double left = x;
+            double top = y;
+            double height = rowHeight;
+            if (left > 0 && left + size.getWidth() > maxWidth) {
+                // new row
+                top += rowHeight + GAP;
+                left = 0;
+                height = 0;
+            }
+            if (top + Math.max(height, size.getHeight()) > maxHeight) {
+                return false;
+            }
+            x = left + size.getWidth() + GAP;
+            y = top;
+            rowHeight = Math.max(height, size.getHeight());
+            return true;
+        }
+    }
+    //</editor-fold>
+}
@@ -38,19 +38,21 @@ import java.awt.geom.AffineTransform;
 import java.awt.geom.Area;
 import java.awt.geom.Point2D;
 import java.awt.geom.Rectangle2D;
+import java.awt.image.BufferedImage;
 import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.IOException;
 import java.io.OutputStream;
 import java.io.OutputStreamWriter;
+import java.io.Writer;
 import java.lang.reflect.InvocationTargetException;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.util.AbstractList;
-import java.util.AbstractMap.SimpleEntry;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
-import java.util.Map.Entry;
+import java.util.Map;
 import javax.swing.JFileChooser;
 import javax.swing.SwingUtilities;
 import javax.swing.filechooser.FileFilter;
@@ -61,9 +63,7 @@ import org.jspecify.annotations.Nullable;
 import org.jfree.chart.ChartFactory;
 import org.jfree.chart.ChartPanel;
 import static org.jfree.chart.ChartPanel.*;
-import org.jfree.chart.ChartTransferable;
 import org.jfree.chart.JFreeChart;
-import org.jfree.chart.axis.ValueAxis;
 import org.jfree.chart.entity.LegendItemEntity;
 import org.jfree.chart.labels.ItemLabelAnchor;
 import org.jfree.chart.labels.ItemLabelPosition;
@@ -75,7 +75,6 @@ import org.jfree.data.general.SeriesDataset;
 import org.jfree.data.xy.AbstractIntervalXYDataset;
 import org.jfree.data.xy.IntervalXYDataset;
 import org.jfree.data.xy.XYDataset;
-import org.jfree.ui.RectangleEdge;
 import org.jfree.ui.RectangleInsets;
 import org.jfree.ui.TextAnchor;
 
@@ -176,6 +175,15 @@ public final class Charts {
         return result;
     }
 
+    /**
+     * Finds the series whose line is the nearest to a point of a chart panel.
+     * The lookup uses a screen-space index of the plot that is cached until
+     * the next zoom, resize or dataset change.
+     *
+     * @param pt the point in screen coordinates
+     * @param cp the chart panel
+     * @return a fake legend entity identifying the series, null if none
+     */
     @Nullable
     public static LegendItemEntity getSeriesForPoint(@NonNull Point pt, @NonNull ChartPanel cp) {
 
@@ -204,67 +212,8 @@ public final class Charts {
             }
         }
 
-        // Let's avoid unnecessary computation
-        final ValueAxis domainAxis = plot.getDomainAxis();
-        final ValueAxis rangeAxis = plot.getRangeAxis();
-        final RectangleEdge domainAxisEdge = plot.getDomainAxisEdge();
-        final RectangleEdge rangeAxisEdge = plot.getRangeAxisEdge();
-        final double x = domainAxis.java2DToValue(chartX, plotArea, domainAxisEdge);
-
-        final double sensitivity = TOL;
-        double distanceClickSeries = TOL + 1;
-
-        Entry<XYDataset, Comparable> result = null;
-
-        // For each series in each datasets
-        for (XYDataset dataset : asDatasetList(plot)) {
-            for (int series = 0; series < dataset.getSeriesCount(); series++) {
-                // Index of the closest data item of the current series just left to the click
-                int lp = getNearestLeftPoint(x, 0, dataset.getItemCount(series) - 1, series, dataset);
-
-                try {
-                    // X and Y values of data items to the left and to the right
-                    double leftX = dataset.getXValue(series, lp);
-                    double leftY = dataset.getYValue(series, lp);
-                    double rightX = dataset.getXValue(series, lp + 1);
-                    double rightY = dataset.getYValue(series, lp + 1);
-
-                    double lx = domainAxis.valueToJava2D(leftX, plotArea, domainAxisEdge);
-                    double ly = rangeAxis.valueToJava2D(leftY, plotArea, rangeAxisEdge);
-                    double rx = domainAxis.valueToJava2D(rightX, plotArea, domainAxisEdge);
-                    double ry = rangeAxis.valueToJava2D(rightY, plotArea, rangeAxisEdge);
-
-                    // Distance to left point
-                    double distL = Point2D.distance(lx, ly, chartX, chartY);
-                    // Distance to right point
-                    double distR = Point2D.distance(rx, ry, chartX, chartY);
-                    // Average of both distances
-                    double distLRavg = (distL + distR) / 2d;
-                    // Distance to the segment between L and R
-                    //double distSeg = Line2D.ptSegDist(leftX, leftY, rightX, rightY, chartX, chartY);
-                    double distSeg = ptSegDist(lx, ly, rx, ry, chartX, chartY);
-
-                    // With a line renderer, this is probably a bit of overkill as
-                    // distSeg would be enough, but it becomes more reliable to check all these
-                    // if using splines
-                    double tmp = Math.min(Math.min(distSeg, Math.min(distL, distR)), distLRavg);
-
-                    // Are we closer than the previous series?
-                    if (tmp < sensitivity && tmp < distanceClickSeries) {
-                        distanceClickSeries = tmp;
-                        result = new SimpleEntry<>(dataset, dataset.getSeriesKey(series));
-                    }
-                } catch (Exception ex) {
-                    /*
-                     * An exception might happen when some series have less data
-                     * than others, catching the the exception here will simply rule
-                     * them out from the detection on this click
-                     */
-                }
-            }
-        }
-
-        return result != null ? createFakeLegendItemEntity(result.getKey(), result.getValue()) : null;
+        // Let's query the cached screen-space index of the plot
+        return SeriesSegmentIndex.of(cp, plot, plotArea, TOL).getSeriesForPoint(chartX, chartY);
     }
 
     /**
@@ -285,6 +234,10 @@ public final class Charts {
     public static final boolean USE_CHART_PANEL_BUFFER = isChartPanelBufferValid();
 
     private static boolean isChartPanelBufferValid() {
+        if (GraphicsEnvironment.isHeadless()) {
+            // no screen, thus no scaling; charts are drawn offscreen anyway
+            return true;
+        }
         AffineTransform o = GraphicsEnvironment
                 .getLocalGraphicsEnvironment()
                 .getDefaultScreenDevice()
@@ -420,14 +373,38 @@ public final class Charts {
         JTimeSeriesRendererSupport.drawToolTip(g2, x, y, anchorOffset, label, font, paint, fillPaint, outlinePaint, outlineStroke);
     }
 
+    /**
+     * Copies a chart to the system clipboard. The chart is cloned but nothing
+     * is drawn until a flavor is requested by the target application.
+     *
+     * @param chartPanel the panel of the chart
+     */
     public static void copyChart(@NonNull ChartPanel chartPanel) {
+        JFreeChart chart = chartPanel.getChart();
+        JFreeChart copy;
+        try {
+            copy = (JFreeChart) chart.clone();
+        } catch (CloneNotSupportedException ex) {
+            copy = chart;
+        }
+        copyChart(chartPanel, copy);
+    }
+
+    /**
+     * Copies a chart to the system clipboard.
+     *
+     * @param chartPanel the panel that gives the size of the chart
+     * @param snapshot a chart that is no longer modified, drawn by the thread
+     * that requests a flavor
+     */
+    static void copyChart(@NonNull ChartPanel chartPanel, @NonNull JFreeChart snapshot) {
         Clipboard clipboard = Toolkit.getDefaultToolkit().getSystemClipboard();
         Insets insets = chartPanel.getInsets();
         int w = chartPanel.getWidth() - insets.left - insets.right;
         int h = chartPanel.getHeight() - insets.top - insets.bottom;
-        Transferable selection = new ChartTransferable2(chartPanel.getChart(), w, h,
+        Transferable selection = new LazyChartTransferable(snapshot, w, h,
                 chartPanel.getMinimumDrawWidth(), chartPanel.getMinimumDrawHeight(),
-                chartPanel.getMaximumDrawWidth(), chartPanel.getMaximumDrawHeight(), true);
+                chartPanel.getMaximumDrawWidth(), chartPanel.getMaximumDrawHeight());
         clipboard.setContents(selection, null);
     }
 
@@ -465,11 +442,31 @@ public final class Charts {
     }
 
     public static void writeChartAsSVG(@NonNull OutputStream stream, @NonNull JFreeChart chart, @NonNegative int width, @NonNegative int height) throws IOException {
-        String svg = generateSVG(chart, width, height);
-        try (OutputStreamWriter writer = new OutputStreamWriter(stream, StandardCharsets.UTF_8)) {
+        writeChartAsSVG(stream, chart, width, height, DEFAULT_SVG_PRECISION);
+    }
+
+    /**
+     * Writes a chart as an SVG document. The SVG element generated by the
+     * optional jfreesvg library is encoded straight to the stream, without
+     * intermediate copy of the document. The stream is closed once the
+     * document is written, like in
+     * {@link #writeChartAsSVG(OutputStream, JFreeChart, int, int)}.
+     *
+     * @param stream the target stream
+     * @param chart the chart to write
+     * @param width the width of the document
+     * @param height the height of the document
+     * @param precision the number of decimals of the coordinates
+     * @throws IOException if the document cannot be written
+     * @since 2.7.1
+     */
+    public static void writeChartAsSVG(@NonNull OutputStream stream, @NonNull JFreeChart chart, @NonNegative int width, @NonNegative int height, @NonNegative int precision) throws IOException {
+        String svg = generateSVG(chart, width, height, precision);
+        try (Writer writer = new OutputStreamWriter(stream, StandardCharsets.UTF_8)) {
             writer.write("<?xml version=\"1.0\" encoding=\"utf-8\"?>");
             writer.write("<!DOCTYPE svg PUBLIC \"-//W3C//DTD SVG 1.1//EN\" \"http://www.w3.org/Graphics/SVG/1.1/DTD/svg11.dtd\">\n");
-            writer.write(svg + "\n");
+            writer.write(svg);
+            writer.write('\n');
             writer.flush();
         }
     }
@@ -548,20 +545,23 @@ public final class Charts {
         }
     }
 
-    private static String generateSVG(JFreeChart chart, int width, int height) throws IOException {
+    private static String generateSVG(JFreeChart chart, int width, int height, int precision) throws IOException {
         try {
             Class<?> svgGraphics2d = Class.forName("org.jfree.graphics2d.svg.SVGGraphics2D");
             Graphics2D g2 = (Graphics2D) svgGraphics2d.getConstructor(int.class, int.class).newInstance(width, height);
+            svgGraphics2d.getMethod("setGeometryDP", int.class).invoke(g2, precision);
             // we suppress shadow generation, because SVG is a vector format and
             // the shadow effect is applied via bitmap effects...
             g2.setRenderingHint(JFreeChart.KEY_SUPPRESS_SHADOW_GENERATION, true);
             chart.draw(g2, new Rectangle2D.Double(0, 0, width, height));
-            return (String) g2.getClass().getMethod("getSVGElement").invoke(g2);
+            return (String) svgGraphics2d.getMethod("getSVGElement").invoke(g2);
         } catch (ClassNotFoundException | NoSuchMethodException | SecurityException | InstantiationException | IllegalAccessException | IllegalArgumentException | InvocationTargetException ex) {
             throw new IOException("Cannot generate SVG", ex);
         }
     }
 
+    private static final int DEFAULT_SVG_PRECISION = 2;
+
     private static final String PNG_MEDIA_TYPE = "image/png";
     private static final String JPEG_MEDIA_TYPE = "image/jpeg";
     private static final String SVG_MEDIA_TYPE = "image/svg+xml";
@@ -601,44 +601,79 @@ public final class Charts {
         return result;
     }
 
-    private static final class ChartTransferable2 extends ChartTransferable {
+    /**
+     * Transferable that holds a snapshot of a chart and draws it only when a
+     * flavor is requested, on the requesting thread. The result of each flavor
+     * is kept for repeated pastes.
+     */
+    static final class LazyChartTransferable implements Transferable {
 
         private static final DataFlavor SVG_DATA_FLAVOR = registerSystemFlavor(SVG_MEDIA_TYPE, SVG_MEDIA_TYPE + ";class=\"[B\"", "Scalable Vector Graphics");
 
         private final JFreeChart chart;
         private final int width;
         private final int height;
+        private final int minDrawW;
+        private final int minDrawH;
+        private final int maxDrawW;
+        private final int maxDrawH;
+        private final Map<DataFlavor, Object> cache;
 
-        public ChartTransferable2(JFreeChart chart, int width, int height, int minDrawW, int minDrawH, int maxDrawW, int maxDrawH, boolean cloneData) {
-            super(chart, width, height, minDrawW, minDrawH, maxDrawW, maxDrawH, cloneData);
+        LazyChartTransferable(JFreeChart chart, int width, int height, int minDrawW, int minDrawH, int maxDrawW, int maxDrawH) {
             this.chart = chart;
             this.width = width;
             this.height = height;
+            this.minDrawW = minDrawW;
+            this.minDrawH = minDrawH;
+            this.maxDrawW = maxDrawW;
+            this.maxDrawH = maxDrawH;
+            this.cache = new HashMap<>();
         }
 
         @Override
         public DataFlavor[] getTransferDataFlavors() {
-            DataFlavor[] parent = super.getTransferDataFlavors();
-            DataFlavor[] result = new DataFlavor[parent.length + 1];
-            System.arraycopy(parent, 0, result, 0, parent.length);
-            result[parent.length] = SVG_DATA_FLAVOR;
-            return result;
+            return new DataFlavor[]{DataFlavor.imageFlavor, SVG_DATA_FLAVOR};
         }
 
         @Override
         public boolean isDataFlavorSupported(DataFlavor flavor) {
-            return super.isDataFlavorSupported(flavor) || SVG_DATA_FLAVOR.equals(flavor);
+            return DataFlavor.imageFlavor.equals(flavor) || SVG_DATA_FLAVOR.equals(flavor);
         }
 
         @Override
-        public Object getTransferData(DataFlavor flavor) throws UnsupportedFlavorException, IOException {
-            if (SVG_DATA_FLAVOR.equals(flavor)) {
-                try (ByteArrayOutputStream stream = new ByteArrayOutputStream()) {
-                    writeChartAsSVG(stream, chart, width, height);
-                    return stream.toByteArray();
-                }
+        public synchronized Object getTransferData(DataFlavor flavor) throws UnsupportedFlavorException, IOException {
+            if (!isDataFlavorSupported(flavor)) {
+                throw new UnsupportedFlavorException(flavor);
+            }
+            Object result = cache.get(flavor);
+            if (result == null) {
+                result = SVG_DATA_FLAVOR.equals(flavor) ? createSVG() : createImage();
+                cache.put(flavor, result);
+            }
+            // the bytes are copied because the receiver might modify them
+            return result instanceof byte[] ? ((byte[]) result).clone() : result;
+        }
+
+        private byte[] createSVG() throws IOException {
+            try (ByteArrayOutputStream stream = new ByteArrayOutputStream()) {
+                writeChartAsSVG(stream, chart, width, height);
+                return stream.toByteArray();
             }
-            return super.getTransferData(flavor);
+        }
+
+        // same as ChartTransferable: scales the chart if it doesn't fit in the draw bounds
+        private BufferedImage createImage() {
+            double drawWidth = Math.min(Math.max(width, minDrawW), maxDrawW);
+            double drawHeight = Math.min(Math.max(height, minDrawH), maxDrawH);
+            BufferedImage result = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+            Graphics2D g2 = result.createGraphics();
+            try {
+                g2.scale(width / drawWidth, height / drawHeight);
+                chart.draw(g2, new Rectangle2D.Double(0, 0, drawWidth, drawHeight), null, null);
+            } finally {
+                g2.dispose();
+            }
+            return result;
         }
     }
     //</editor-fold>
@@ -0,0 +1,366 @@
+/*
+ * Copyright 2026 National Bank of Belgium
+ *
+ * Licensed under the EUPL, Version 1.1 or - as soon they will be approved
+ * by the European Commission - subsequent versions of the EUPL (the "Licence");
+ * You may not use this work except in compliance with the Licence.
+ * You may obtain a copy of the Licence at:
+ *
+ * http://ec.europa.eu/idabc/eupl
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the Licence is distributed on an "AS IS" basis,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Licence for the specific language governing permissions and
+ * limitations under the Licence.
+ */
+package ec.util.chart.swing;
+
+import lombok.NonNull;
+import org.jfree.data.DomainOrder;
+import org.jfree.data.xy.AbstractIntervalXYDataset;
+import org.jfree.data.xy.IntervalXYDataset;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * An immutable interval dataset that stores its values in primitive columns.
+ * Each series is made of four columns (x, start x, end x and y) backed either
+ * by <code>double[]</code> or by a {@link DoubleBuffer}, possibly off-heap.
+ * The arrays given to the builder are copied whereas the buffers are not and
+ * must therefore not be modified afterwards.
+ * The primitive accessors never allocate; the {@link Number} accessors are
+ * only kept for compatibility.
+ *
+ * @author Philippe Charles
+ * @since 2.7.1
+ */
+public final class ColumnarXYDataset extends AbstractIntervalXYDataset {
+
+    @NonNull
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Creates an immutable copy of an interval dataset. A columnar dataset is
+     * returned as is since it cannot change.
+     *
+     * @param dataset the dataset to copy
+     * @return a non-null dataset
+     */
+    @NonNull
+    public static ColumnarXYDataset copyOf(@NonNull IntervalXYDataset dataset) {
+        if (dataset instanceof ColumnarXYDataset) {
+            return (ColumnarXYDataset) dataset;
+        }
+        Builder result = builder();
+        for (int series = 0; series < dataset.getSeriesCount(); series++) {
+            int size = dataset.getItemCount(series);
+            double[] x = new double[size];
+            double[] startX = new double[size];
+            double[] endX = new double[size];
+            double[] y = new double[size];
+            for (int item = 0; item < size; item++) {
+                x[item] = dataset.getXValue(series, item);
+                startX[item] = dataset.getStartXValue(series, item);
+                endX[item] = dataset.getEndXValue(series, item);
+                y[item] = dataset.getYValue(series, item);
+            }
+            // the arrays are not shared, no need to copy them again
+            result.addSeries(dataset.getSeriesKey(series), x, startX, endX, y);
+        }
+        return result.build();
+    }
+
+    private final Series[] series;
+    private final DomainOrder domainOrder;
+
+    private ColumnarXYDataset(Series[] series) {
+        this.series = series;
+        this.domainOrder = isAscending(series) ? DomainOrder.ASCENDING : DomainOrder.NONE;
+    }
+
+    @Override
+    public int getSeriesCount() {
+        return series.length;
+    }
+
+    @Override
+    public Comparable getSeriesKey(int series) {
+        return this.series[series].key;
+    }
+
+    @Override
+    public int getItemCount(int series) {
+        return this.series[series].size;
+    }
+
+    @Override
+    public DomainOrder getDomainOrder() {
+        return domainOrder;
+    }
+
+    @Override
+    public double getXValue(int series, int item) {
+        return this.series[series].x.get(item);
+    }
+
+    @Override
+    public double getYValue(int series, int item) {
+        return this.series[series].y.get(item);
+    }
+
+    @Override
+    public double getStartXValue(int series, int item) {
+        return this.series[series].startX.get(item);
+    }
+
+    @Override
+    public double getEndXValue(int series, int item) {
+        return this.series[series].endX.get(item);
+    }
+
+    @Override
+    public double getStartYValue(int series, int item) {
+        return getYValue(series, item);
+    }
+
+    @Override
+    public double getEndYValue(int series, int item) {
+        return getYValue(series, item);
+    }
+
+    @Override
+    public Number getX(int series, int item) {
+        return getXValue(series, item);
+    }
+
+    @Override
+    public Number getY(int series, int item) {
+        return getYValue(series, item);
+    }
+
+    @Override
+    public Number getStartX(int series, int item) {
+        return getStartXValue(series, item);
+    }
+
+    @Override
+    public Number getEndX(int series, int item) {
+        return getEndXValue(series, item);
+    }
+
+    @Override
+    public Number getStartY(int series, int item) {
+        return getStartYValue(series, item);
+    }
+
+    @Override
+    public Number getEndY(int series, int item) {
+        return getEndYValue(series, item);
+    }
+
+    // package-visible to be used by FilteredXYDataset
+    Series getSeries(int series) {
+        return this.series[series];
+    }
+
+    public static final class Builder {
+
+        private final List<Series> series = new ArrayList<>();
+        private boolean offHeap = false;
+
+        private Builder() {
+        }
+
+        /**
+         * Adds a series whose observations have no width.
+         *
+         * @param key the series key
+         * @param x the x values, copied
+         * @param y the y values, copied
+         * @return this builder
+         */
+        @NonNull
+        public Builder series(@NonNull Comparable<?> key, double @NonNull [] x, double @NonNull [] y) {
+            return series(key, x, x, x, y);
+        }
+
+        /**
+         * Adds a series whose observations are intervals.
+         *
+         * @param key the series key
+         * @param x the x values, usually the middle of the intervals, copied
+         * @param startX the start of the intervals, copied
+         * @param endX the end of the intervals, copied
+         * @param y the y values, copied
+         * @return this builder
+         */
+        @NonNull
+        public Builder series(@NonNull Comparable<?> key, double @NonNull [] x, double @NonNull [] startX, double @NonNull [] endX, double @NonNull [] y) {
+            checkSize(y.length, x.length, startX.length, endX.length);
+            // the columns that share an array keep sharing their copy
+            double[] xCopy = x.clone();
+            double[] startXCopy = startX == x ? xCopy : startX.clone();
+            double[] endXCopy = endX == x ? xCopy : endX == startX ? startXCopy : endX.clone();
+            return addSeries(key, xCopy, startXCopy, endXCopy, y.clone());
+        }
+
+        private Builder addSeries(Comparable<?> key, double[] x, double[] startX, double[] endX, double[] y) {
+            Column yColumn = new ArrayColumn(y);
+            Column xColumn = new ArrayColumn(x);
+            Column startXColumn = startX == x ? xColumn : new ArrayColumn(startX);
+            Column endXColumn = endX == x ? xColumn : endX == startX ? startXColumn : new ArrayColumn(endX);
+            series.add(new Series(key, y.length, xColumn, startXColumn, endXColumn, yColumn));
+            return this;
+        }
+
+        /**
+         * Adds a series whose values are read from buffers. The buffers are
+         * read from index zero using absolute gets and must not be modified
+         * afterwards.
+         *
+         * @param key the series key
+         * @param x the x values, usually the middle of the intervals
+         * @param startX the start of the intervals
+         * @param endX the end of the intervals
+         * @param y the y values
+         * @return this builder
+         */
+        @NonNull
+        public Builder series(@NonNull Comparable<?> key, @NonNull DoubleBuffer x, @NonNull DoubleBuffer startX, @NonNull DoubleBuffer endX, @NonNull DoubleBuffer y) {
+            checkSize(y.limit(), x.limit(), startX.limit(), endX.limit());
+            series.add(new Series(key, y.limit(), new BufferColumn(x), new BufferColumn(startX), new BufferColumn(endX), new BufferColumn(y)));
+            return this;
+        }
+
+        /**
+         * Sets whether the array-backed series must be copied into direct
+         * buffers when building the dataset.
+         *
+         * @param offHeap true to store the values off-heap
+         * @return this builder
+         */
+        @NonNull
+        public Builder offHeap(boolean offHeap) {
+            this.offHeap = offHeap;
+            return this;
+        }
+
+        @NonNull
+        public ColumnarXYDataset build() {
+            Series[] result = series.toArray(new Series[0]);
+            if (offHeap) {
+                for (int i = 0; i < result.length; i++) {
+                    result[i] = result[i].toOffHeap();
+                }
+            }
+            return new ColumnarXYDataset(result);
+        }
+
+        private static void checkSize(int size, int... others) {
+            for (int o : others) {
+                if (o != size) {
+                    throw new IllegalArgumentException("Columns must have the same size");
+                }
+            }
+        }
+    }
+
+    //<editor-fold defaultstate="collapsed" desc="Implementation details">
+    static final class Series {
+
+        final Comparable<?> key;
+        final int size;
+        final Column x;
+        final Column startX;
+        final Column endX;
+        final Column y;
+
+        Series(Comparable<?> key, int size, Column x, Column startX, Column endX, Column y) {
+            this.key = key;
+            this.size = size;
+            this.x = x;
+            this.startX = startX;
+            this.endX = endX;
+            this.y = y;
+        }
+
+        Series toOffHeap() {
+            Column newX = x.toOffHeap(size);
+            Column newStartX = startX == x ? newX : startX.toOffHeap(size);
+            Column newEndX = endX == x ? newX : endX == startX ? newStartX : endX.toOffHeap(size);
+            return new Series(key, size, newX, newStartX, newEndX, y.toOffHeap(size));
+        }
+
+        boolean isAscending() {
+            for (int i = 1; i < size; i++) {
+                if (x.get(i - 1) > x.get(i)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+    abstract static class Column {
+
+        abstract double get(int index);
+
+        Column toOffHeap(int size) {
+            DoubleBuffer result = ByteBuffer.allocateDirect(size * Double.BYTES).order(ByteOrder.nativeOrder()).asDoubleBuffer();
+            for (int i = 0; i < size; i++) {
+                result.put(i, get(i));
+            }
+            return new BufferColumn(result);
+        }
+    }
+
+    private static final class ArrayColumn extends Column {
+
+        private final double[] values;
+
+        ArrayColumn(double[] values) {
+            this.values = values;
+        }
+
+        @Override
+        double get(int index) {
+            return values[index];
+        }
+    }
+
+    private static final class BufferColumn extends Column {
+
+        private final DoubleBuffer values;
+
+        BufferColumn(DoubleBuffer values) {
+            this.values = values;
+        }
+
+        @Override
+        double get(int index) {
+            return values.get(index);
+        }
+
+        @Override
+        Column toOffHeap(int size) {
+            return values.isDirect() ? this : super.toOffHeap(size);
+        }
+    }
+
+    private static boolean isAscending(Series[] series) {
+        for (Series o : series) {
+            if (!o.isAscending()) {
+                return false;
+            }
+        }
+        return true;
+    }
+    //</editor-fold>
+}
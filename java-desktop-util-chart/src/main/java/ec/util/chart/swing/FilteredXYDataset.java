@@ -21,6 +21,8 @@ import org.jfree.data.general.AbstractSeriesDataset;
 import org.jfree.data.xy.IntervalXYDataset;
 import org.jfree.data.xy.TableXYDataset;
 
+import java.util.Arrays;
+
 /**
  *
  * @author Philippe Charles
@@ -29,16 +31,37 @@ public final class FilteredXYDataset extends AbstractSeriesDataset implements In
 
     private final IntervalXYDataset original;
     private final int[] map;
+    // inverse of map, -1 for the series that are filtered out
+    private final int[] inverseMap;
+    // fast path for columnar datasets: series resolved once, primitive access only
+    private final ColumnarXYDataset.Series[] columns;
 
     public FilteredXYDataset(IntervalXYDataset original, int[] map) {
         this.original = original;
         this.map = map;
+        this.inverseMap = inverse(map);
+        this.columns = original instanceof ColumnarXYDataset ? resolveColumns((ColumnarXYDataset) original, map) : null;
     }
 
     public int originalIndexOf(int series) {
         return map[series];
     }
 
+    // package-visible to find the series of an observation without scanning the map
+    int filteredIndexOf(int originalSeries) {
+        return originalSeries >= 0 && originalSeries < inverseMap.length ? inverseMap[originalSeries] : -1;
+    }
+
+    // package-visible to share caches between the datasets of the same original
+    IntervalXYDataset getOriginal() {
+        return original;
+    }
+
+    // package-visible to notify the plot when the content of the original has changed
+    void fireChanged() {
+        fireDatasetChanged();
+    }
+
     @Override
     public int getSeriesCount() {
         return map.length;
@@ -51,7 +74,7 @@ public final class FilteredXYDataset extends AbstractSeriesDataset implements In
 
     @Override
     public int getItemCount(int series) {
-        return original.getItemCount(map[series]);
+        return columns != null ? columns[series].size : original.getItemCount(map[series]);
     }
 
     @Override
@@ -86,22 +109,22 @@ public final class FilteredXYDataset extends AbstractSeriesDataset implements In
 
     @Override
     public double getStartXValue(int series, int item) {
-        return original.getStartXValue(map[series], item);
+        return columns != null ? columns[series].startX.get(item) : original.getStartXValue(map[series], item);
     }
 
     @Override
     public double getEndXValue(int series, int item) {
-        return original.getEndXValue(map[series], item);
+        return columns != null ? columns[series].endX.get(item) : original.getEndXValue(map[series], item);
     }
 
     @Override
     public double getStartYValue(int series, int item) {
-        return original.getStartYValue(map[series], item);
+        return columns != null ? columns[series].y.get(item) : original.getStartYValue(map[series], item);
     }
 
     @Override
     public double getEndYValue(int series, int item) {
-        return original.getEndYValue(map[series], item);
+        return columns != null ? columns[series].y.get(item) : original.getEndYValue(map[series], item);
     }
 
     @Override
@@ -111,12 +134,12 @@ public final class FilteredXYDataset extends AbstractSeriesDataset implements In
 
     @Override
     public double getXValue(int series, int item) {
-        return original.getXValue(map[series], item);
+        return columns != null ? columns[series].x.get(item) : original.getXValue(map[series], item);
     }
 
     @Override
     public double getYValue(int series, int item) {
-        return original.getYValue(map[series], item);
+        return columns != null ? columns[series].y.get(item) : original.getYValue(map[series], item);
     }
 
     @Override
@@ -125,4 +148,25 @@ public final class FilteredXYDataset extends AbstractSeriesDataset implements In
                 ? ((TableXYDataset) original).getItemCount()
                 : (getSeriesCount() > 0 ? getItemCount(0) : 0);
     }
+
+    private static int[] inverse(int[] map) {
+        int length = 0;
+        for (int o : map) {
+            length = Math.max(length, o + 1);
+        }
+        int[] result = new int[length];
+        Arrays.fill(result, -1);
+        for (int series = 0; series < map.length; series++) {
+            result[map[series]] = series;
+        }
+        return result;
+    }
+
+    private static ColumnarXYDataset.Series[] resolveColumns(ColumnarXYDataset original, int[] map) {
+        ColumnarXYDataset.Series[] result = new ColumnarXYDataset.Series[map.length];
+        for (int i = 0; i < map.length; i++) {
+            result[i] = original.getSeries(map[i]);
+        }
+        return result;
+    }
 }
@@ -0,0 +1,150 @@
+/*
+ * Copyright 2026 National Bank of Belgium
+ *
+ * Licensed under the EUPL, Version 1.1 or - as soon they will be approved
+ * by the European Commission - subsequent versions of the EUPL (the "Licence");
+ * You may not use this work except in compliance with the Licence.
+ * You may obtain a copy of the Licence at:
+ *
+ * http://ec.europa.eu/idabc/eupl
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the Licence is distributed on an "AS IS" basis,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Licence for the specific language governing permissions and
+ * limitations under the Licence.
+ */
+package ec.util.chart.swing;
+
+import org.jfree.chart.axis.ValueAxis;
+import org.jfree.chart.renderer.xy.XYBarRenderer;
+import org.jfree.chart.renderer.xy.XYItemRenderer;
+import org.jfree.data.xy.IntervalXYDataset;
+import org.jfree.data.xy.XYDataset;
+import org.jfree.ui.RectangleEdge;
+
+import java.awt.*;
+import java.awt.geom.Path2D;
+import java.awt.geom.Rectangle2D;
+
+/**
+ * Geometry of the items drawn by the renderers of {@link JTimeSeriesChart},
+ * computed without painting. Bounds are expressed in the domain/range space:
+ * x is along the domain axis and y along the range axis, whatever the
+ * orientation of the plot.
+ *
+ * @author Philippe Charles
+ */
+final class ItemGeometry {
+
+    private ItemGeometry() {
+        // static class
+    }
+
+    /**
+     * Computes the bounds of a column drawn by {@link ClusteredXYBarRenderer2}.
+     */
+    static Rectangle2D getColumnBounds(XYBarRenderer renderer, IntervalXYDataset dataset, int series, int item, Rectangle2D dataArea, ValueAxis domainAxis, RectangleEdge domainEdge, ValueAxis rangeAxis, RectangleEdge rangeEdge) {
+        double xx0 = domainAxis.valueToJava2D(dataset.getStartXValue(series, item), dataArea, domainEdge);
+        double xx1 = domainAxis.valueToJava2D(dataset.getEndXValue(series, item), dataArea, domainEdge);
+        double intervalW = xx1 - xx0;
+        double baseX = xx0;
+        if (renderer instanceof ClusteredXYBarRenderer2 && ((ClusteredXYBarRenderer2) renderer).centerBarAtStartValue) {
+            baseX -= intervalW / 2.0;
+        }
+        double cut = intervalW * renderer.getMargin();
+        intervalW -= cut;
+        baseX += cut / 2;
+        double seriesBarWidth = intervalW / dataset.getSeriesCount();
+        double barX0 = baseX + seriesBarWidth * series;
+        double yy0 = rangeAxis.valueToJava2D(renderer.getBase(), dataArea, rangeEdge);
+        double yy1 = rangeAxis.valueToJava2D(dataset.getYValue(series, item), dataArea, rangeEdge);
+        return getBounds(barX0, barX0 + seriesBarWidth, yy0, yy1);
+    }
+
+    /**
+     * Computes the bounds of a column drawn by a stacked bar renderer.
+     */
+    static Rectangle2D getStackedColumnBounds(XYBarRenderer renderer, IntervalXYDataset dataset, int series, int item, Rectangle2D dataArea, ValueAxis domainAxis, RectangleEdge domainEdge, ValueAxis rangeAxis, RectangleEdge rangeEdge) {
+        double xx0 = domainAxis.valueToJava2D(dataset.getStartXValue(series, item), dataArea, domainEdge);
+        double xx1 = domainAxis.valueToJava2D(dataset.getEndXValue(series, item), dataArea, domainEdge);
+        double cut = (xx1 - xx0) * renderer.getMargin();
+        double y = dataset.getYValue(series, item);
+        double base = getStackedBase(renderer, dataset, series, item, y);
+        double yy0 = rangeAxis.valueToJava2D(base, dataArea, rangeEdge);
+        double yy1 = rangeAxis.valueToJava2D(base + y, dataArea, rangeEdge);
+        return getBounds(xx0 + cut / 2, xx1 - cut / 2, yy0, yy1);
+    }
+
+    /**
+     * Computes the polygon of an area item. It spans from the middle of its
+     * previous segment to the middle of its next one, like the hotspot of
+     * {@link org.jfree.chart.renderer.xy.XYAreaRenderer2}.
+     */
+    static Shape getAreaShape(XYItemRenderer renderer, XYDataset dataset, int series, int item, boolean stacked, Rectangle2D dataArea, ValueAxis domainAxis, RectangleEdge domainEdge, ValueAxis rangeAxis, RectangleEdge rangeEdge) {
+        int previous = Math.max(item - 1, 0);
+        int next = Math.min(item + 1, dataset.getItemCount(series) - 1);
+        double[] x = {
+            (dataset.getXValue(series, previous) + dataset.getXValue(series, item)) / 2,
+            dataset.getXValue(series, item),
+            (dataset.getXValue(series, item) + dataset.getXValue(series, next)) / 2
+        };
+        double[] bottom = {
+            (getAreaBase(renderer, dataset, series, previous, stacked) + getAreaBase(renderer, dataset, series, item, stacked)) / 2,
+            getAreaBase(renderer, dataset, series, item, stacked),
+            (getAreaBase(renderer, dataset, series, item, stacked) + getAreaBase(renderer, dataset, series, next, stacked)) / 2
+        };
+        double[] top = {
+            bottom[0] + (getAreaValue(dataset, series, previous) + getAreaValue(dataset, series, item)) / 2,
+            bottom[1] + getAreaValue(dataset, series, item),
+            bottom[2] + (getAreaValue(dataset, series, item) + getAreaValue(dataset, series, next)) / 2
+        };
+        Path2D.Double result = new Path2D.Double();
+        result.moveTo(domainAxis.valueToJava2D(x[0], dataArea, domainEdge), rangeAxis.valueToJava2D(bottom[0], dataArea, rangeEdge));
+        for (int i = 0; i < 3; i++) {
+            result.lineTo(domainAxis.valueToJava2D(x[i], dataArea, domainEdge), rangeAxis.valueToJava2D(top[i], dataArea, rangeEdge));
+        }
+        for (int i = 2; i >= 0; i--) {
+            result.lineTo(domainAxis.valueToJava2D(x[i], dataArea, domainEdge), rangeAxis.valueToJava2D(bottom[i], dataArea, rangeEdge));
+        }
+        result.closePath();
+        return result;
+    }
+
+    private static double getAreaValue(XYDataset dataset, int series, int item) {
+        double result = dataset.getYValue(series, item);
+        return Double.isNaN(result) ? 0 : result;
+    }
+
+    private static double getAreaBase(XYItemRenderer renderer, XYDataset dataset, int series, int item, boolean stacked) {
+        return stacked ? getStackedBase(renderer, dataset, series, item, getAreaValue(dataset, series, item)) : 0;
+    }
+
+    /**
+     * Computes the value on which an item is stacked. Positive and negative
+     * values are stacked separately and hidden series are skipped.
+     */
+    static double getStackedBase(XYItemRenderer renderer, XYDataset dataset, int series, int item, double y) {
+        if (StackedSums.isSupported(dataset)) {
+            return StackedSums.of(renderer, dataset).getBase(series, item, y);
+        }
+        double result = 0;
+        for (int i = 0; i < series; i++) {
+            if (item < dataset.getItemCount(i) && renderer.isSeriesVisible(i)) {
+                double value = dataset.getYValue(i, item);
+                if (!Double.isNaN(value) && (value >= 0) == (y >= 0)) {
+                    result += value;
+                }
+            }
+        }
+        return result;
+    }
+
+    static Rectangle2D getBounds(double xx0, double xx1, double yy0, double yy1) {
+        return new Rectangle2D.Double(Math.min(xx0, xx1), Math.min(yy0, yy1), Math.abs(xx1 - xx0), Math.abs(yy1 - yy0));
+    }
+
+    static boolean contains(Rectangle2D bounds, double x, double y) {
+        return bounds.getMinX() <= x && x <= bounds.getMaxX() && bounds.getMinY() <= y && y <= bounds.getMaxY();
+    }
+}
@@ -69,7 +69,8 @@ public abstract class JFreeChartWriter {
 
         @Override
         public void writeChart(@NonNull OutputStream stream, @NonNull JFreeChart chart, int width, int height) throws IOException {
-            try (GZIPOutputStream gzip = new GZIPOutputStream(stream)) {
+            // compressed inline while the document is streamed
+            try (GZIPOutputStream gzip = new GZIPOutputStream(stream, 64 * 1024)) {
                 Charts.writeChartAsSVG(gzip, chart, width, height);
             }
         }
@@ -16,38 +16,83 @@
  */
 package ec.util.chart.swing;
 
+import ec.util.chart.ColorSchemeSupport;
+import ec.util.chart.ObsFunction;
 import ec.util.chart.ObsIndex;
+import ec.util.chart.ObsPredicate;
 import ec.util.chart.SeriesFunction;
+import ec.util.chart.SeriesPredicate;
 import lombok.NonNull;
 import org.jfree.chart.ChartMouseEvent;
 import org.jfree.chart.ChartMouseListener;
 import org.jfree.chart.ChartPanel;
+import org.jfree.chart.ChartRenderingInfo;
 import org.jfree.chart.JFreeChart;
 import org.jfree.chart.axis.Axis;
 import org.jfree.chart.axis.DateAxis;
 import org.jfree.chart.axis.DateTickMarkPosition;
 import org.jfree.chart.axis.NumberAxis;
+import org.jfree.chart.axis.ValueAxis;
 import org.jfree.chart.block.BlockBorder;
 import org.jfree.chart.entity.LegendItemEntity;
+import org.jfree.chart.entity.StandardEntityCollection;
 import org.jfree.chart.entity.XYItemEntity;
+import org.jfree.chart.event.ChartChangeEvent;
+import org.jfree.chart.panel.AbstractOverlay;
+import org.jfree.chart.panel.Overlay;
 import org.jfree.chart.plot.CombinedDomainXYPlot;
+import org.jfree.chart.plot.PlotOrientation;
+import org.jfree.chart.plot.PlotRenderingInfo;
 import org.jfree.chart.plot.XYPlot;
+import org.jfree.chart.renderer.AbstractRenderer;
+import org.jfree.chart.renderer.xy.XYBarRenderer;
+import org.jfree.chart.renderer.xy.XYItemRenderer;
+import org.jfree.chart.renderer.xy.XYLineAndShapeRenderer;
+import org.jfree.chart.title.LegendTitle;
 import org.jfree.data.Range;
+import org.jfree.data.general.DatasetChangeEvent;
+import org.jfree.data.general.DatasetChangeListener;
+import org.jfree.data.xy.IntervalXYDataset;
+import org.jfree.data.xy.XYDataset;
+import org.jfree.ui.RectangleEdge;
 import org.jfree.ui.RectangleInsets;
+import org.jfree.util.ShapeUtilities;
+import org.jspecify.annotations.Nullable;
 
 import javax.swing.*;
 import java.awt.*;
 import java.awt.dnd.DropTarget;
+import java.awt.event.ComponentAdapter;
+import java.awt.event.ComponentEvent;
+import java.awt.event.InputEvent;
 import java.awt.event.KeyAdapter;
 import java.awt.event.KeyEvent;
 import java.awt.event.MouseEvent;
 import java.awt.event.MouseListener;
+import java.awt.event.MouseMotionAdapter;
+import java.awt.event.MouseWheelListener;
+import java.awt.geom.AffineTransform;
+import java.awt.geom.Line2D;
+import java.awt.geom.Point2D;
+import java.awt.geom.Rectangle2D;
+import java.awt.image.BufferedImage;
 import java.beans.Beans;
 import java.io.IOException;
 import java.io.OutputStream;
+import java.lang.ref.WeakReference;
+import java.text.DateFormat;
+import java.text.NumberFormat;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.BitSet;
 import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.IntSupplier;
 
 import static ec.util.chart.TimeSeriesChart.Element.TOOLTIP;
 import static ec.util.chart.TimeSeriesChart.RendererType.*;
@@ -63,11 +108,21 @@ import static org.jfree.chart.ChartPanel.*;
  */
 public final class JTimeSeriesChart extends ATimeSeriesChart {
 
+    // PROPERTIES DEFINITION
+    public static final String DECIMATION_ENABLED_PROPERTY = "decimationEnabled";
+    public static final String ITEM_ENTITIES_ENABLED_PROPERTY = "itemEntitiesEnabled";
+    public static final String LINE_BATCHING_ENABLED_PROPERTY = "lineBatchingEnabled";
+    public static final String ASYNC_RENDERING_ENABLED_PROPERTY = "asyncRenderingEnabled";
+    public static final String MAX_REFRESH_RATE_PROPERTY = "maxRefreshRate";
+    public static final String INTERACTION_QUALITY_DELAY_PROPERTY = "interactionQualityDelay";
+    public static final String COARSE_RENDERING_PROPERTY = "coarseRendering";
+    public static final String HIDDEN_SERIES_PROPERTY = "hiddenSeries";
     // LOCAL PROPERTIES
     private static final String REVEAL_OBS_PROPERTY = "revealObs";
     // CONSTANTS
     private static final RectangleInsets CHART_PADDING = new RectangleInsets(5, 5, 5, 5);
     private static final int NOT_SELECTED_ALPHA = 50;
+    private static final int DEFAULT_MAX_REFRESH_RATE = 30;
     private static final int SELECTED_ALPHA = 255;
     // OTHER
     private final ChartPanel chartPanel;
@@ -77,21 +132,59 @@ public final class JTimeSeriesChart extends ATimeSeriesChart {
     // read-only list of plots
     private final java.util.List<XYPlot> roSubPlots;
     private final SeriesMapFactory seriesMapFactory;
+    // dataset wrapped by the filtered datasets of the subplots
+    private IntervalXYDataset mappedDataset;
+    // null if the chart is only drawn offscreen
+    private final DatasetChangeListener datasetListener;
+    private final RefreshScheduler.Task datasetRefresh;
+    private final RefreshScheduler.Task chartRepaint;
+    // ends the coarse rendering once the input has been idle
+    private final Timer interactionTimer;
+    private final MouseWheelListener interactionWheelListener;
+    private final DerivedColors derivedColors;
+    private final ObsOverlay overlay;
+    // incremented each time the styles of the series may have changed
+    private int styleVersion;
+    // incremented each time the legend items may have changed
+    private int legendVersion;
+    private ObsIndex crosshairObs;
     private boolean revealObs;
+    private boolean decimationEnabled;
+    private boolean itemEntitiesEnabled;
+    private boolean lineBatchingEnabled;
+    private boolean asyncRenderingEnabled;
+    private int maxRefreshRate;
+    private int interactionQualityDelay;
+    private boolean coarseRendering;
+    // replaced on each change and thus shared with the snapshots
+    private BitSet hiddenSeries;
+    // rendering hints restored at the end of the coarse rendering
+    private RenderingHints fullQualityHints;
+    // offscreen rendering, only used if async rendering is enabled
+    private OffscreenChartRenderer offscreen;
+    private JTimeSeriesChart offscreenChart;
+    private IntervalXYDataset snapshotSource;
+    private IntervalXYDataset snapshotDataset;
+    // names of the properties changed in the current batch, null if none
+    private Set<String> batchedProperties;
     // EXPERIMENTAL
     private final SwingFontSupport fontSupport;
 
     public JTimeSeriesChart() {
+        this(false);
+    }
+
+    private JTimeSeriesChart(boolean offscreenOnly) {
         super(Arrays.asList(MARKER, LINE, SPLINE, COLUMN, STACKED_COLUMN, AREA, STACKED_AREA));
-        this.chartPanel = new ChartPanel(
-                createTsChart(),
+        this.chartPanel = new ChartPanelImpl(
+                createTsChart(() -> legendVersion),
                 DEFAULT_WIDTH,
                 DEFAULT_HEIGHT,
                 DEFAULT_MINIMUM_DRAW_WIDTH,
                 DEFAULT_MINIMUM_DRAW_HEIGHT,
                 DEFAULT_MAXIMUM_DRAW_WIDTH,
                 DEFAULT_MAXIMUM_DRAW_HEIGHT,
-                Charts.USE_CHART_PANEL_BUFFER, // useBuffer
+                true, // useBuffer: never XOR, the zoom rectangle is redrawn by each paint of ChartPanelImpl
                 false, // properties
                 false, // save
                 false, // print
@@ -103,7 +196,33 @@ public final class JTimeSeriesChart extends ATimeSeriesChart {
         this.mainPlot = (CombinedDomainXYPlot) chartPanel.getChart().getXYPlot();
         this.roSubPlots = mainPlot.getSubplots();
         this.seriesMapFactory = new SeriesMapFactory();
+        this.mappedDataset = null;
+        this.datasetListener = offscreenOnly ? null : new WeakDatasetListener(this);
+        this.datasetRefresh = RefreshScheduler.getDefault().newTask(this, this::onDatasetContentChange, DEFAULT_MAX_REFRESH_RATE);
+        this.chartRepaint = RefreshScheduler.getDefault().newTask(this, () -> chartPanel.paintImmediately(chartPanel.getVisibleRect()), 0);
+        this.interactionTimer = new Timer(0, event -> setCoarseRendering(false));
+        this.interactionTimer.setRepeats(false);
+        this.interactionWheelListener = event -> onInteraction();
+        this.derivedColors = new DerivedColors();
+        this.overlay = new ObsOverlay();
+        this.styleVersion = 0;
+        this.legendVersion = 0;
+        this.crosshairObs = ObsIndex.NULL;
         this.revealObs = false;
+        this.decimationEnabled = false;
+        this.itemEntitiesEnabled = true;
+        this.lineBatchingEnabled = false;
+        this.asyncRenderingEnabled = false;
+        this.maxRefreshRate = DEFAULT_MAX_REFRESH_RATE;
+        this.interactionQualityDelay = 0;
+        this.coarseRendering = false;
+        this.fullQualityHints = null;
+        this.hiddenSeries = new BitSet();
+        this.offscreen = null;
+        this.offscreenChart = null;
+        this.snapshotSource = null;
+        this.snapshotDataset = null;
+        this.batchedProperties = null;
         this.fontSupport = new SwingFontSupportImpl();
 
         notification.suspend();
@@ -133,14 +252,24 @@ public final class JTimeSeriesChart extends ATimeSeriesChart {
         onTooltipTriggerChange();
         onCrosshairTriggerChange();
         onRevealObsChange();
+        onDecimationEnabledChange();
+        onItemEntitiesEnabledChange();
+        onLineBatchingEnabledChange();
+        onAsyncRenderingEnabledChange();
+        onMaxRefreshRateChange();
+        onInteractionQualityDelayChange();
+        onCoarseRenderingChange();
+        onHiddenSeriesChange();
         onFontSupportChange();
 
         Charts.avoidScaling(chartPanel);
         Charts.enableFocusOnClick(chartPanel);
+        chartPanel.addOverlay(overlay);
 
         enableObsTriggering();
         enableRevealObs();
         enableSelection();
+        enableInteractionQuality();
         enableProperties();
 
         chartPanel.setActionMap(getActionMap());
@@ -160,6 +289,8 @@ public final class JTimeSeriesChart extends ATimeSeriesChart {
 
     //<editor-fold defaultstate="collapsed" desc="Events Handlers">
     private void onColorSchemeSupportChange() {
+        styleVersion++;
+        legendVersion++;
         chartPanel.getChart().getTitle().setPaint(colorSchemeSupport.getTextColor());
         chartPanel.getChart().setBackgroundPaint(colorSchemeSupport.getBackColor());
         onColorSchemeSupportChange(mainPlot.getDomainAxis());
@@ -184,6 +315,8 @@ public final class JTimeSeriesChart extends ATimeSeriesChart {
     }
 
     private void onLineThicknessChange() {
+        styleVersion++;
+        legendVersion++;
         notification.forceRefresh();
     }
 
@@ -204,10 +337,13 @@ public final class JTimeSeriesChart extends ATimeSeriesChart {
     }
 
     private void onSeriesFormatterChange() {
+        legendVersion++;
         notification.forceRefresh();
     }
 
     private void onSeriesColoristChange() {
+        styleVersion++;
+        legendVersion++;
         notification.forceRefresh();
     }
 
@@ -220,10 +356,12 @@ public final class JTimeSeriesChart extends ATimeSeriesChart {
     }
 
     private void onDashPredicateChange() {
+        styleVersion++;
         notification.forceRefresh();
     }
 
     private void onLegendVisibilityPredicateChange() {
+        legendVersion++;
         notification.forceRefresh();
     }
 
@@ -232,16 +370,62 @@ public final class JTimeSeriesChart extends ATimeSeriesChart {
     }
 
     private void onDatasetChange() {
+        // the series of the renderers are mapped again
+        styleVersion++;
+        // a new dataset invalidates every filtered dataset, a new dispatch only the changed ones
+        boolean newDataset = mappedDataset != dataset;
+        if (newDataset && datasetListener != null) {
+            if (mappedDataset != null) {
+                mappedDataset.removeChangeListener(datasetListener);
+            }
+            dataset.addChangeListener(datasetListener);
+        }
+        mappedDataset = dataset;
         seriesMapFactory.update(dataset.getSeriesCount(), seriesRenderer, plotDispatcher);
-        roSubPlots.forEach(this::onDatasetChange);
+        for (XYPlot plot : roSubPlots) {
+            onDatasetChange(plot, newDataset);
+        }
+    }
+
+    private void onDatasetChange(XYPlot plot) {
+        onDatasetChange(plot, true);
+    }
+
+    private void onDatasetContentChange() {
+        notification.suspend();
+        if (seriesMapFactory.getSeriesCount() != dataset.getSeriesCount()) {
+            onDatasetChange();
+        }
+        // the filtered datasets don't forward the events of the original
+        for (XYPlot plot : roSubPlots) {
+            for (int i = 0; i < plot.getDatasetCount(); i++) {
+                XYDataset data = plot.getDataset(i);
+                if (data instanceof FilteredXYDataset && data.getSeriesCount() > 0) {
+                    ((FilteredXYDataset) data).fireChanged();
+                }
+            }
+        }
+        snapshotSource = null;
+        notification.resume();
+        overlay.refresh();
     }
 
-    private void onDatasetChange(final XYPlot plot) {
+    private void onDatasetChange(XYPlot plot, boolean all) {
+        legendVersion++;
         int plotIndex = roSubPlots.indexOf(plot);
         int rendererIndex = 0;
         for (RendererType o : supportedRendererTypes) {
             int[] map = seriesMapFactory.getSeriesMap(o, plotIndex);
-            plot.setDataset(rendererIndex++, new FilteredXYDataset(dataset, map));
+            if (plot.getRenderer(rendererIndex) == null) {
+                // slots are created on demand and then kept
+                if (map.length > 0) {
+                    plot.setRenderer(rendererIndex, createRenderer(plot, rendererIndex), false);
+                    plot.setDataset(rendererIndex, new FilteredXYDataset(dataset, map));
+                }
+            } else if (all || seriesMapFactory.isChanged(o, plotIndex)) {
+                plot.setDataset(rendererIndex, new FilteredXYDataset(dataset, map));
+            }
+            rendererIndex++;
         }
     }
 
@@ -280,6 +464,7 @@ public final class JTimeSeriesChart extends ATimeSeriesChart {
                     break;
             }
         }
+        overlay.refresh();
     }
 
     private void onElementVisibleChange(XYPlot plot) {
@@ -287,10 +472,11 @@ public final class JTimeSeriesChart extends ATimeSeriesChart {
     }
 
     private void onCrosshairOrientationChange() {
-        notification.forceRefresh();
+        overlay.refresh();
     }
 
     private void onFontSupportChange() {
+        legendVersion++;
         chartPanel.getChart().getTitle().setFont(fontSupport.getTitleFont());
         onFontSupportChange(mainPlot.getDomainAxis());
         roSubPlots.forEach(this::onFontSupportChange);
@@ -307,57 +493,110 @@ public final class JTimeSeriesChart extends ATimeSeriesChart {
 
     private void onHoveredObsChange() {
         if (crosshairTrigger != DisplayTrigger.SELECTION) {
-            onCrosshairValueChange(hoveredObs);
+            crosshairObs = hoveredObs;
         }
-        notification.forceRefresh();
+        if (!isHoverHighlightInOverlay()) {
+            notification.forceRefresh();
+        }
+        overlay.refresh();
     }
 
     private void onSelectedObsChange() {
         if (crosshairTrigger != DisplayTrigger.HOVERING) {
-            onCrosshairValueChange(selectedObs);
+            crosshairObs = selectedObs;
         }
+        overlay.refresh();
+    }
+
+    private void onObsHighlighterChange() {
         notification.forceRefresh();
     }
 
-    private void onCrosshairValueChange(ObsIndex value) {
-        if (isElementVisible(Element.CROSSHAIR) && existPredicate.apply(value)) {
-            double x = dataset.getXValue(value.getSeries(), value.getObs());
-            double y = dataset.getYValue(value.getSeries(), value.getObs());
-            int index = plotDispatcher.apply(value.getSeries());
-            for (XYPlot subPlot : roSubPlots) {
-                subPlot.setDomainCrosshairValue(x);
-                subPlot.setDomainCrosshairVisible(crosshairOrientation != CrosshairOrientation.HORIZONTAL);
-                if (roSubPlots.indexOf(subPlot) == index && crosshairOrientation != CrosshairOrientation.VERTICAL) {
-                    subPlot.setRangeCrosshairValue(y);
-                    subPlot.setRangeCrosshairVisible(true);
-                } else {
-                    subPlot.setRangeCrosshairVisible(false);
-                }
-            }
-        } else {
-            for (XYPlot subPlot : roSubPlots) {
-                subPlot.setRangeCrosshairVisible(false);
-                subPlot.setDomainCrosshairVisible(false);
-            }
-        }
+    private void onTooltipTriggerChange() {
+        overlay.refresh();
     }
 
-    private void onObsHighlighterChange() {
+    private void onCrosshairTriggerChange() {
+        overlay.refresh();
+    }
+
+    private void onRevealObsChange() {
         notification.forceRefresh();
     }
 
-    private void onTooltipTriggerChange() {
+    private void onDecimationEnabledChange() {
         notification.forceRefresh();
     }
 
-    private void onCrosshairTriggerChange() {
+    private void onItemEntitiesEnabledChange() {
+        chartPanel.getChartRenderingInfo().setEntityCollection(itemEntitiesEnabled ? new StandardEntityCollection() : new ObsHitResolver.ItemlessEntityCollection());
+        roSubPlots.forEach(this::onItemEntitiesEnabledChange);
         notification.forceRefresh();
     }
 
-    private void onRevealObsChange() {
+    private void onLineBatchingEnabledChange() {
+        notification.forceRefresh();
+    }
+
+    private void onAsyncRenderingEnabledChange() {
+        if (asyncRenderingEnabled) {
+            if (offscreen == null) {
+                offscreenChart = newOffscreenChart();
+                offscreen = new OffscreenChartRenderer(chartPanel);
+            }
+        } else if (offscreen != null) {
+            offscreen.dispose();
+            offscreen = null;
+            offscreenChart = null;
+            snapshotSource = null;
+            snapshotDataset = null;
+        }
+        notification.forceRefresh();
+    }
+
+    private void onMaxRefreshRateChange() {
+        datasetRefresh.setMaxRate(maxRefreshRate);
+    }
+
+    private void onInteractionQualityDelayChange() {
+        interactionTimer.setInitialDelay(Math.max(0, interactionQualityDelay));
+        if (interactionQualityDelay <= 0 && coarseRendering) {
+            interactionTimer.stop();
+            setCoarseRendering(false);
+        }
+    }
+
+    private void onCoarseRenderingChange() {
+        RenderingHints hints = chartPanel.getChart().getRenderingHints();
+        if (coarseRendering) {
+            fullQualityHints = (RenderingHints) hints.clone();
+            hints.put(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_OFF);
+            hints.put(RenderingHints.KEY_TEXT_ANTIALIASING, RenderingHints.VALUE_TEXT_ANTIALIAS_OFF);
+        } else if (fullQualityHints != null) {
+            hints.clear();
+            hints.putAll(fullQualityHints);
+            fullQualityHints = null;
+        }
+        overlay.refresh();
         notification.forceRefresh();
     }
 
+    private void onHiddenSeriesChange() {
+        legendVersion++;
+        // the renderers read the mask directly, only the auto-range must be updated
+        roSubPlots.forEach(XYPlot::configureRangeAxes);
+        notification.forceRefresh();
+    }
+
+    private void onItemEntitiesEnabledChange(XYPlot plot) {
+        for (int i = 0; i < plot.getRendererCount(); i++) {
+            XYItemRenderer renderer = plot.getRenderer(i);
+            if (renderer instanceof AbstractRenderer) {
+                ((AbstractRenderer) renderer).setBaseCreateEntities(itemEntitiesEnabled, false);
+            }
+        }
+    }
+
     private void onComponentPopupMenuChange() {
         chartPanel.setPopupMenu(getComponentPopupMenu());
     }
@@ -402,9 +641,34 @@ public final class JTimeSeriesChart extends ATimeSeriesChart {
     //</editor-fold>
 
     //<editor-fold defaultstate="collapsed" desc="TimeSeriesChart Implementation">
+    @Override
+    public void batch(@NonNull Runnable changes) {
+        if (batchedProperties != null) {
+            changes.run();
+            return;
+        }
+        batchedProperties = new LinkedHashSet<>();
+        notification.suspend();
+        try {
+            changes.run();
+        } finally {
+            Set<String> properties = batchedProperties;
+            batchedProperties = null;
+            // renderer, dispatcher and dataset share the same rebuild that must precede the others
+            if (properties.remove(SERIES_RENDERER_PROPERTY) | properties.remove(PLOT_DISPATCHER_PROPERTY) | properties.remove(DATASET_PROPERTY)) {
+                onDatasetChange();
+            }
+            properties.forEach(this::onPropertyChange);
+            notification.resume();
+        }
+    }
+
     @Override
     public void copyImage() {
-        Charts.copyChart(chartPanel);
+        // the chart is configured here on the EDT but only drawn on paste
+        JTimeSeriesChart copy = newOffscreenChart();
+        new Snapshot(this, getSnapshotDataset()).applyTo(copy);
+        Charts.copyChart(chartPanel, copy.getJFreeChart());
     }
 
     @Override
@@ -430,6 +694,11 @@ public final class JTimeSeriesChart extends ATimeSeriesChart {
 
     public void setMouseWheelEnabled(boolean flag) {
         chartPanel.setMouseWheelEnabled(flag);
+        // a wheel listener would otherwise keep the events from scrolling the parents
+        chartPanel.removeMouseWheelListener(interactionWheelListener);
+        if (flag) {
+            chartPanel.addMouseWheelListener(interactionWheelListener);
+        }
     }
 
     public void resetZoom() {
@@ -481,6 +750,254 @@ public final class JTimeSeriesChart extends ATimeSeriesChart {
         return seriesSelectionModel;
     }
 
+    /**
+     * Checks if the items that cannot be distinguished at the current pixel
+     * resolution are skipped while painting line, spline and area series.
+     *
+     * @return true if decimation is enabled, false otherwise
+     * @since 2.7.1
+     */
+    public boolean isDecimationEnabled() {
+        return decimationEnabled;
+    }
+
+    /**
+     * Enables or disables the pixel-aware decimation of line, spline and area
+     * series. When enabled, only the first, last, lowest and highest items of
+     * each pixel column are drawn so that the paint time scales with the width
+     * of the chart rather than with the length of the series. Very long sorted
+     * series are decimated from a level-of-detail pyramid built in background,
+     * which keeps zooming interactive. Observation indexes are preserved.
+     *
+     * @param decimationEnabled true to enable decimation
+     * @since 2.7.1
+     */
+    public void setDecimationEnabled(boolean decimationEnabled) {
+        boolean old = this.decimationEnabled;
+        this.decimationEnabled = decimationEnabled;
+        firePropertyChange(DECIMATION_ENABLED_PROPERTY, old, this.decimationEnabled);
+    }
+
+    /**
+     * Checks if the renderers create an entity for each painted item.
+     *
+     * @return true if item entities are created, false otherwise
+     * @since 2.7.1
+     */
+    public boolean isItemEntitiesEnabled() {
+        return itemEntitiesEnabled;
+    }
+
+    /**
+     * Enables or disables the creation of an entity for each painted item.
+     * When disabled, painting no longer allocates and stores one entity per
+     * observation; the hovered and selected observations are then resolved
+     * analytically by inverse-mapping the mouse location through the axes and
+     * bisecting the x values of the series. Legend entities are kept.
+     *
+     * @param itemEntitiesEnabled true to create item entities
+     * @since 2.7.1
+     */
+    public void setItemEntitiesEnabled(boolean itemEntitiesEnabled) {
+        boolean old = this.itemEntitiesEnabled;
+        this.itemEntitiesEnabled = itemEntitiesEnabled;
+        firePropertyChange(ITEM_ENTITIES_ENABLED_PROPERTY, old, this.itemEntitiesEnabled);
+    }
+
+    /**
+     * Checks if the segments of line series are drawn in batches.
+     *
+     * @return true if line batching is enabled, false otherwise
+     * @since 2.7.1
+     */
+    public boolean isLineBatchingEnabled() {
+        return lineBatchingEnabled;
+    }
+
+    /**
+     * Enables or disables the batching of line series. When enabled, the
+     * consecutive segments of a series that share the same stroke and paint
+     * are accumulated into a single path and drawn at once; a change of dash
+     * or colour, such as the one produced by the dash predicate, starts a new
+     * batch. Dash patterns then flow continuously along each batch.
+     *
+     * @param lineBatchingEnabled true to enable line batching
+     * @since 2.7.1
+     */
+    public void setLineBatchingEnabled(boolean lineBatchingEnabled) {
+        boolean old = this.lineBatchingEnabled;
+        this.lineBatchingEnabled = lineBatchingEnabled;
+        firePropertyChange(LINE_BATCHING_ENABLED_PROPERTY, old, this.lineBatchingEnabled);
+    }
+
+    /**
+     * Checks if the chart is drawn on a background thread.
+     *
+     * @return true if async rendering is enabled, false otherwise
+     * @since 2.7.1
+     */
+    public boolean isAsyncRenderingEnabled() {
+        return asyncRenderingEnabled;
+    }
+
+    /**
+     * Enables or disables the async rendering of the chart. When enabled, the
+     * chart is drawn into an offscreen image on a worker thread from a
+     * snapshot of the dataset and of the properties, so that a heavy dataset
+     * does not freeze the UI during a resize or a zoom. The previous image is
+     * displayed, scaled if needed, until the new one is ready and frames that
+     * are outdated by a newer request are dropped. The snapshot is applied on
+     * the EDT to a hidden chart that the worker only draws. The crosshair and
+     * the tooltips are still painted on the EDT.
+     * <p>
+     * The functions and predicates of the chart are called from the worker
+     * thread in this mode and must therefore be thread-safe.
+     *
+     * @param asyncRenderingEnabled true to enable async rendering
+     * @since 2.7.1
+     */
+    public void setAsyncRenderingEnabled(boolean asyncRenderingEnabled) {
+        boolean old = this.asyncRenderingEnabled;
+        this.asyncRenderingEnabled = asyncRenderingEnabled;
+        firePropertyChange(ASYNC_RENDERING_ENABLED_PROPERTY, old, this.asyncRenderingEnabled);
+    }
+
+    /**
+     * Gets the maximum number of times per second that the chart is refreshed
+     * when the content of its dataset changes.
+     *
+     * @return a number of refreshes per second, zero or less if unlimited
+     * @since 2.7.1
+     */
+    public int getMaxRefreshRate() {
+        return maxRefreshRate;
+    }
+
+    /**
+     * Sets the maximum number of times per second that the chart is refreshed
+     * when the content of its dataset changes. The change events received in
+     * the meantime are coalesced into a single refresh, which keeps live
+     * feeds such as {@link StreamingXYDataset} from flooding the EDT. Setting
+     * a new dataset is not throttled.
+     * <p>
+     * Like the repaints that follow a change of the chart, these refreshes are
+     * deferred while the chart is out of view and share a time budget per
+     * frame with the other charts.
+     *
+     * @param maxRefreshRate a number of refreshes per second, zero or less
+     * for no limit
+     * @since 2.7.1
+     */
+    public void setMaxRefreshRate(int maxRefreshRate) {
+        int old = this.maxRefreshRate;
+        this.maxRefreshRate = maxRefreshRate;
+        firePropertyChange(MAX_REFRESH_RATE_PROPERTY, old, this.maxRefreshRate);
+    }
+
+    /**
+     * Gets the delay after which a chart that is drawn coarsely during an
+     * interaction is drawn again at full quality.
+     *
+     * @return a delay in milliseconds, zero or less if disabled
+     * @since 2.7.1
+     */
+    public int getInteractionQualityDelay() {
+        return interactionQualityDelay;
+    }
+
+    /**
+     * Sets the interaction-quality policy of the chart. When enabled, the
+     * frames drawn while the user drags, zooms with the mouse wheel or
+     * resizes the chart are coarse: antialiasing is off, line, spline and
+     * area series are decimated and no tooltip is painted. A full-quality
+     * frame follows once the input has been idle for the given delay.
+     * <p>
+     * The two phases are reported by the {@link #COARSE_RENDERING_PROPERTY}
+     * property so that the time spent in each of them can be measured.
+     * Charts drawn asynchronously keep their full quality.
+     *
+     * @param interactionQualityDelay a delay in milliseconds, zero or less to
+     * always draw at full quality
+     * @since 2.7.1
+     */
+    public void setInteractionQualityDelay(int interactionQualityDelay) {
+        int old = this.interactionQualityDelay;
+        this.interactionQualityDelay = interactionQualityDelay;
+        firePropertyChange(INTERACTION_QUALITY_DELAY_PROPERTY, old, this.interactionQualityDelay);
+    }
+
+    /**
+     * Checks if the chart is currently drawn coarsely because of an
+     * interaction.
+     *
+     * @return true during an interaction, false otherwise
+     * @see #setInteractionQualityDelay(int)
+     * @since 2.7.1
+     */
+    public boolean isCoarseRendering() {
+        return coarseRendering;
+    }
+
+    private void setCoarseRendering(boolean coarseRendering) {
+        boolean old = this.coarseRendering;
+        this.coarseRendering = coarseRendering;
+        firePropertyChange(COARSE_RENDERING_PROPERTY, old, this.coarseRendering);
+    }
+
+    /**
+     * Checks if a series is drawn.
+     *
+     * @param series the series index in the dataset
+     * @return true if the series is visible, false otherwise
+     * @since 2.7.1
+     */
+    public boolean isSeriesVisible(int series) {
+        return !hiddenSeries.get(series);
+    }
+
+    /**
+     * Shows or hides a series. Hidden series are not drawn, neither in the
+     * plot nor in the legend, and are excluded from the auto-range of the
+     * value axes and from the stacks. The dataset and the dispatch of the
+     * series are left untouched so that toggling a series only costs a
+     * repaint, whatever the number of series.
+     *
+     * @param series the series index in the dataset
+     * @param visible true to show the series, false to hide it
+     * @since 2.7.1
+     */
+    public void setSeriesVisible(int series, boolean visible) {
+        if (hiddenSeries.get(series) == visible) {
+            BitSet result = (BitSet) hiddenSeries.clone();
+            result.set(series, !visible);
+            setHiddenSeries(result);
+        }
+    }
+
+    /**
+     * Gets the mask of the hidden series.
+     *
+     * @return a non-null copy of the mask, indexed like the dataset
+     * @since 2.7.1
+     */
+    @NonNull
+    public BitSet getHiddenSeries() {
+        return (BitSet) hiddenSeries.clone();
+    }
+
+    /**
+     * Sets the mask of the hidden series.
+     *
+     * @param hiddenSeries a non-null mask, indexed like the dataset
+     * @see #setSeriesVisible(int, boolean)
+     * @since 2.7.1
+     */
+    public void setHiddenSeries(@NonNull BitSet hiddenSeries) {
+        BitSet old = this.hiddenSeries;
+        this.hiddenSeries = (BitSet) hiddenSeries.clone();
+        firePropertyChange(HIDDEN_SERIES_PROPERTY, old, this.hiddenSeries);
+    }
+
     private void setRevealObs(boolean revealObs) {
         boolean old = this.revealObs;
         this.revealObs = revealObs;
@@ -501,11 +1018,8 @@ public final class JTimeSeriesChart extends ATimeSeriesChart {
         for (int i = 0; i < size; i++) {
             XYPlot plot = new XYPlot();
 
-            for (int rendererIndex = 0; rendererIndex < supportedRendererTypes.size(); rendererIndex++) {
-                SeriesIndexResolver resolver = SeriesIndexResolver.create(plot, rendererIndex);
-                JTimeSeriesRendererSupport support = new RendererSupport(resolver);
-                plot.setRenderer(rendererIndex, support.createRenderer(supportedRendererTypes.get(rendererIndex)));
-            }
+            // the plot draws its gridlines through its first renderer; the others are created on demand
+            plot.setRenderer(0, createRenderer(plot, 0), false);
 
             NumberAxis rangeAxis = new NumberAxis();
             rangeAxis.setAutoRangeIncludesZero(false);
@@ -522,7 +1036,18 @@ public final class JTimeSeriesChart extends ATimeSeriesChart {
             onNoDataMessageChange(plot);
             onElementVisibleChange(plot);
             onFontSupportChange(plot);
+            onItemEntitiesEnabledChange(plot);
+        }
+    }
+
+    private XYItemRenderer createRenderer(XYPlot plot, int rendererIndex) {
+        SeriesIndexResolver resolver = SeriesIndexResolver.create(plot, rendererIndex);
+        JTimeSeriesRendererSupport support = new RendererSupport(resolver);
+        XYItemRenderer result = support.createRenderer(supportedRendererTypes.get(rendererIndex));
+        if (result instanceof AbstractRenderer) {
+            ((AbstractRenderer) result).setBaseCreateEntities(itemEntitiesEnabled, false);
         }
+        return result;
     }
 
     private void shrinkSubPlots(int size) {
@@ -532,7 +1057,7 @@ public final class JTimeSeriesChart extends ATimeSeriesChart {
     }
     //</editor-fold>
 
-    private static JFreeChart createTsChart() {
+    private static JFreeChart createTsChart(IntSupplier legendVersion) {
         CombinedDomainXYPlot plot = new CombinedDomainXYPlot();
 
         plot.setAxisOffset(RectangleInsets.ZERO_INSETS);
@@ -544,10 +1069,16 @@ public final class JTimeSeriesChart extends ATimeSeriesChart {
         domainAxis.setUpperMargin(0.02);
         plot.setDomainAxis(domainAxis);
 
-        JFreeChart result = new JFreeChart("", null, plot, true);
+        JFreeChart result = new JFreeChart("", null, plot, false);
         result.setPadding(CHART_PADDING);
-        result.getLegend().setFrame(BlockBorder.NONE);
-        result.getLegend().setBackgroundPaint(null);
+
+        // same as the default legend of JFreeChart but cached and virtualized
+        LegendTitle legend = new CachedLegendTitle(plot, legendVersion);
+        legend.setMargin(new RectangleInsets(1, 1, 1, 1));
+        legend.setFrame(BlockBorder.NONE);
+        legend.setBackgroundPaint(null);
+        legend.setPosition(RectangleEdge.BOTTOM);
+        result.addLegend(legend);
 
         return result;
     }
@@ -555,26 +1086,62 @@ public final class JTimeSeriesChart extends ATimeSeriesChart {
     private final class RendererSupport extends JTimeSeriesRendererSupport {
 
         private final SeriesIndexResolver r;
+        // style table, rebuilt when styleVersion changes
+        private int version;
+        private int[] realIndexes;
+        private int[] selections;
+        private Color[] seriesColors;
+        private Stroke[] seriesStrokes;
 
         public RendererSupport(SeriesIndexResolver r) {
             this.r = r;
+            this.version = -1;
+        }
+
+        private void checkStyles() {
+            if (version != styleVersion) {
+                updateStyles();
+            }
+        }
+
+        private void updateStyles() {
+            int seriesCount = r.getSeriesCount();
+            this.realIndexes = new int[seriesCount];
+            this.selections = new int[seriesCount];
+            this.seriesColors = new Color[seriesCount];
+            this.seriesStrokes = new Stroke[seriesCount];
+            boolean selectionEmpty = seriesSelectionModel.isSelectionEmpty();
+            for (int series = 0; series < seriesCount; series++) {
+                int index = r.realIndexOf(series);
+                realIndexes[series] = index;
+                selections[series] = selectionEmpty ? DerivedColors.NO_SELECTION : seriesSelectionModel.isSelectedIndex(index) ? DerivedColors.SELECTED : DerivedColors.NOT_SELECTED;
+                Color color = seriesColorist.apply(index);
+                seriesColors[series] = derivedColors.get(color != null ? color : Color.BLACK, false, selections[series]);
+                seriesStrokes[series] = lineStrokes.getStroke(selections[series] == DerivedColors.SELECTED, false);
+            }
+            this.version = styleVersion;
+        }
+
+        private int realIndexOf(int series) {
+            checkStyles();
+            return realIndexes[series];
         }
 
         @Override
         public String getSeriesLabel(int series) {
-            int index = r.realIndexOf(series);
+            int index = realIndexOf(series);
             String result = seriesFormatter.apply(index);
             return result != null ? result : String.valueOf(index);
         }
 
         @Override
         public String getObsLabel(int series, int item) {
-            return obsFormatter.apply(r.realIndexOf(series), item);
+            return obsFormatter.apply(realIndexOf(series), item);
         }
 
         @Override
         public boolean isSeriesLabelVisible(int series) {
-            return legendVisibilityPredicate.apply(r.realIndexOf(series));
+            return legendVisibilityPredicate.apply(realIndexOf(series));
         }
 
         @Override
@@ -582,23 +1149,18 @@ public final class JTimeSeriesChart extends ATimeSeriesChart {
             return colorSchemeSupport.getPlotColor();
         }
 
-        private Color applySelection(int index, Color color) {
-            return seriesSelectionModel.isSelectionEmpty() ? color : seriesSelectionModel.isSelectedIndex(index) ? withAlpha(color, SELECTED_ALPHA) : withAlpha(color, NOT_SELECTED_ALPHA);
-        }
-
         @Override
         public Color getSeriesColor(int series) {
-            int index = r.realIndexOf(series);
-            Color color = seriesColorist.apply(index);
-            return applySelection(index, color != null ? color : Color.BLACK);
+            checkStyles();
+            return seriesColors[series];
         }
 
         @Override
         public Color getObsColor(int series, int item) {
-            int index = r.realIndexOf(series);
+            int index = realIndexOf(series);
             Color color = obsColorist.apply(index, item);
             boolean dash = dashPredicate.apply(index, item);
-            return applySelection(index, dash && color != null ? color.darker() : color);
+            return derivedColors.get(color, dash, selections[series]);
         }
 
         @Override
@@ -608,37 +1170,52 @@ public final class JTimeSeriesChart extends ATimeSeriesChart {
 
         @Override
         public Stroke getSeriesStroke(int series) {
-            int index = r.realIndexOf(series);
-            boolean strong = !seriesSelectionModel.isSelectionEmpty() && seriesSelectionModel.isSelectedIndex(index);
-            return lineStrokes.getStroke(strong, false);
+            checkStyles();
+            return seriesStrokes[series];
         }
 
         @Override
         public Stroke getObsStroke(int series, int item) {
-            int index = r.realIndexOf(series);
-            boolean strong = !seriesSelectionModel.isSelectionEmpty() && seriesSelectionModel.isSelectedIndex(index);
+            int index = realIndexOf(series);
             boolean dash = dashPredicate.apply(index, item);
-            return lineStrokes.getStroke(strong, dash);
+            return lineStrokes.getStroke(selections[series] == DerivedColors.SELECTED, dash);
         }
 
         @Override
         public Font getSeriesLabelFont(int series) {
-            return fontSupport.getSeriesFont(r.realIndexOf(series));
+            return fontSupport.getSeriesFont(realIndexOf(series));
         }
 
         @Override
         public Font getObsLabelFont(int series, int item) {
-            return fontSupport.getSeriesFont(r.realIndexOf(series));
+            return fontSupport.getSeriesFont(realIndexOf(series));
         }
 
         @Override
         public boolean isObsHighlighted(int series, int item) {
-            return (revealObs || dataset.getItemCount(series) == 1) ^ obsHighlighter.apply(r.realIndexOf(series), item);
+            boolean highlighted = !isHoverHighlightInOverlay() && obsHighlighter.apply(realIndexOf(series), item);
+            return (revealObs || dataset.getItemCount(series) == 1) ^ highlighted;
         }
 
         @Override
         public boolean isObsLabelVisible(int series, int item) {
-            return isElementVisible(TOOLTIP) && isRequested(r.realIndexOf(series), item);
+            // tooltips are painted by the overlay
+            return false;
+        }
+
+        @Override
+        public boolean isSeriesVisible(int series) {
+            return !hiddenSeries.get(realIndexOf(series));
+        }
+
+        @Override
+        public boolean isDecimationEnabled() {
+            return decimationEnabled || coarseRendering;
+        }
+
+        @Override
+        public boolean isLineBatchingEnabled() {
+            return lineBatchingEnabled;
         }
     }
 
@@ -646,47 +1223,183 @@ public final class JTimeSeriesChart extends ATimeSeriesChart {
 
         abstract public int realIndexOf(int series);
 
+        abstract public int getSeriesCount();
+
         static SeriesIndexResolver create(final XYPlot plot, final int rendererIndex) {
             return new SeriesIndexResolver() {
                 @Override
                 public int realIndexOf(int series) {
                     return ((FilteredXYDataset) plot.getDataset(rendererIndex)).originalIndexOf(series);
                 }
+
+                @Override
+                public int getSeriesCount() {
+                    return plot.getDataset(rendererIndex).getSeriesCount();
+                }
             };
         }
     }
 
+    /**
+     * Cache of the darker and translucent variants of the colors used by the
+     * renderers, so that resolving the color of an item does not allocate.
+     */
+    private static final class DerivedColors {
+
+        static final int NO_SELECTION = 0;
+        static final int SELECTED = 1;
+        static final int NOT_SELECTED = 2;
+
+        private static final int MAX_SIZE = 1024;
+
+        private final Map<Color, Color[]> variants = new HashMap<>();
+
+        @Nullable
+        Color get(@Nullable Color color, boolean dark, int selection) {
+            if (color == null || (!dark && selection == NO_SELECTION)) {
+                return color;
+            }
+            Color[] result = variants.get(color);
+            if (result == null) {
+                if (variants.size() >= MAX_SIZE) {
+                    variants.clear();
+                }
+                result = new Color[6];
+                variants.put(color, result);
+            }
+            int slot = (dark ? 3 : 0) + selection;
+            if (result[slot] == null) {
+                result[slot] = derive(color, dark, selection);
+            }
+            return result[slot];
+        }
+
+        private static Color derive(Color color, boolean dark, int selection) {
+            Color result = dark ? color.darker() : color;
+            switch (selection) {
+                case SELECTED:
+                    return withAlpha(result, SELECTED_ALPHA);
+                case NOT_SELECTED:
+                    return withAlpha(result, NOT_SELECTED_ALPHA);
+                default:
+                    return result;
+            }
+        }
+    }
+
+    /**
+     * Dispatches the series into maps indexed by renderer type and plot. All
+     * the maps are built together in a single bucketing pass and compared
+     * with the previous ones so that only the changed maps are applied.
+     */
     private static final class SeriesMapFactory {
 
-        private int seriesCount;
+        private static final int[] EMPTY = new int[0];
+        private static final int TYPE_COUNT = RendererType.values().length;
+
         private RendererType[] renderers;
         private int[] plotIndexes;
+        // maps by bucket (plotIndex * TYPE_COUNT + type)
+        private int[][] maps;
+        private boolean[] changes;
 
         public SeriesMapFactory() {
-            this.seriesCount = 0;
+            this.renderers = new RendererType[0];
+            this.plotIndexes = new int[0];
+            this.maps = new int[0][];
+            this.changes = new boolean[0];
         }
 
         void update(int seriesCount, SeriesFunction<RendererType> seriesRenderer, SeriesFunction<Integer> plotDispatcher) {
-            this.seriesCount = seriesCount;
             this.renderers = new RendererType[seriesCount];
             this.plotIndexes = new int[seriesCount];
+            int plotCount = 0;
             for (int series = 0; series < seriesCount; series++) {
                 RendererType rendererType = seriesRenderer.apply(series);
                 this.renderers[series] = rendererType != null ? rendererType : RendererType.LINE;
                 Integer plotIndex = plotDispatcher.apply(series);
                 this.plotIndexes[series] = plotIndex != null ? plotIndex : 0;
+                plotCount = Math.max(plotCount, plotIndexes[series] + 1);
             }
-        }
 
-        int[] getSeriesMap(RendererType r, int plotIndex) {
-            int size = 0;
-            int[] result = new int[seriesCount];
+            int[] sizes = new int[plotCount * TYPE_COUNT];
             for (int series = 0; series < seriesCount; series++) {
-                if (renderers[series] == r && plotIndexes[series] == plotIndex) {
-                    result[size++] = series;
+                if (plotIndexes[series] >= 0) {
+                    sizes[getBucket(renderers[series], plotIndexes[series])]++;
                 }
             }
-            return Arrays.copyOf(result, size);
+            int[][] result = new int[sizes.length][];
+            for (int bucket = 0; bucket < sizes.length; bucket++) {
+                result[bucket] = sizes[bucket] == 0 ? EMPTY : new int[sizes[bucket]];
+                sizes[bucket] = 0;
+            }
+            for (int series = 0; series < seriesCount; series++) {
+                if (plotIndexes[series] >= 0) {
+                    int bucket = getBucket(renderers[series], plotIndexes[series]);
+                    result[bucket][sizes[bucket]++] = series;
+                }
+            }
+
+            this.changes = new boolean[Math.max(maps.length, result.length)];
+            for (int bucket = 0; bucket < changes.length; bucket++) {
+                changes[bucket] = !Arrays.equals(getMap(maps, bucket), getMap(result, bucket));
+            }
+            this.maps = result;
+        }
+
+        int getSeriesCount() {
+            return renderers.length;
+        }
+
+        RendererType getRendererType(int series) {
+            return renderers[series];
+        }
+
+        int getPlotIndex(int series) {
+            return plotIndexes[series];
+        }
+
+        int[] getSeriesMap(RendererType r, int plotIndex) {
+            return plotIndex >= 0 ? getMap(maps, getBucket(r, plotIndex)) : EMPTY;
+        }
+
+        /**
+         * Checks if a map has changed during the last update.
+         */
+        boolean isChanged(RendererType r, int plotIndex) {
+            int bucket = getBucket(r, plotIndex);
+            return plotIndex >= 0 && bucket < changes.length && changes[bucket];
+        }
+
+        private static int getBucket(RendererType r, int plotIndex) {
+            return plotIndex * TYPE_COUNT + r.ordinal();
+        }
+
+        private static int[] getMap(int[][] maps, int bucket) {
+            return bucket < maps.length ? maps[bucket] : EMPTY;
+        }
+    }
+
+    /**
+     * Forwards the change events of a dataset to a chart without preventing
+     * the chart from being garbage collected.
+     */
+    private static final class WeakDatasetListener implements DatasetChangeListener {
+
+        private final WeakReference<JTimeSeriesChart> chart;
+
+        WeakDatasetListener(JTimeSeriesChart chart) {
+            this.chart = new WeakReference<>(chart);
+        }
+
+        @Override
+        public void datasetChanged(DatasetChangeEvent event) {
+            JTimeSeriesChart target = chart.get();
+            if (target != null) {
+                target.datasetRefresh.request();
+            } else {
+                event.getDataset().removeChangeListener(this);
+            }
         }
     }
 
@@ -720,18 +1433,573 @@ public final class JTimeSeriesChart extends ATimeSeriesChart {
         }
     }
 
-    private boolean isRequested(int series, int item) {
-        switch (tooltipTrigger) {
-            case HOVERING:
-                return hoveredObs.equals(series, item);
-            case SELECTION:
-                return selectedObs.equals(series, item);
-            case BOTH:
-                return hoveredObs.equals(series, item) || selectedObs.equals(series, item);
+    /**
+     * Checks if the default highlighter, which follows the hovered observation,
+     * is painted by the overlay instead of the renderers. Revealing the
+     * observations inverts the highlight and thus needs the renderers.
+     */
+    private boolean isHoverHighlightInOverlay() {
+        return obsHighlighter == defaultObsHighlighter && !revealObs;
+    }
+
+    /**
+     * Layer painted over the cached chart image that holds the elements that
+     * depend on the hovered and selected observations: the crosshair, the
+     * tooltips and the default hovered highlight. Changing these observations
+     * only repaints this layer.
+     */
+    private final class ObsOverlay extends AbstractOverlay implements Overlay {
+
+        void refresh() {
+            fireOverlayChanged();
+        }
+
+        @Override
+        public void paintOverlay(Graphics2D g2, ChartPanel chartPanel) {
+            PlotRenderingInfo plotInfo = chartPanel.getChartRenderingInfo().getPlotInfo();
+            if (plotInfo.getSubplotCount() != roSubPlots.size()) {
+                return; // not painted yet
+            }
+            Graphics2D g = (Graphics2D) g2.create();
+            try {
+                Insets insets = chartPanel.getInsets();
+                g.translate(insets.left, insets.top);
+                g.scale(chartPanel.getScaleX(), chartPanel.getScaleY());
+                g.addRenderingHints(chartPanel.getChart().getRenderingHints());
+                paintCrosshair(g, plotInfo);
+                paintObs(g, plotInfo);
+            } finally {
+                g.dispose();
+            }
+        }
+
+        private void paintCrosshair(Graphics2D g2, PlotRenderingInfo plotInfo) {
+            ObsIndex value = crosshairObs;
+            if (!isElementVisible(Element.CROSSHAIR) || !existPredicate.apply(value)) {
+                return;
+            }
+            double x = dataset.getXValue(value.getSeries(), value.getObs());
+            double y = dataset.getYValue(value.getSeries(), value.getObs());
+            int index = plotDispatcher.apply(value.getSeries());
+            for (int i = 0; i < roSubPlots.size(); i++) {
+                XYPlot subPlot = roSubPlots.get(i);
+                Rectangle2D dataArea = plotInfo.getSubplotInfo(i).getDataArea();
+                if (crosshairOrientation != CrosshairOrientation.HORIZONTAL) {
+                    paintCrosshair(g2, dataArea, subPlot.getOrientation() == PlotOrientation.VERTICAL, x, subPlot.getDomainAxis(), subPlot.getDomainAxisEdge(), subPlot.getDomainCrosshairStroke(), subPlot.getDomainCrosshairPaint());
+                }
+                if (i == index && crosshairOrientation != CrosshairOrientation.VERTICAL) {
+                    paintCrosshair(g2, dataArea, subPlot.getOrientation() == PlotOrientation.HORIZONTAL, y, subPlot.getRangeAxis(), subPlot.getRangeAxisEdge(), subPlot.getRangeCrosshairStroke(), subPlot.getRangeCrosshairPaint());
+                }
+            }
+        }
+
+        private void paintCrosshair(Graphics2D g2, Rectangle2D dataArea, boolean vertical, double value, ValueAxis axis, RectangleEdge edge, Stroke stroke, Paint paint) {
+            if (!axis.getRange().contains(value)) {
+                return;
+            }
+            double v = axis.valueToJava2D(value, dataArea, edge);
+            Line2D line = vertical
+                    ? new Line2D.Double(v, dataArea.getMinY(), v, dataArea.getMaxY())
+                    : new Line2D.Double(dataArea.getMinX(), v, dataArea.getMaxX(), v);
+            Object saved = g2.getRenderingHint(RenderingHints.KEY_STROKE_CONTROL);
+            g2.setRenderingHint(RenderingHints.KEY_STROKE_CONTROL, RenderingHints.VALUE_STROKE_NORMALIZE);
+            g2.setStroke(stroke);
+            g2.setPaint(paint);
+            g2.draw(line);
+            g2.setRenderingHint(RenderingHints.KEY_STROKE_CONTROL, saved);
+        }
+
+        private void paintObs(Graphics2D g2, PlotRenderingInfo plotInfo) {
+            if (isHoverHighlightInOverlay()) {
+                paintObs(g2, plotInfo, hoveredObs, true, false);
+            }
+            if (isElementVisible(TOOLTIP) && !coarseRendering) {
+                if (tooltipTrigger != DisplayTrigger.HOVERING && !(tooltipTrigger == DisplayTrigger.BOTH && selectedObs.equals(hoveredObs))) {
+                    paintObs(g2, plotInfo, selectedObs, false, true);
+                }
+                if (tooltipTrigger != DisplayTrigger.SELECTION) {
+                    paintObs(g2, plotInfo, hoveredObs, false, true);
+                }
+            }
+        }
+
+        private void paintObs(Graphics2D g2, PlotRenderingInfo plotInfo, ObsIndex value, boolean highlight, boolean tooltip) {
+            if (!existPredicate.apply(value)) {
+                return;
+            }
+            RendererType rendererType = seriesMapFactory.getRendererType(value.getSeries());
+            int plotIndex = seriesMapFactory.getPlotIndex(value.getSeries());
+            if (plotIndex < 0 || plotIndex >= roSubPlots.size()) {
+                return;
+            }
+            if (tooltip && (rendererType == AREA || rendererType == STACKED_AREA)) {
+                return; // area renderers have no item label
+            }
+            int rendererIndex = supportedRendererTypes.indexOf(rendererType);
+            XYPlot subPlot = roSubPlots.get(plotIndex);
+            FilteredXYDataset data = (FilteredXYDataset) subPlot.getDataset(rendererIndex);
+            XYItemRenderer renderer = subPlot.getRenderer(rendererIndex);
+            // the support of the renderer keeps its style table between hovers
+            JTimeSeriesRendererSupport support = JTimeSeriesRendererSupport.of(renderer);
+            if (data == null || support == null) {
+                return;
+            }
+            int series = data.filteredIndexOf(value.getSeries());
+            int item = value.getObs();
+            if (series == -1 || !renderer.getItemVisible(series, item) || Double.isNaN(data.getYValue(series, item))) {
+                return;
+            }
+            Rectangle2D dataArea = plotInfo.getSubplotInfo(plotIndex).getDataArea();
+            ValueAxis domainAxis = subPlot.getDomainAxis();
+            ValueAxis rangeAxis = subPlot.getRangeAxis();
+            RectangleEdge domainEdge = subPlot.getDomainAxisEdge();
+            RectangleEdge rangeEdge = subPlot.getRangeAxisEdge();
+            // shapes are computed in domain/range space
+            AffineTransform orientation = subPlot.getOrientation() == PlotOrientation.HORIZONTAL
+                    ? new AffineTransform(0, 1, 1, 0, 0, 0)
+                    : new AffineTransform();
+            Shape item2D;
+            Point2D anchor;
+            switch (rendererType) {
+                case COLUMN:
+                case STACKED_COLUMN:
+                    Rectangle2D bar = rendererType == COLUMN
+                            ? ItemGeometry.getColumnBounds((XYBarRenderer) renderer, data, series, item, dataArea, domainAxis, domainEdge, rangeAxis, rangeEdge)
+                            : ItemGeometry.getStackedColumnBounds((XYBarRenderer) renderer, data, series, item, dataArea, domainAxis, domainEdge, rangeAxis, rangeEdge);
+                    item2D = bar;
+                    anchor = new Point2D.Double(bar.getCenterX(), bar.getCenterY());
+                    break;
+                case AREA:
+                case STACKED_AREA:
+                    item2D = ItemGeometry.getAreaShape(renderer, data, series, item, rendererType == STACKED_AREA, dataArea, domainAxis, domainEdge, rangeAxis, rangeEdge);
+                    anchor = null;
+                    break;
+                default:
+                    anchor = new Point2D.Double(
+                            domainAxis.valueToJava2D(data.getXValue(series, item), dataArea, domainEdge),
+                            rangeAxis.valueToJava2D(data.getYValue(series, item), dataArea, rangeEdge));
+                    item2D = null;
+                    break;
+            }
+            Shape savedClip = g2.getClip();
+            g2.clip(dataArea);
+            if (highlight) {
+                if (item2D != null) {
+                    g2.setPaint(support.getObsColor(series, item).brighter());
+                    g2.fill(orientation.createTransformedShape(item2D));
+                } else if (renderer instanceof XYLineAndShapeRenderer) {
+                    paintShape(g2, (XYLineAndShapeRenderer) renderer, series, item, orientation.transform(anchor, null));
+                }
+            }
+            if (tooltip) {
+                Point2D p = orientation.transform(anchor, null);
+                support.drawItemLabel(g2, data, series, item, p.getX(), p.getY());
+            }
+            g2.setClip(savedClip);
+        }
+
+        private void paintShape(Graphics2D g2, XYLineAndShapeRenderer renderer, int series, int item, Point2D location) {
+            // same as the shape of a highlighted item in XYLineAndShapeRenderer
+            Shape shape = ShapeUtilities.createTranslatedShape(renderer.getItemShape(series, item), location.getX(), location.getY());
+            g2.setPaint(renderer.getUseFillPaint() ? renderer.getItemFillPaint(series, item) : renderer.getItemPaint(series, item));
+            g2.fill(shape);
+            if (renderer.getDrawOutlines()) {
+                g2.setPaint(renderer.getUseOutlinePaint() ? renderer.getItemOutlinePaint(series, item) : renderer.getItemPaint(series, item));
+                g2.setStroke(renderer.getItemOutlineStroke(series, item));
+                g2.draw(shape);
+            }
         }
-        throw new RuntimeException();
     }
 
+    //<editor-fold defaultstate="collapsed" desc="Async rendering">
+    /**
+     * Chart panel that delegates the drawing of the chart to an offscreen
+     * renderer when async rendering is enabled. Otherwise, the chart is drawn
+     * by ChartPanel if its buffer is valid and by a cached image at the scale
+     * of the screen if not.
+     * <p>
+     * ChartPanel is created with a buffer so that it never draws its zoom
+     * rectangle with XOR; this rectangle and the overlays are painted again
+     * over each frame instead.
+     */
+    private final class ChartPanelImpl extends ChartPanel {
+
+        // same as ChartPanel#panMask
+        private final int panMask = System.getProperty("os.name", "").toLowerCase().startsWith("mac os x") ? InputEvent.ALT_MASK : InputEvent.CTRL_MASK;
+        // true while a chart change requests a repaint
+        private boolean chartChanging = false;
+        // chart without the overlay, at the resolution of the screen
+        private BufferedImage baseLayer = null;
+        private boolean baseLayerDirty = true;
+        // same as the private fields of ChartPanel
+        private final List<Overlay> overlays = new ArrayList<>();
+        private Point2D zoomPoint = null;
+        private Rectangle2D zoomRectangle = null;
+
+        ChartPanelImpl(JFreeChart chart, int width, int height, int minimumDrawWidth, int minimumDrawHeight, int maximumDrawWidth, int maximumDrawHeight, boolean useBuffer, boolean properties, boolean save, boolean print, boolean zoom, boolean tooltips) {
+            super(chart, width, height, minimumDrawWidth, minimumDrawHeight, maximumDrawWidth, maximumDrawHeight, useBuffer, properties, save, print, zoom, tooltips);
+        }
+
+        @Override
+        public void chartChanged(ChartChangeEvent event) {
+            if (offscreen != null) {
+                offscreen.invalidate();
+            }
+            baseLayerDirty = true;
+            chartChanging = true;
+            try {
+                super.chartChanged(event);
+            } finally {
+                chartChanging = false;
+            }
+        }
+
+        @Override
+        public void repaint(long tm, int x, int y, int width, int height) {
+            // the repaints that follow a chart change go through the shared scheduler
+            if (chartChanging && chartRepaint != null) {
+                chartRepaint.request();
+                return;
+            }
+            super.repaint(tm, x, y, width, height);
+        }
+
+        @Override
+        public void addOverlay(Overlay overlay) {
+            super.addOverlay(overlay);
+            overlays.add(overlay);
+        }
+
+        @Override
+        public void removeOverlay(Overlay overlay) {
+            super.removeOverlay(overlay);
+            overlays.remove(overlay);
+        }
+
+        @Override
+        public void mousePressed(MouseEvent e) {
+            super.mousePressed(e);
+            // same as ChartPanel#mousePressed(); the plot is not pannable
+            if (zoomRectangle == null && (e.getModifiers() & panMask) != panMask) {
+                Rectangle2D screenDataArea = getScreenDataArea(e.getX(), e.getY());
+                zoomPoint = screenDataArea != null ? getPointInRectangle(e.getX(), e.getY(), screenDataArea) : null;
+            }
+        }
+
+        @Override
+        public void mouseDragged(MouseEvent e) {
+            super.mouseDragged(e);
+            // same as ChartPanel#mouseDragged()
+            if (zoomPoint == null || (getPopupMenu() != null && getPopupMenu().isShowing())) {
+                return;
+            }
+            boolean horizontal = getChart().getXYPlot().getOrientation() == PlotOrientation.HORIZONTAL;
+            boolean hZoom = horizontal ? isRangeZoomable() : isDomainZoomable();
+            boolean vZoom = horizontal ? isDomainZoomable() : isRangeZoomable();
+            Rectangle2D area = getScreenDataArea((int) zoomPoint.getX(), (int) zoomPoint.getY());
+            if (area == null) {
+                return;
+            }
+            double xmax = Math.min(e.getX(), area.getMaxX());
+            double ymax = Math.min(e.getY(), area.getMaxY());
+            if (hZoom && vZoom) {
+                zoomRectangle = new Rectangle2D.Double(zoomPoint.getX(), zoomPoint.getY(), xmax - zoomPoint.getX(), ymax - zoomPoint.getY());
+            } else if (hZoom) {
+                zoomRectangle = new Rectangle2D.Double(zoomPoint.getX(), area.getMinY(), xmax - zoomPoint.getX(), area.getHeight());
+            } else if (vZoom) {
+                zoomRectangle = new Rectangle2D.Double(area.getMinX(), zoomPoint.getY(), area.getWidth(), ymax - zoomPoint.getY());
+            }
+        }
+
+        @Override
+        public void mouseReleased(MouseEvent e) {
+            super.mouseReleased(e);
+            zoomPoint = null;
+            zoomRectangle = null;
+        }
+
+        @Override
+        public void paintComponent(Graphics g) {
+            if (offscreen == null && Charts.USE_CHART_PANEL_BUFFER) {
+                baseLayer = null;
+                // the buffer of ChartPanel is valid, so are its overlays and zoom rectangle
+                super.paintComponent(g);
+                return;
+            }
+            Graphics2D g2 = (Graphics2D) g.create();
+            try {
+                if (isOpaque()) {
+                    g2.setColor(getBackground());
+                    g2.fillRect(0, 0, getWidth(), getHeight());
+                }
+                Insets insets = getInsets();
+                Rectangle area = new Rectangle(insets.left, insets.top, getWidth() - insets.left - insets.right, getHeight() - insets.top - insets.bottom);
+                if (offscreen != null) {
+                    baseLayer = null;
+                    // the overlay needs a rendering info that matches the painted frame
+                    if (offscreen.paint(g2, area, JTimeSeriesChart.this::newOffscreenFrame)) {
+                        paintOverlays(g2);
+                    }
+                } else if (!area.isEmpty()) {
+                    // the overlay changes far more often than the chart
+                    paintBaseLayer(g2, area);
+                    paintOverlays(g2);
+                }
+                paintZoomRectangle(g2);
+            } finally {
+                g2.dispose();
+            }
+        }
+
+        private void paintOverlays(Graphics2D g2) {
+            for (Overlay o : overlays) {
+                o.paintOverlay(g2, this);
+            }
+        }
+
+        private void paintZoomRectangle(Graphics2D g2) {
+            // same as ChartPanel#drawZoomRectangle() without XOR
+            if (zoomRectangle != null) {
+                if (getFillZoomRectangle()) {
+                    g2.setPaint(getZoomFillPaint());
+                    g2.fill(zoomRectangle);
+                } else {
+                    g2.setPaint(getZoomOutlinePaint());
+                    g2.draw(zoomRectangle);
+                }
+            }
+        }
+
+        private Point2D getPointInRectangle(int x, int y, Rectangle2D area) {
+            // same as ChartPanel#getPointInRectangle()
+            double xx = Math.max(area.getMinX(), Math.min(x, area.getMaxX()));
+            double yy = Math.max(area.getMinY(), Math.min(y, area.getMaxY()));
+            return new Point2D.Double(xx, yy);
+        }
+
+        private void paintBaseLayer(Graphics2D g2, Rectangle area) {
+            // same as the offscreen frames: drawn at the scale of the screen and thus sharp on HiDPI screens
+            AffineTransform tx = g2.getTransform();
+            double scaleX = tx.getScaleX() > 0 ? tx.getScaleX() : 1;
+            double scaleY = tx.getScaleY() > 0 ? tx.getScaleY() : 1;
+            int width = (int) Math.ceil(area.width * scaleX);
+            int height = (int) Math.ceil(area.height * scaleY);
+            if (baseLayer == null || baseLayer.getWidth() != width || baseLayer.getHeight() != height) {
+                baseLayer = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+                baseLayerDirty = true;
+            }
+            if (baseLayerDirty) {
+                baseLayerDirty = false;
+                Graphics2D g = baseLayer.createGraphics();
+                try {
+                    g.setComposite(AlphaComposite.Clear);
+                    g.fillRect(0, 0, width, height);
+                    g.setComposite(AlphaComposite.SrcOver);
+                    g.scale(scaleX, scaleY);
+                    getChart().draw(g, new Rectangle2D.Double(0, 0, area.width, area.height), null, getChartRenderingInfo());
+                } finally {
+                    g.dispose();
+                }
+            }
+            g2.drawImage(baseLayer, area.x, area.y, area.width, area.height, null);
+        }
+    }
+
+    /**
+     * Creates a chart that is only drawn offscreen. It doesn't listen to its
+     * datasets, which must therefore not change while it is used, so that
+     * these datasets can be shared by many charts and threads.
+     */
+    static JTimeSeriesChart newOffscreenChart() {
+        return new JTimeSeriesChart(true);
+    }
+
+    // package-visible to draw a chart that is not displayed
+    JFreeChart getJFreeChart() {
+        return chartPanel.getChart();
+    }
+
+    /**
+     * Captures the current state of this chart so that it can be reused as a
+     * template; the returned action restores that state.
+     */
+    Runnable captureState() {
+        Snapshot snapshot = new Snapshot(this, dataset);
+        return () -> snapshot.applyTo(this);
+    }
+
+    // copied lazily, thus at most once per offscreen frame whatever the number of content events
+    private IntervalXYDataset getSnapshotDataset() {
+        if (snapshotSource != dataset) {
+            snapshotSource = dataset;
+            // immutable datasets don't need a copy
+            snapshotDataset = dataset instanceof RegularXYDataset ? dataset : ColumnarXYDataset.copyOf(dataset);
+        }
+        return snapshotDataset;
+    }
+
+    // called on the EDT when the previous frame is done, so the offscreen chart can be configured here
+    private OffscreenChartRenderer.Frame newOffscreenFrame() {
+        boolean itemEntities = itemEntitiesEnabled;
+        new Snapshot(this, getSnapshotDataset()).applyTo(offscreenChart);
+        JFreeChart chart = offscreenChart.getJFreeChart();
+        return (g2, area) -> {
+            // the worker only draws the chart, which is left alone by the EDT until the frame is done
+            ChartRenderingInfo result = new ChartRenderingInfo(itemEntities ? new StandardEntityCollection() : new ObsHitResolver.ItemlessEntityCollection());
+            chart.draw(g2, area, result);
+            return result;
+        };
+    }
+
+    /**
+     * Immutable copy of the state of a chart that affects its drawing,
+     * captured and applied on the EDT to the offscreen chart before it is
+     * drawn by the worker, or when a copied chart is pasted.
+     */
+    private static final class Snapshot {
+
+        private final ColorSchemeSupport<? extends Color> colorSchemeSupport;
+        private final float lineThickness;
+        private final DateFormat periodFormat;
+        private final NumberFormat valueFormat;
+        private final SeriesFunction<RendererType> seriesRenderer;
+        private final SeriesFunction<String> seriesFormatter;
+        private final SeriesFunction<Color> seriesColorist;
+        private final ObsFunction<String> obsFormatter;
+        private final ObsFunction<Color> obsColorist;
+        private final ObsPredicate dashPredicate;
+        private final SeriesPredicate legendVisibilityPredicate;
+        private final SeriesFunction<Integer> plotDispatcher;
+        private final IntervalXYDataset dataset;
+        private final String title;
+        private final String noDataMessage;
+        private final int[] plotWeights;
+        private final boolean[] elementVisible;
+        private final ObsIndex hoveredObs;
+        private final ObsIndex selectedObs;
+        // null if default
+        private final ObsPredicate obsHighlighter;
+        private final boolean revealObs;
+        private final boolean decimationEnabled;
+        private final boolean itemEntitiesEnabled;
+        private final boolean lineBatchingEnabled;
+        private final BitSet hiddenSeries;
+        private final int[] selection;
+        // null if auto range
+        private final Range domainRange;
+        private final Range[] rangeRanges;
+
+        Snapshot(JTimeSeriesChart source, IntervalXYDataset dataset) {
+            this.colorSchemeSupport = source.colorSchemeSupport;
+            this.lineThickness = source.getLineThickness();
+            this.periodFormat = (DateFormat) source.periodFormat.clone();
+            this.valueFormat = (NumberFormat) source.valueFormat.clone();
+            this.seriesRenderer = source.seriesRenderer;
+            this.seriesFormatter = source.seriesFormatter;
+            this.seriesColorist = source.seriesColorist;
+            this.obsFormatter = source.obsFormatter;
+            this.obsColorist = source.obsColorist;
+            this.dashPredicate = source.dashPredicate;
+            this.legendVisibilityPredicate = source.legendVisibilityPredicate;
+            this.plotDispatcher = source.plotDispatcher;
+            this.dataset = dataset;
+            this.title = source.title;
+            this.noDataMessage = source.noDataMessage;
+            this.plotWeights = source.plotWeights.clone();
+            this.elementVisible = source.elementVisible.clone();
+            this.hoveredObs = source.hoveredObs;
+            this.selectedObs = source.selectedObs;
+            this.obsHighlighter = source.obsHighlighter != source.defaultObsHighlighter ? source.obsHighlighter : null;
+            this.revealObs = source.revealObs;
+            this.decimationEnabled = source.decimationEnabled;
+            this.itemEntitiesEnabled = source.itemEntitiesEnabled;
+            this.lineBatchingEnabled = source.lineBatchingEnabled;
+            this.hiddenSeries = source.hiddenSeries;
+            this.selection = getSelection(source.seriesSelectionModel);
+            ValueAxis domainAxis = source.mainPlot.getDomainAxis();
+            this.domainRange = domainAxis.isAutoRange() ? null : domainAxis.getRange();
+            this.rangeRanges = new Range[source.roSubPlots.size()];
+            for (int i = 0; i < rangeRanges.length; i++) {
+                ValueAxis rangeAxis = source.roSubPlots.get(i).getRangeAxis();
+                rangeRanges[i] = rangeAxis.isAutoRange() ? null : rangeAxis.getRange();
+            }
+        }
+
+        void applyTo(JTimeSeriesChart target) {
+            target.batch(() -> {
+                target.setColorSchemeSupport(colorSchemeSupport);
+                target.setLineThickness(lineThickness);
+                target.setPeriodFormat(periodFormat);
+                target.setValueFormat(valueFormat);
+                target.setSeriesRenderer(seriesRenderer);
+                target.setSeriesFormatter(seriesFormatter);
+                target.setSeriesColorist(seriesColorist);
+                target.setObsFormatter(obsFormatter);
+                target.setObsColorist(obsColorist);
+                target.setDashPredicate(dashPredicate);
+                target.setLegendVisibilityPredicate(legendVisibilityPredicate);
+                target.setPlotDispatcher(plotDispatcher);
+                target.setDataset(dataset);
+                target.setTitle(title);
+                target.setNoDataMessage(noDataMessage);
+                target.setPlotWeights(plotWeights);
+                for (Element element : Element.values()) {
+                    target.setElementVisible(element, elementVisible[element.ordinal()]);
+                }
+                target.setHoveredObs(hoveredObs);
+                target.setSelectedObs(selectedObs);
+                target.setObsHighlighter(obsHighlighter);
+                target.setRevealObs(revealObs);
+                target.setDecimationEnabled(decimationEnabled);
+                target.setItemEntitiesEnabled(itemEntitiesEnabled);
+                target.setLineBatchingEnabled(lineBatchingEnabled);
+                target.setHiddenSeries(hiddenSeries);
+                setSelection(target.seriesSelectionModel, selection);
+                setRange(target.mainPlot.getDomainAxis(), domainRange);
+                for (int i = 0; i < rangeRanges.length && i < target.roSubPlots.size(); i++) {
+                    setRange(target.roSubPlots.get(i).getRangeAxis(), rangeRanges[i]);
+                }
+            });
+        }
+
+        private static int[] getSelection(ListSelectionModel model) {
+            if (model.isSelectionEmpty()) {
+                return new int[0];
+            }
+            int size = 0;
+            int[] result = new int[model.getMaxSelectionIndex() - model.getMinSelectionIndex() + 1];
+            for (int i = model.getMinSelectionIndex(); i <= model.getMaxSelectionIndex(); i++) {
+                if (model.isSelectedIndex(i)) {
+                    result[size++] = i;
+                }
+            }
+            return Arrays.copyOf(result, size);
+        }
+
+        private static void setSelection(ListSelectionModel model, int[] selection) {
+            if (Arrays.equals(getSelection(model), selection)) {
+                return;
+            }
+            model.setValueIsAdjusting(true);
+            model.clearSelection();
+            for (int index : selection) {
+                model.addSelectionInterval(index, index);
+            }
+            model.setValueIsAdjusting(false);
+        }
+
+        private static void setRange(ValueAxis axis, Range range) {
+            if (range != null) {
+                if (axis.isAutoRange() || !axis.getRange().equals(range)) {
+                    axis.setRange(range);
+                }
+            } else if (!axis.isAutoRange()) {
+                axis.setAutoRange(true);
+            }
+        }
+    }
+    //</editor-fold>
+
     //<editor-fold defaultstate="collapsed" desc="Interactive stuff">
     private boolean isInteractive() {
         return isEnabled();
@@ -759,6 +2027,8 @@ public final class JTimeSeriesChart extends ATimeSeriesChart {
                     int series = ((FilteredXYDataset) xxx.getDataset()).originalIndexOf(xxx.getSeriesIndex());
                     int obs = xxx.getItem();
                     return ObsIndex.valueOf(series, obs);
+                } else if (!itemEntitiesEnabled) {
+                    return ObsHitResolver.getObsIndex(chartPanel, mainPlot, supportedRendererTypes, event.getTrigger().getPoint());
                 } else {
                     return ObsIndex.NULL;
                 }
@@ -793,106 +2063,172 @@ public final class JTimeSeriesChart extends ATimeSeriesChart {
                 }
             }
 
+            @Override
+            protected int getSelectionIndex(MouseEvent e) {
+                int result = super.getSelectionIndex(e);
+                if (result == -1 && !itemEntitiesEnabled) {
+                    ObsIndex obs = ObsHitResolver.getObsIndex(chartPanel, mainPlot, supportedRendererTypes, e.getPoint());
+                    return obs.getSeries();
+                }
+                return result;
+            }
+
             @Override
             protected int getSelectionIndex(LegendItemEntity entity) {
                 return entity != null ? dataset.indexOf(entity.getSeriesKey()) : -1;
             }
         });
         seriesSelectionModel.addListSelectionListener(e -> {
+            styleVersion++;
+            legendVersion++;
             if (!e.getValueIsAdjusting()) {
                 notification.forceRefresh();
             }
         });
     }
 
+    private void enableInteractionQuality() {
+        chartPanel.addMouseMotionListener(new MouseMotionAdapter() {
+            @Override
+            public void mouseDragged(MouseEvent e) {
+                onInteraction();
+            }
+        });
+        addComponentListener(new ComponentAdapter() {
+            @Override
+            public void componentResized(ComponentEvent e) {
+                onInteraction();
+            }
+        });
+    }
+
+    private void onInteraction() {
+        if (interactionQualityDelay > 0) {
+            setCoarseRendering(true);
+            interactionTimer.restart();
+        }
+    }
+
     private void enableProperties() {
         addPropertyChangeListener(evt -> {
-            notification.suspend();
-            switch (evt.getPropertyName()) {
-                case COLOR_SCHEME_SUPPORT_PROPERTY:
-                    onColorSchemeSupportChange();
-                    break;
-                case LINE_THICKNESS_PROPERTY:
-                    onLineThicknessChange();
-                    break;
-                case PERIOD_FORMAT_PROPERTY:
-                    onPeriodFormatChange();
-                    break;
-                case VALUE_FORMAT_PROPERTY:
-                    onValueFormatChange();
-                    break;
-                case SERIES_RENDERER_PROPERTY:
-                    onSeriesRendererChange();
-                    break;
-                case SERIES_FORMATTER_PROPERTY:
-                    onSeriesFormatterChange();
-                    break;
-                case SERIES_COLORIST_PROPERTY:
-                    onSeriesColoristChange();
-                    break;
-                case OBS_FORMATTER_PROPERTY:
-                    onObsFormatterChange();
-                    break;
-                case OBS_COLORIST_PROPERTY:
-                    onObsColoristChange();
-                    break;
-                case DASH_PREDICATE_PROPERTY:
-                    onDashPredicateChange();
-                    break;
-                case LEGEND_VISIBILITY_PREDICATE_PROPERTY:
-                    onLegendVisibilityPredicateChange();
-                    break;
-                case PLOT_DISPATCHER_PROPERTY:
-                    onPlotDispatcherChange();
-                    break;
-                case DATASET_PROPERTY:
-                    onDatasetChange();
-                    break;
-                case TITLE_PROPERTY:
-                    onTitleChange();
-                    break;
-                case NO_DATA_MESSAGE_PROPERTY:
-                    onNoDataMessageChange();
-                    break;
-                case PLOT_WEIGHTS_PROPERTY:
-                    onPlotWeightsChange();
-                    break;
-                case ELEMENT_VISIBLE_PROPERTY:
-                    onElementVisibleChange();
-                    break;
-                case CROSSHAIR_ORIENTATION_PROPERTY:
-                    onCrosshairOrientationChange();
-                    break;
-                case HOVERED_OBS_PROPERTY:
-                    onHoveredObsChange();
-                    break;
-                case SELECTED_OBS_PROPERTY:
-                    onSelectedObsChange();
-                    break;
-                case OBS_HIGHLIGHTER_PROPERTY:
-                    onObsHighlighterChange();
-                    break;
-                case TOOLTIP_TRIGGER_PROPERTY:
-                    onTooltipTriggerChange();
-                    break;
-                case CROSSHAIR_TRIGGER_PROPERTY:
-                    onCrosshairTriggerChange();
-                    break;
-                case REVEAL_OBS_PROPERTY:
-                    onRevealObsChange();
-                    break;
-                case "enabled":
-                    boolean enabled1 = isEnabled();
-                    chartPanel.setDomainZoomable(enabled1);
-                    chartPanel.setRangeZoomable(enabled1);
-                    break;
-                case "componentPopupMenu":
-                    onComponentPopupMenuChange();
-                    break;
+            if (batchedProperties != null) {
+                batchedProperties.add(evt.getPropertyName());
+                return;
             }
+            notification.suspend();
+            onPropertyChange(evt.getPropertyName());
             notification.resume();
         });
     }
+
+    private void onPropertyChange(String propertyName) {
+        switch (propertyName) {
+            case COLOR_SCHEME_SUPPORT_PROPERTY:
+                onColorSchemeSupportChange();
+                break;
+            case LINE_THICKNESS_PROPERTY:
+                onLineThicknessChange();
+                break;
+            case PERIOD_FORMAT_PROPERTY:
+                onPeriodFormatChange();
+                break;
+            case VALUE_FORMAT_PROPERTY:
+                onValueFormatChange();
+                break;
+            case SERIES_RENDERER_PROPERTY:
+                onSeriesRendererChange();
+                break;
+            case SERIES_FORMATTER_PROPERTY:
+                onSeriesFormatterChange();
+                break;
+            case SERIES_COLORIST_PROPERTY:
+                onSeriesColoristChange();
+                break;
+            case OBS_FORMATTER_PROPERTY:
+                onObsFormatterChange();
+                break;
+            case OBS_COLORIST_PROPERTY:
+                onObsColoristChange();
+                break;
+            case DASH_PREDICATE_PROPERTY:
+                onDashPredicateChange();
+                break;
+            case LEGEND_VISIBILITY_PREDICATE_PROPERTY:
+                onLegendVisibilityPredicateChange();
+                break;
+            case PLOT_DISPATCHER_PROPERTY:
+                onPlotDispatcherChange();
+                break;
+            case DATASET_PROPERTY:
+                onDatasetChange();
+                break;
+            case TITLE_PROPERTY:
+                onTitleChange();
+                break;
+            case NO_DATA_MESSAGE_PROPERTY:
+                onNoDataMessageChange();
+                break;
+            case PLOT_WEIGHTS_PROPERTY:
+                onPlotWeightsChange();
+                break;
+            case ELEMENT_VISIBLE_PROPERTY:
+                onElementVisibleChange();
+                break;
+            case CROSSHAIR_ORIENTATION_PROPERTY:
+                onCrosshairOrientationChange();
+                break;
+            case HOVERED_OBS_PROPERTY:
+                onHoveredObsChange();
+                break;
+            case SELECTED_OBS_PROPERTY:
+                onSelectedObsChange();
+                break;
+            case OBS_HIGHLIGHTER_PROPERTY:
+                onObsHighlighterChange();
+                break;
+            case TOOLTIP_TRIGGER_PROPERTY:
+                onTooltipTriggerChange();
+                break;
+            case CROSSHAIR_TRIGGER_PROPERTY:
+                onCrosshairTriggerChange();
+                break;
+            case REVEAL_OBS_PROPERTY:
+                onRevealObsChange();
+                break;
+            case DECIMATION_ENABLED_PROPERTY:
+                onDecimationEnabledChange();
+                break;
+            case ITEM_ENTITIES_ENABLED_PROPERTY:
+                onItemEntitiesEnabledChange();
+                break;
+            case LINE_BATCHING_ENABLED_PROPERTY:
+                onLineBatchingEnabledChange();
+                break;
+            case ASYNC_RENDERING_ENABLED_PROPERTY:
+                onAsyncRenderingEnabledChange();
+                break;
+            case MAX_REFRESH_RATE_PROPERTY:
+                onMaxRefreshRateChange();
+                break;
+            case INTERACTION_QUALITY_DELAY_PROPERTY:
+                onInteractionQualityDelayChange();
+                break;
+            case COARSE_RENDERING_PROPERTY:
+                onCoarseRenderingChange();
+                break;
+            case HIDDEN_SERIES_PROPERTY:
+                onHiddenSeriesChange();
+                break;
+            case "enabled":
+                boolean enabled1 = isEnabled();
+                chartPanel.setDomainZoomable(enabled1);
+                chartPanel.setRangeZoomable(enabled1);
+                break;
+            case "componentPopupMenu":
+                onComponentPopupMenuChange();
+                break;
+        }
+    }
     //</editor-fold>
 
     //<editor-fold defaultstate="collapsed" desc="Experimental code">
@@ -61,8 +61,10 @@ public abstract class JTimeSeriesChartCommand extends JCommand<JTimeSeriesChart>
         return new Adapter(TimeSeriesChartCommand.reset()) {
             @Override
             public void execute(@NonNull JTimeSeriesChart chart) {
-                chart.getSeriesSelectionModel().clearSelection();
-                super.execute(chart);
+                chart.batch(() -> {
+                    chart.getSeriesSelectionModel().clearSelection();
+                    super.execute(chart);
+                });
             }
         };
     }
@@ -0,0 +1,373 @@
+/*
+ * Copyright 2026 National Bank of Belgium
+ *
+ * Licensed under the EUPL, Version 1.1 or - as soon they will be approved
+ * by the European Commission - subsequent versions of the EUPL (the "Licence");
+ * You may not use this work except in compliance with the Licence.
+ * You may obtain a copy of the Licence at:
+ *
+ * http://ec.europa.eu/idabc/eupl
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the Licence is distributed on an "AS IS" basis,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Licence for the specific language governing permissions and
+ * limitations under the Licence.
+ */
+package ec.util.chart.swing;
+
+import internal.chart.swing.JFreeChartWriterLoader;
+import lombok.NonNull;
+import nbbrd.design.NonNegative;
+import org.jfree.chart.JFreeChart;
+import org.jfree.data.xy.IntervalXYDataset;
+import org.jspecify.annotations.Nullable;
+
+import javax.swing.*;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.lang.reflect.InvocationTargetException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Exports many time series charts as images without displaying them. The
+ * charts are drawn in parallel on a fork-join pool whose workers each reuse a
+ * single {@link JTimeSeriesChart} as a template: its state is restored to the
+ * defaults before applying the properties of each chart. The templates are
+ * created and configured on the event dispatch thread while the workers only
+ * draw them, so an export cannot be started from that thread. The images are
+ * streamed to their outputs as soon as they are drawn.
+ * <p>
+ * The datasets and the functions set on the charts are read concurrently by
+ * the workers and must therefore not be modified during an export. The
+ * templates don't listen to the datasets.
+ *
+ * @author Philippe Charles
+ * @since 2.7.1
+ */
+public final class JTimeSeriesChartExporter implements Closeable {
+
+    @NonNull
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    private final ForkJoinPool pool;
+    private final Map<String, JFreeChartWriter> writers;
+
+    private JTimeSeriesChartExporter(int parallelism) {
+        this.pool = new ForkJoinPool(parallelism, Worker::new, null, false);
+        this.writers = new HashMap<>();
+        for (JFreeChartWriter writer : JFreeChartWriterLoader.load()) {
+            writers.putIfAbsent(writer.getMediaType(), writer);
+        }
+    }
+
+    /**
+     * Exports some charts and waits until they are all written. A failure
+     * does not stop the export; it is reported in the result of its chart.
+     *
+     * @param specs the charts to export
+     * @return a non-null report with one result per chart, in the same order
+     * @throws IllegalStateException if called on the event dispatch thread
+     */
+    @NonNull
+    public Report export(@NonNull List<Spec> specs) throws IllegalStateException {
+        if (SwingUtilities.isEventDispatchThread()) {
+            throw new IllegalStateException("Cannot export on the event dispatch thread");
+        }
+        long start = System.nanoTime();
+        List<ForkJoinTask<Result>> tasks = new ArrayList<>(specs.size());
+        for (Spec spec : specs) {
+            tasks.add(pool.submit(() -> export(spec)));
+        }
+        List<Result> results = new ArrayList<>(tasks.size());
+        for (ForkJoinTask<Result> task : tasks) {
+            results.add(task.join());
+        }
+        return new Report(Collections.unmodifiableList(results), System.nanoTime() - start);
+    }
+
+    /**
+     * Shuts down the workers. Charts that are being exported are completed.
+     */
+    @Override
+    public void close() {
+        pool.shutdown();
+    }
+
+    private Result export(Spec spec) {
+        long start = System.nanoTime();
+        try {
+            JFreeChartWriter writer = writers.get(spec.mediaType);
+            if (writer == null) {
+                throw new IOException("Media type '" + spec.mediaType + "' not supported");
+            }
+            Thread current = Thread.currentThread();
+            Worker worker = current instanceof Worker ? (Worker) current : null;
+            JFreeChart chart = callOnEDT(() -> configure(worker, spec));
+            // the template is only touched again by the next chart of this worker
+            try (OutputStream stream = spec.output.open()) {
+                writer.writeChart(stream, chart, spec.width, spec.height);
+            }
+            return new Result(spec, System.nanoTime() - start, null);
+        } catch (IOException | RuntimeException ex) {
+            return new Result(spec, System.nanoTime() - start, ex);
+        }
+    }
+
+    public static final class Builder {
+
+        private int parallelism = Runtime.getRuntime().availableProcessors();
+
+        private Builder() {
+        }
+
+        /**
+         * Sets the number of charts drawn at the same time.
+         *
+         * @param parallelism a positive number, the number of processors if
+         * not set
+         * @return this builder
+         */
+        @NonNull
+        public Builder parallelism(int parallelism) {
+            if (parallelism <= 0) {
+                throw new IllegalArgumentException("Parallelism must be positive");
+            }
+            this.parallelism = parallelism;
+            return this;
+        }
+
+        @NonNull
+        public JTimeSeriesChartExporter build() {
+            return new JTimeSeriesChartExporter(parallelism);
+        }
+    }
+
+    /**
+     * Opens the stream that receives an image.
+     */
+    @FunctionalInterface
+    public interface Output {
+
+        /**
+         * Opens a new stream, closed by the exporter once the image is
+         * written.
+         *
+         * @return a non-null stream
+         * @throws IOException if the stream cannot be opened
+         */
+        @NonNull
+        OutputStream open() throws IOException;
+
+        @NonNull
+        static Output of(@NonNull Path file) {
+            return () -> Files.newOutputStream(file);
+        }
+    }
+
+    /**
+     * The description of a chart to export.
+     */
+    public static final class Spec {
+
+        @NonNull
+        public static Spec of(@NonNull IntervalXYDataset dataset, @NonNull Consumer<? super JTimeSeriesChart> properties, @NonNull String mediaType, @NonNegative int width, @NonNegative int height, @NonNull Output output) {
+            return new Spec(dataset, properties, mediaType, width, height, output);
+        }
+
+        private final IntervalXYDataset dataset;
+        private final Consumer<? super JTimeSeriesChart> properties;
+        private final String mediaType;
+        private final int width;
+        private final int height;
+        private final Output output;
+
+        private Spec(IntervalXYDataset dataset, Consumer<? super JTimeSeriesChart> properties, String mediaType, int width, int height, Output output) {
+            this.dataset = dataset;
+            this.properties = properties;
+            this.mediaType = mediaType;
+            this.width = width;
+            this.height = height;
+            this.output = output;
+        }
+
+        @NonNull
+        public IntervalXYDataset getDataset() {
+            return dataset;
+        }
+
+        @NonNull
+        public String getMediaType() {
+            return mediaType;
+        }
+
+        public int getWidth() {
+            return width;
+        }
+
+        public int getHeight() {
+            return height;
+        }
+    }
+
+    /**
+     * The outcome of the export of a chart.
+     */
+    public static final class Result {
+
+        private final Spec spec;
+        private final long nanos;
+        private final Exception error;
+
+        private Result(Spec spec, long nanos, Exception error) {
+            this.spec = spec;
+            this.nanos = nanos;
+            this.error = error;
+        }
+
+        @NonNull
+        public Spec getSpec() {
+            return spec;
+        }
+
+        /**
+         * Gets the time spent to draw and write the image.
+         *
+         * @return a duration in nanoseconds
+         */
+        public long getNanos() {
+            return nanos;
+        }
+
+        /**
+         * Gets the failure of the export.
+         *
+         * @return an exception, null if the image was written
+         */
+        @Nullable
+        public Exception getError() {
+            return error;
+        }
+    }
+
+    /**
+     * The outcome of an export.
+     */
+    public static final class Report {
+
+        private final List<Result> results;
+        private final long nanos;
+
+        private Report(List<Result> results, long nanos) {
+            this.results = results;
+            this.nanos = nanos;
+        }
+
+        @NonNull
+        public List<Result> getResults() {
+            return results;
+        }
+
+        /**
+         * Gets the elapsed time of the export.
+         *
+         * @return a duration in nanoseconds
+         */
+        public long getNanos() {
+            return nanos;
+        }
+
+        public int getErrorCount() {
+            int result = 0;
+            for (Result o : results) {
+                if (o.error != null) {
+                    result++;
+                }
+            }
+            return result;
+        }
+
+        /**
+         * Gets the number of images written per second.
+         *
+         * @return a throughput, zero if nothing was exported
+         */
+        public double getThroughput() {
+            return nanos > 0 ? (results.size() - getErrorCount()) * 1e9 / nanos : 0;
+        }
+    }
+
+    //<editor-fold defaultstate="collapsed" desc="Implementation details">
+    private static JFreeChart configure(Worker worker, Spec spec) {
+        JTimeSeriesChart chart = worker != null ? worker.getTemplate() : JTimeSeriesChart.newOffscreenChart();
+        chart.batch(() -> {
+            if (worker != null) {
+                worker.restoreTemplate();
+            }
+            chart.setDataset(spec.dataset);
+            spec.properties.accept(chart);
+        });
+        return chart.getJFreeChart();
+    }
+
+    private static <T> T callOnEDT(Supplier<T> task) throws IOException {
+        List<T> result = new ArrayList<>(1);
+        try {
+            SwingUtilities.invokeAndWait(() -> result.add(task.get()));
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while configuring the chart");
+        } catch (InvocationTargetException ex) {
+            Throwable cause = ex.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new IOException(cause);
+        }
+        return result.get(0);
+    }
+
+    private static final class Worker extends ForkJoinWorkerThread {
+
+        // only used on the EDT
+        private JTimeSeriesChart template;
+        private Runnable defaults;
+
+        private Worker(ForkJoinPool pool) {
+            super(pool);
+            setName("JTimeSeriesChartExporter-" + getPoolIndex());
+            setDaemon(true);
+        }
+
+        JTimeSeriesChart getTemplate() {
+            if (template == null) {
+                template = JTimeSeriesChart.newOffscreenChart();
+                defaults = template.captureState();
+            }
+            return template;
+        }
+
+        void restoreTemplate() {
+            defaults.run();
+        }
+    }
+    //</editor-fold>
+}
@@ -20,6 +20,7 @@ import ec.util.chart.TimeSeriesChart.RendererType;
 import lombok.NonNull;
 import org.jfree.chart.axis.ValueAxis;
 import org.jfree.chart.block.LabelBlock;
+import org.jfree.chart.entity.EntityCollection;
 import org.jfree.chart.labels.XYItemLabelGenerator;
 import org.jfree.chart.labels.XYSeriesLabelGenerator;
 import org.jfree.chart.plot.CrosshairState;
@@ -30,13 +31,20 @@ import org.jfree.chart.renderer.AbstractRenderer;
 import org.jfree.chart.renderer.xy.*;
 import org.jfree.chart.util.LineUtilities;
 import org.jfree.data.Range;
+import org.jfree.data.general.DatasetChangeEvent;
+import org.jfree.data.general.DatasetChangeListener;
+import org.jfree.data.xy.IntervalXYDataset;
 import org.jfree.data.xy.XYDataset;
 import org.jfree.ui.RectangleEdge;
 import org.jfree.ui.Size2D;
+import org.jspecify.annotations.Nullable;
 
 import java.awt.*;
 import java.awt.geom.*;
+import java.util.Arrays;
 import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.Map;
 
 import static ec.util.chart.TimeSeriesChart.RendererType.*;
 
@@ -72,6 +80,44 @@ public abstract class JTimeSeriesRendererSupport implements XYItemLabelGenerator
 
     abstract public boolean isObsLabelVisible(int series, int item);
 
+    /**
+     * Checks if the line, spline and area renderers may skip the items that
+     * cannot be distinguished at the current pixel resolution. Extremes of
+     * each pixel column are always kept and item indexes are never remapped.
+     *
+     * @return true if decimation is enabled, false otherwise
+     * @since 2.7.1
+     */
+    public boolean isDecimationEnabled() {
+        return false;
+    }
+
+    /**
+     * Checks if a series is drawn. Hidden series are skipped by the renderers
+     * and excluded from the auto-range and from the stacks, without changing
+     * the dataset.
+     *
+     * @param series the series index in the dataset of the renderer
+     * @return true if the series is visible, false otherwise
+     * @since 2.7.1
+     */
+    public boolean isSeriesVisible(int series) {
+        return true;
+    }
+
+    /**
+     * Checks if the line renderers may group the consecutive segments of a
+     * series that share the same stroke and paint into a single path. A series
+     * with a uniform style is then drawn with exactly one call to
+     * {@link Graphics2D#draw(Shape)}.
+     *
+     * @return true if line batching is enabled, false otherwise
+     * @since 2.7.1
+     */
+    public boolean isLineBatchingEnabled() {
+        return false;
+    }
+
     @Override
     final public String generateLabel(XYDataset dataset, int series, int item) {
         return getObsLabel(series, item);
@@ -118,18 +164,53 @@ public abstract class JTimeSeriesRendererSupport implements XYItemLabelGenerator
         throw new RuntimeException("Not implemented");
     }
 
+    /**
+     * Gets the support of a renderer created by
+     * {@link #createRenderer(RendererType)}, which keeps its styles between
+     * paints.
+     *
+     * @param renderer a renderer
+     * @return the support, null if the renderer was not created by a support
+     */
+    @Nullable
+    static JTimeSeriesRendererSupport of(@Nullable XYItemRenderer renderer) {
+        if (renderer instanceof LineRenderer) {
+            return ((LineRenderer) renderer).support;
+        }
+        if (renderer instanceof SplineRenderer) {
+            return ((SplineRenderer) renderer).support;
+        }
+        if (renderer instanceof BarRenderer) {
+            return ((BarRenderer) renderer).support;
+        }
+        if (renderer instanceof StackedBarRenderer) {
+            return ((StackedBarRenderer) renderer).support;
+        }
+        if (renderer instanceof AreaRenderer) {
+            return ((AreaRenderer) renderer).support;
+        }
+        if (renderer instanceof StackedAreaRenderer) {
+            return ((StackedAreaRenderer) renderer).support;
+        }
+        return null;
+    }
+
     //<editor-fold defaultstate="collapsed" desc="Renderers implementation">
     private static final Shape ITEM_SHAPE = new Ellipse2D.Double(-3, -3, 6, 6);
 
     private static class LineRenderer extends XYLineAndShapeRenderer {
 
         protected final JTimeSeriesRendererSupport support;
+        protected final SeriesDecimator decimator;
+        protected final LineBatch batch;
 
         @lombok.Getter
         private boolean ignoreMissingValues = false;
 
         public LineRenderer(JTimeSeriesRendererSupport support) {
             this.support = support;
+            this.decimator = new SeriesDecimator();
+            this.batch = new LineBatch();
             setBaseItemLabelsVisible(true);
             setAutoPopulateSeriesShape(false);
             setAutoPopulateSeriesFillPaint(false);
@@ -142,6 +223,11 @@ public abstract class JTimeSeriesRendererSupport implements XYItemLabelGenerator
             setIgnoreMissingValues(true);
         }
 
+        @Override
+        public Range findRangeBounds(XYDataset dataset) {
+            return SeriesRangeIndex.isSupported(dataset) ? SeriesRangeIndex.findRangeBounds(this, dataset) : super.findRangeBounds(dataset);
+        }
+
         public void setIgnoreMissingValues(boolean ignoreMissingValues) {
             this.ignoreMissingValues = ignoreMissingValues;
             fireChangeEvent();
@@ -162,6 +248,11 @@ public abstract class JTimeSeriesRendererSupport implements XYItemLabelGenerator
             return support.isSeriesLabelVisible(series);
         }
 
+        @Override
+        public boolean isSeriesVisible(int series) {
+            return support.isSeriesVisible(series);
+        }
+
         @Override
         public Paint getSeriesPaint(int series) {
             return support.getSeriesColor(series);
@@ -209,27 +300,45 @@ public abstract class JTimeSeriesRendererSupport implements XYItemLabelGenerator
 
         @Override
         protected void drawFirstPassShape(Graphics2D g2, int pass, int series, int item, Shape shape) {
+            if (batch.isEnabled() && shape instanceof Line2D) {
+                batch.add(g2, (Line2D) shape, getItemStroke(series, item), getSeriesPaint(series));
+                return;
+            }
             g2.setStroke(getItemStroke(series, item));
             g2.setPaint(getSeriesPaint(series));
             g2.draw(shape);
         }
 
+        @Override
+        public XYItemRendererState initialise(Graphics2D g2, Rectangle2D dataArea, XYPlot plot, XYDataset data, PlotRenderingInfo info) {
+            XYItemRendererState result = super.initialise(g2, dataArea, plot, data, info);
+            decimator.reset(support.isDecimationEnabled(), plot, data, dataArea);
+            batch.reset(support.isLineBatchingEnabled());
+            return result;
+        }
+
         @Override
         public void drawItem(Graphics2D g2, XYItemRendererState state, Rectangle2D dataArea, PlotRenderingInfo info, XYPlot plot, ValueAxis domainAxis, ValueAxis rangeAxis, XYDataset dataset, int series, int item, CrosshairState crosshairState, int pass) {
-            super.drawItem(g2, state, dataArea, info, plot, domainAxis, rangeAxis, dataset, series, item, crosshairState, pass);
-            if (pass == 2 && getItemVisible(series, item) && isItemLabelVisible(series, item)) {
-                double x1 = dataset.getXValue(series, item);
-                double y1 = dataset.getYValue(series, item);
-                double transX1 = domainAxis.valueToJava2D(x1, dataArea, plot.getDomainAxisEdge());
-                double transY1 = rangeAxis.valueToJava2D(y1, dataArea, plot.getRangeAxisEdge());
-                support.drawItemLabel(g2, dataset, series, item, transX1, transY1);
+            if (decimator.isKept(series, item) || !(isLinePass(pass) || !isItemRevealed(series, item))) {
+                super.drawItem(g2, state, dataArea, info, plot, domainAxis, rangeAxis, dataset, series, item, crosshairState, pass);
+                if (pass == 2 && getItemVisible(series, item) && isItemLabelVisible(series, item)) {
+                    double x1 = dataset.getXValue(series, item);
+                    double y1 = dataset.getYValue(series, item);
+                    double transX1 = domainAxis.valueToJava2D(x1, dataArea, plot.getDomainAxisEdge());
+                    double transY1 = rangeAxis.valueToJava2D(y1, dataArea, plot.getRangeAxisEdge());
+                    support.drawItemLabel(g2, dataset, series, item, transX1, transY1);
+                }
+            }
+            if (isLinePass(pass) && item == state.getLastItemIndex()) {
+                batch.flush(g2); // end of series
             }
         }
 
         @Override
         protected void drawPrimaryLine(XYItemRendererState state, Graphics2D g2, XYPlot plot, XYDataset dataset, int pass, int series, int item, ValueAxis domainAxis, ValueAxis rangeAxis, Rectangle2D dataArea) {
             if (isIgnoreMissingValues()) {
-                if (item == 0) {
+                int previous = decimator.previousKept(series, item);
+                if (previous < 0) {
                     return; // first value has no predecessor
                 }
 
@@ -246,11 +355,11 @@ public abstract class JTimeSeriesRendererSupport implements XYItemLabelGenerator
                 // get previous data point starting with Y value as X usually represents time
                 double y0;
                 double x0;
-                if (Double.isNaN(y0 = dataset.getYValue(series, item - 1))
-                        || Double.isNaN(x0 = dataset.getXValue(series, item - 1))) {
+                if (Double.isNaN(y0 = dataset.getYValue(series, previous))
+                        || Double.isNaN(x0 = dataset.getXValue(series, previous))) {
                     // walk back to previous non-NaN data point
                     x0 = Double.NaN;
-                    for (int index = item - 2; index >= 0; index--) {
+                    for (int index = decimator.previousKept(series, previous); index >= 0; index = decimator.previousKept(series, index)) {
                         if (Double.isNaN(y0 = dataset.getYValue(series, index))
                                 || Double.isNaN(x0 = dataset.getXValue(series, index))) {
                             continue;
@@ -297,14 +406,79 @@ public abstract class JTimeSeriesRendererSupport implements XYItemLabelGenerator
         public int getPassCount() {
             return 3;
         }
+
+        protected boolean isItemRevealed(int series, int item) {
+            return getItemShapeVisible(series, item) || isItemLabelVisible(series, item);
+        }
+    }
+
+    /**
+     * Accumulates the line segments of a series into runs of identical
+     * stroke and paint. Contiguous segments are joined, others start a new
+     * subpath of the same run.
+     */
+    private static final class LineBatch {
+
+        private final Path2D.Double path = new Path2D.Double();
+        private boolean enabled = false;
+        private Stroke stroke = null;
+        private Paint paint = null;
+        private double lastX = Double.NaN;
+        private double lastY = Double.NaN;
+
+        boolean isEnabled() {
+            return enabled;
+        }
+
+        void reset(boolean enabled) {
+            this.enabled = enabled;
+            clear();
+        }
+
+        void add(Graphics2D g2, Line2D line, Stroke stroke, Paint paint) {
+            if (this.stroke != null && (!this.stroke.equals(stroke) || !this.paint.equals(paint))) {
+                flush(g2);
+            }
+            if (this.stroke == null) {
+                this.stroke = stroke;
+                this.paint = paint;
+                path.moveTo(line.getX1(), line.getY1());
+            } else if (line.getX1() != lastX || line.getY1() != lastY) {
+                path.moveTo(line.getX1(), line.getY1());
+            }
+            path.lineTo(line.getX2(), line.getY2());
+            lastX = line.getX2();
+            lastY = line.getY2();
+        }
+
+        void flush(Graphics2D g2) {
+            if (stroke != null) {
+                g2.setStroke(stroke);
+                g2.setPaint(paint);
+                g2.draw(path);
+            }
+            clear();
+        }
+
+        private void clear() {
+            path.reset();
+            stroke = null;
+            paint = null;
+            lastX = Double.NaN;
+            lastY = Double.NaN;
+        }
     }
 
     private static class SplineRenderer extends XYSplineRenderer {
 
         private final JTimeSeriesRendererSupport support;
+        private final SeriesDecimator decimator;
+        private final SplineCache cache;
 
         public SplineRenderer(JTimeSeriesRendererSupport support) {
             this.support = support;
+            this.decimator = new SeriesDecimator();
+            this.cache = new SplineCache();
             setAutoPopulateSeriesShape(false);
             setLegendLine(ITEM_SHAPE);
             setBaseShape(ITEM_SHAPE);
@@ -313,11 +487,21 @@ public abstract class JTimeSeriesRendererSupport implements XYItemLabelGenerator
             setBaseItemLabelGenerator(support);
         }
 
+        @Override
+        public Range findRangeBounds(XYDataset dataset) {
+            return SeriesRangeIndex.isSupported(dataset) ? SeriesRangeIndex.findRangeBounds(this, dataset) : super.findRangeBounds(dataset);
+        }
+
         @Override
         public boolean isSeriesVisibleInLegend(int series) {
             return support.isSeriesLabelVisible(series);
         }
 
+        @Override
+        public boolean isSeriesVisible(int series) {
+            return support.isSeriesVisible(series);
+        }
+
         @Override
         public boolean getItemShapeVisible(int series, int item) {
             return support.isObsHighlighted(series, item);
@@ -374,6 +558,174 @@ public abstract class JTimeSeriesRendererSupport implements XYItemLabelGenerator
         protected void drawItemLabel(Graphics2D g2, PlotOrientation orientation, XYDataset dataset, int series, int item, double x, double y, boolean negative) {
             support.drawItemLabel(g2, dataset, series, item, x, y);
         }
+
+        @Override
+        public XYItemRendererState initialise(Graphics2D g2, Rectangle2D dataArea, XYPlot plot, XYDataset data, PlotRenderingInfo info) {
+            XYItemRendererState result = super.initialise(g2, dataArea, plot, data, info);
+            decimator.reset(support.isDecimationEnabled(), plot, data, dataArea);
+            cache.reset(plot, data, dataArea, support.isDecimationEnabled(), getPrecision());
+            return result;
+        }
+
+        @Override
+        public void drawItem(Graphics2D g2, XYItemRendererState state, Rectangle2D dataArea, PlotRenderingInfo info, XYPlot plot, ValueAxis domainAxis, ValueAxis rangeAxis, XYDataset dataset, int series, int item, CrosshairState crosshairState, int pass) {
+            if (!decimator.isKept(series, item) && (isLinePass(pass) || !(getItemShapeVisible(series, item) || isItemLabelVisible(series, item)))) {
+                return; // decimated; last item is always kept so that the path is drawn
+            }
+            super.drawItem(g2, state, dataArea, info, plot, domainAxis, rangeAxis, dataset, series, item, crosshairState, pass);
+        }
+
+        @Override
+        protected void drawPrimaryLineAsPath(XYItemRendererState state, Graphics2D g2, XYPlot plot, XYDataset dataset, int pass, int series, int item, ValueAxis domainAxis, ValueAxis rangeAxis, Rectangle2D dataArea) {
+            if (getFillType() != FillType.NONE) {
+                super.drawPrimaryLineAsPath(state, g2, plot, dataset, pass, series, item, domainAxis, rangeAxis, dataArea);
+                return;
+            }
+            if (item != state.getLastItemIndex()) {
+                return; // the whole series is drawn at its last item
+            }
+            Shape path = cache.get(series);
+            if (path == null) {
+                path = createSpline(state, plot, dataset, series, domainAxis, rangeAxis, dataArea);
+                cache.put(series, path);
+            }
+            if (path != SplineCache.EMPTY) {
+                drawFirstPassShape(g2, pass, series, item, path);
+            }
+        }
+
+        // same as XYSplineRenderer#drawPrimaryLineAsPath() without fill
+        private Shape createSpline(XYItemRendererState state, XYPlot plot, XYDataset dataset, int series, ValueAxis domainAxis, ValueAxis rangeAxis, Rectangle2D dataArea) {
+            RectangleEdge xAxisLocation = plot.getDomainAxisEdge();
+            RectangleEdge yAxisLocation = plot.getRangeAxisEdge();
+            boolean horizontal = plot.getOrientation() == PlotOrientation.HORIZONTAL;
+
+            // collect the points of the items that would have reached this method
+            int size = state.getLastItemIndex() - state.getFirstItemIndex() + 1;
+            float[] x = new float[size];
+            float[] d = new float[size];
+            int np = 0;
+            for (int item = state.getFirstItemIndex(); item <= state.getLastItemIndex(); item++) {
+                if (!decimator.isKept(series, item) || !getItemVisible(series, item) || !getItemLineVisible(series, item)) {
+                    continue;
+                }
+                double transX1 = domainAxis.valueToJava2D(dataset.getXValue(series, item), dataArea, xAxisLocation);
+                double transY1 = rangeAxis.valueToJava2D(dataset.getYValue(series, item), dataArea, yAxisLocation);
+                if (Double.isNaN(transX1) || Double.isNaN(transY1)) {
+                    continue;
+                }
+                float px = (float) (horizontal ? transY1 : transX1);
+                float py = (float) (horizontal ? transX1 : transY1);
+                if (np > 0 && x[np - 1] == px && d[np - 1] == py) {
+                    continue; // duplicated point
+                }
+                x[np] = px;
+                d[np] = py;
+                np++;
+            }
+            if (np < 2) {
+                return SplineCache.EMPTY;
+            }
+
+            Path2D.Float result = new Path2D.Float(Path2D.WIND_NON_ZERO, np * getPrecision());
+            result.moveTo(x[0], d[0]);
+            if (np == 2) {
+                // we need at least 3 points to spline
+                result.lineTo(x[1], d[1]);
+                return result;
+            }
+            float[] a = new float[np];
+            float[] h = new float[np];
+            for (int i = 1; i <= np - 1; i++) {
+                h[i] = x[i] - x[i - 1];
+            }
+            float[] sub = new float[np - 1];
+            float[] diag = new float[np - 1];
+            float[] sup = new float[np - 1];
+            for (int i = 1; i <= np - 2; i++) {
+                diag[i] = (h[i] + h[i + 1]) / 3;
+                sup[i] = h[i + 1] / 6;
+                sub[i] = h[i] / 6;
+                a[i] = (d[i + 1] - d[i]) / h[i + 1] - (d[i] - d[i - 1]) / h[i];
+            }
+            solveTridiag(sub, diag, sup, a, np - 2);
+            int precision = getPrecision();
+            for (int i = 1; i <= np - 1; i++) {
+                for (int j = 1; j <= precision; j++) {
+                    float t1 = (h[i] * j) / precision;
+                    float t2 = h[i] - t1;
+                    float y = ((-a[i - 1] / 6 * (t2 + h[i]) * t1 + d[i - 1]) * t2 + (-a[i] / 6 * (t1 + h[i]) * t2 + d[i]) * t1) / h[i];
+                    result.lineTo(x[i - 1] + t1, y);
+                }
+            }
+            return result;
+        }
+
+        // Gaussian elimination of a tridiagonal system without pivoting; indexes start at 1
+        private static void solveTridiag(float[] sub, float[] diag, float[] sup, float[] b, int n) {
+            for (int i = 2; i <= n; i++) {
+                sub[i] = sub[i] / diag[i - 1];
+                diag[i] = diag[i] - sub[i] * sup[i - 1];
+                b[i] = b[i] - sub[i] * b[i - 1];
+            }
+            b[n] = b[n] / diag[n];
+            for (int i = n - 1; i >= 1; i--) {
+                b[i] = (b[i] - sup[i] * b[i + 1]) / diag[i];
+            }
+        }
+    }
+
+    /**
+     * Cache of the spline paths of the series of a renderer. The paths are
+     * in screen space and thus only valid for the same dataset content, data
+     * area, axis ranges and decimation. Changing the styles of the series,
+     * for example on hovering or selection, keeps them.
+     */
+    private static final class SplineCache implements DatasetChangeListener {
+
+        static final Shape EMPTY = new Path2D.Float();
+
+        private final Map<Integer, Shape> paths = new HashMap<>();
+        private XYDataset dataset = null;
+        private Object[] key = null;
+
+        void reset(XYPlot plot, XYDataset dataset, Rectangle2D dataArea, boolean decimation, int precision) {
+            if (this.dataset != dataset) {
+                if (this.dataset != null) {
+                    this.dataset.removeChangeListener(this);
+                }
+                if (dataset != null) {
+                    dataset.addChangeListener(this);
+                }
+                this.dataset = dataset;
+                paths.clear();
+            }
+            int index = dataset != null ? plot.indexOf(dataset) : -1;
+            ValueAxis domainAxis = index >= 0 ? plot.getDomainAxisForDataset(index) : null;
+            ValueAxis rangeAxis = index >= 0 ? plot.getRangeAxisForDataset(index) : null;
+            Object[] newKey = {
+                dataArea.getBounds2D(), plot.getOrientation(), decimation, precision,
+                domainAxis != null ? domainAxis.getRange() : null, domainAxis != null && domainAxis.isInverted(),
+                rangeAxis != null ? rangeAxis.getRange() : null, rangeAxis != null && rangeAxis.isInverted()
+            };
+            if (!Arrays.equals(key, newKey)) {
+                key = newKey;
+                paths.clear();
+            }
+        }
+
+        Shape get(int series) {
+            return paths.get(series);
+        }
+
+        void put(int series, Shape path) {
+            paths.put(series, path);
+        }
+
+        @Override
+        public void datasetChanged(DatasetChangeEvent event) {
+            paths.clear();
+        }
     }
 
     private static class BarRenderer extends ClusteredXYBarRenderer2 {
@@ -394,6 +746,11 @@ public abstract class JTimeSeriesRendererSupport implements XYItemLabelGenerator
             setBaseItemLabelGenerator(support);
         }
 
+        @Override
+        public Range findRangeBounds(XYDataset dataset) {
+            return !getUseYInterval() && SeriesRangeIndex.isSupported(dataset) ? SeriesRangeIndex.findRangeBounds(this, dataset) : super.findRangeBounds(dataset);
+        }
+
         @Override
         public boolean isItemLabelVisible(int series, int item) {
             return support.isObsLabelVisible(series, item);
@@ -404,6 +761,11 @@ public abstract class JTimeSeriesRendererSupport implements XYItemLabelGenerator
             return support.isSeriesLabelVisible(series);
         }
 
+        @Override
+        public boolean isSeriesVisible(int series) {
+            return support.isSeriesVisible(series);
+        }
+
         @Override
         public Paint getSeriesPaint(int series) {
             return support.getSeriesColor(series);
@@ -481,10 +843,87 @@ public abstract class JTimeSeriesRendererSupport implements XYItemLabelGenerator
             setBaseItemLabelGenerator(support);
         }
 
+        private StackedSums.Table sums;
+
         @Override
         public Range findRangeBounds(XYDataset dataset) {
             // Fix NumberAxis#setAutoRangeIncludesZero()
-            return dataset.getSeriesCount() != 0 ? super.findRangeBounds(dataset) : null;
+            if (dataset == null || dataset.getSeriesCount() == 0) {
+                return null;
+            }
+            return StackedSums.isSupported(dataset) && !getRenderAsPercentages() ? StackedSums.of(this, dataset).getRangeBounds() : super.findRangeBounds(dataset);
+        }
+
+        @Override
+        public XYItemRendererState initialise(Graphics2D g2, Rectangle2D dataArea, XYPlot plot, XYDataset data, PlotRenderingInfo info) {
+            XYItemRendererState result = super.initialise(g2, dataArea, plot, data, info);
+            sums = StackedSums.isSupported(data) && !getRenderAsPercentages() ? StackedSums.of(this, data) : null;
+            return result;
+        }
+
+        @Override
+        public void drawItem(Graphics2D g2, XYItemRendererState state, Rectangle2D dataArea, PlotRenderingInfo info, XYPlot plot, ValueAxis domainAxis, ValueAxis rangeAxis, XYDataset dataset, int series, int item, CrosshairState crosshairState, int pass) {
+            if (sums == null) {
+                super.drawItem(g2, state, dataArea, info, plot, domainAxis, rangeAxis, dataset, series, item, crosshairState, pass);
+                return;
+            }
+            if (!getItemVisible(series, item)) {
+                return;
+            }
+
+            // same as StackedXYBarRenderer but using the cached sums
+            IntervalXYDataset intervalDataset = (IntervalXYDataset) dataset;
+            double value = intervalDataset.getYValue(series, item);
+            double startX = intervalDataset.getStartXValue(series, item);
+            double endX = intervalDataset.getEndXValue(series, item);
+            if (Double.isNaN(value) || Double.isNaN(startX) || Double.isNaN(endX)) {
+                return;
+            }
+
+            RectangleEdge edgeR = plot.getRangeAxisEdge();
+            double base = value > 0 ? sums.getPositiveBase(series, item) : sums.getNegativeBase(series, item);
+            double translatedBase = rangeAxis.valueToJava2D(base, dataArea, edgeR);
+            double translatedValue = rangeAxis.valueToJava2D(base + value, dataArea, edgeR);
+
+            RectangleEdge edgeD = plot.getDomainAxisEdge();
+            double translatedStartX = domainAxis.valueToJava2D(startX, dataArea, edgeD);
+            double translatedEndX = domainAxis.valueToJava2D(endX, dataArea, edgeD);
+
+            double translatedWidth = Math.max(1, Math.abs(translatedEndX - translatedStartX));
+            double translatedHeight = Math.abs(translatedValue - translatedBase);
+            if (getMargin() > 0.0) {
+                double cut = translatedWidth * getMargin();
+                translatedWidth = translatedWidth - cut;
+                translatedStartX = translatedStartX + cut / 2;
+            }
+
+            Rectangle2D bar;
+            RectangleEdge barBase;
+            boolean up = (value > 0.0) != rangeAxis.isInverted();
+            if (plot.getOrientation() == PlotOrientation.HORIZONTAL) {
+                bar = new Rectangle2D.Double(Math.min(translatedBase, translatedValue), Math.min(translatedEndX, translatedStartX), translatedHeight, translatedWidth);
+                barBase = up ? RectangleEdge.LEFT : RectangleEdge.RIGHT;
+            } else {
+                bar = new Rectangle2D.Double(Math.min(translatedStartX, translatedEndX), Math.min(translatedBase, translatedValue), translatedWidth, translatedHeight);
+                barBase = up ? RectangleEdge.BOTTOM : RectangleEdge.TOP;
+            }
+
+            if (pass == 0) {
+                if (getShadowsVisible()) {
+                    getBarPainter().paintBarShadow(g2, this, series, item, bar, barBase, false);
+                }
+            } else if (pass == 1) {
+                getBarPainter().paintBar(g2, this, series, item, bar, barBase);
+                EntityCollection entities = state.getEntityCollection();
+                if (entities != null) {
+                    addEntity(entities, bar, dataset, series, item, bar.getCenterX(), bar.getCenterY());
+                }
+            } else if (pass == 2) {
+                // labels are drawn once all the bars have been drawn
+                if (isItemLabelVisible(series, item)) {
+                    drawItemLabel(g2, dataset, series, item, plot, getItemLabelGenerator(series, item), bar, value < 0.0);
+                }
+            }
         }
 
         @Override
@@ -497,6 +936,11 @@ public abstract class JTimeSeriesRendererSupport implements XYItemLabelGenerator
             return support.isSeriesLabelVisible(series);
         }
 
+        @Override
+        public boolean isSeriesVisible(int series) {
+            return support.isSeriesVisible(series);
+        }
+
         @Override
         public Paint getSeriesPaint(int series) {
             return support.getSeriesColor(series);
@@ -527,9 +971,11 @@ public abstract class JTimeSeriesRendererSupport implements XYItemLabelGenerator
     private static final class AreaRenderer extends XYAreaRenderer2 {
 
         private final JTimeSeriesRendererSupport support;
+        private final SeriesDecimator decimator;
 
         public AreaRenderer(JTimeSeriesRendererSupport support) {
             this.support = support;
+            this.decimator = new SeriesDecimator();
             setAutoPopulateSeriesShape(false);
             setAutoPopulateSeriesFillPaint(false);
             setAutoPopulateSeriesOutlineStroke(false);
@@ -539,6 +985,11 @@ public abstract class JTimeSeriesRendererSupport implements XYItemLabelGenerator
             setLegendArea(ITEM_SHAPE);
         }
 
+        @Override
+        public Range findRangeBounds(XYDataset dataset) {
+            return SeriesRangeIndex.isSupported(dataset) ? SeriesRangeIndex.findRangeBounds(this, dataset) : super.findRangeBounds(dataset);
+        }
+
         @Override
         public boolean isItemLabelVisible(int row, int column) {
             return support.isObsLabelVisible(row, column);
@@ -549,6 +1000,11 @@ public abstract class JTimeSeriesRendererSupport implements XYItemLabelGenerator
             return support.isSeriesLabelVisible(series);
         }
 
+        @Override
+        public boolean isSeriesVisible(int series) {
+            return support.isSeriesVisible(series);
+        }
+
         @Override
         public Paint getSeriesPaint(int series) {
             return support.getSeriesColor(series);
@@ -575,6 +1031,75 @@ public abstract class JTimeSeriesRendererSupport implements XYItemLabelGenerator
         protected void drawItemLabel(Graphics2D g2, PlotOrientation orientation, XYDataset dataset, int series, int item, double x, double y, boolean negative) {
             support.drawItemLabel(g2, dataset, series, item, x, y);
         }
+
+        @Override
+        public XYItemRendererState initialise(Graphics2D g2, Rectangle2D dataArea, XYPlot plot, XYDataset data, PlotRenderingInfo info) {
+            XYItemRendererState result = super.initialise(g2, dataArea, plot, data, info);
+            decimator.reset(support.isDecimationEnabled(), plot, data, dataArea);
+            return result;
+        }
+
+        @Override
+        public void drawItem(Graphics2D g2, XYItemRendererState state, Rectangle2D dataArea, PlotRenderingInfo info, XYPlot plot, ValueAxis domainAxis, ValueAxis rangeAxis, XYDataset dataset, int series, int item, CrosshairState crosshairState, int pass) {
+            if (!decimator.isEnabled()) {
+                super.drawItem(g2, state, dataArea, info, plot, domainAxis, rangeAxis, dataset, series, item, crosshairState, pass);
+                return;
+            }
+            if (!decimator.isKept(series, item) || !getItemVisible(series, item)) {
+                return;
+            }
+
+            // same as XYAreaRenderer2 but using the kept neighbours
+            int previous = decimator.previousKept(series, item);
+            int next = decimator.nextKept(series, item);
+
+            RectangleEdge xAxisLocation = plot.getDomainAxisEdge();
+            RectangleEdge yAxisLocation = plot.getRangeAxisEdge();
+
+            double transX1 = domainAxis.valueToJava2D(dataset.getXValue(series, item), dataArea, xAxisLocation);
+            double transY1 = rangeAxis.valueToJava2D(getYValueOrZero(dataset, series, item), dataArea, yAxisLocation);
+            double transX0 = previous < 0 ? transX1 : domainAxis.valueToJava2D(dataset.getXValue(series, previous), dataArea, xAxisLocation);
+            double transY0 = previous < 0 ? transY1 : rangeAxis.valueToJava2D(getYValueOrZero(dataset, series, previous), dataArea, yAxisLocation);
+            double transX2 = next < 0 ? transX1 : domainAxis.valueToJava2D(dataset.getXValue(series, next), dataArea, xAxisLocation);
+            double transY2 = next < 0 ? transY1 : rangeAxis.valueToJava2D(getYValueOrZero(dataset, series, next), dataArea, yAxisLocation);
+            double transZero = rangeAxis.valueToJava2D(0.0, dataArea, yAxisLocation);
+
+            Path2D.Double hotspot = new Path2D.Double();
+            if (plot.getOrientation() == PlotOrientation.HORIZONTAL) {
+                hotspot.moveTo(transZero, (transX0 + transX1) / 2.0);
+                hotspot.lineTo((transY0 + transY1) / 2.0, (transX0 + transX1) / 2.0);
+                hotspot.lineTo(transY1, transX1);
+                hotspot.lineTo((transY1 + transY2) / 2.0, (transX1 + transX2) / 2.0);
+                hotspot.lineTo(transZero, (transX1 + transX2) / 2.0);
+            } else {
+                hotspot.moveTo((transX0 + transX1) / 2.0, transZero);
+                hotspot.lineTo((transX0 + transX1) / 2.0, (transY0 + transY1) / 2.0);
+                hotspot.lineTo(transX1, transY1);
+                hotspot.lineTo((transX1 + transX2) / 2.0, (transY1 + transY2) / 2.0);
+                hotspot.lineTo((transX1 + transX2) / 2.0, transZero);
+            }
+            hotspot.closePath();
+
+            g2.setPaint(getItemPaint(series, item));
+            g2.setStroke(getItemStroke(series, item));
+            g2.fill(hotspot);
+
+            if (isOutline()) {
+                g2.setStroke(lookupSeriesOutlineStroke(series));
+                g2.setPaint(lookupSeriesOutlinePaint(series));
+                g2.draw(hotspot);
+            }
+
+            EntityCollection entities = state.getEntityCollection();
+            if (entities != null) {
+                addEntity(entities, hotspot, dataset, series, item, transX1, transY1);
+            }
+        }
+
+        private static double getYValueOrZero(XYDataset dataset, int series, int item) {
+            double result = dataset.getYValue(series, item);
+            return Double.isNaN(result) ? 0.0 : result;
+        }
     }
 
     private static final class StackedAreaRenderer extends StackedXYAreaRenderer2 {
@@ -592,6 +1117,133 @@ public abstract class JTimeSeriesRendererSupport implements XYItemLabelGenerator
             setLegendArea(ITEM_SHAPE);
         }
 
+        private StackedSums.Table sums;
+
+        @Override
+        public Range findRangeBounds(XYDataset dataset) {
+            return StackedSums.isSupported(dataset) ? StackedSums.of(this, dataset).getRangeBounds() : super.findRangeBounds(dataset);
+        }
+
+        @Override
+        public XYItemRendererState initialise(Graphics2D g2, Rectangle2D dataArea, XYPlot plot, XYDataset data, PlotRenderingInfo info) {
+            XYItemRendererState result = super.initialise(g2, dataArea, plot, data, info);
+            sums = StackedSums.isSupported(data) ? StackedSums.of(this, data) : null;
+            return result;
+        }
+
+        @Override
+        public void drawItem(Graphics2D g2, XYItemRendererState state, Rectangle2D dataArea, PlotRenderingInfo info, XYPlot plot, ValueAxis domainAxis, ValueAxis rangeAxis, XYDataset dataset, int series, int item, CrosshairState crosshairState, int pass) {
+            if (sums == null) {
+                super.drawItem(g2, state, dataArea, info, plot, domainAxis, rangeAxis, dataset, series, item, crosshairState, pass);
+                return;
+            }
+            if (!getItemVisible(series, item)) {
+                return;
+            }
+
+            // same as StackedXYAreaRenderer2 but using the cached sums
+            int previous = Math.max(item - 1, 0);
+            int next = Math.min(item + 1, dataset.getItemCount(series) - 1);
+
+            double x0 = dataset.getXValue(series, previous);
+            double x1 = dataset.getXValue(series, item);
+            double x2 = dataset.getXValue(series, next);
+            double y0 = getYValueOrZero(dataset, series, previous);
+            double y1 = getYValueOrZero(dataset, series, item);
+            double y2 = getYValueOrZero(dataset, series, next);
+
+            // positive values are stacked on the positive sums, negative ones on the negative sums
+            boolean positive = y1 >= 0.0;
+            double stack0 = positive ? sums.getPositiveBase(series, previous) : sums.getNegativeBase(series, previous);
+            double stack1 = positive ? sums.getPositiveBase(series, item) : sums.getNegativeBase(series, item);
+            double stack2 = positive ? sums.getPositiveBase(series, next) : sums.getNegativeBase(series, next);
+
+            RectangleEdge edge0 = plot.getDomainAxisEdge();
+            RectangleEdge edge1 = plot.getRangeAxisEdge();
+
+            float transX1 = (float) domainAxis.valueToJava2D(x1, dataArea, edge0);
+            float transXLeft = (float) domainAxis.valueToJava2D((x0 + x1) / 2.0, dataArea, edge0);
+            float transXRight = (float) domainAxis.valueToJava2D((x1 + x2) / 2.0, dataArea, edge0);
+            if (getRoundXCoordinates()) {
+                transX1 = Math.round(transX1);
+                transXLeft = Math.round(transXLeft);
+                transXRight = Math.round(transXRight);
+            }
+
+            float transY1 = (float) rangeAxis.valueToJava2D(y1 + stack1, dataArea, edge1);
+            float transStack1 = (float) rangeAxis.valueToJava2D(stack1, dataArea, edge1);
+            float transStackLeft = (float) rangeAxis.valueToJava2D(adjustedStackValue(stack0, stack1), dataArea, edge1);
+            float transStackRight = (float) rangeAxis.valueToJava2D(adjustedStackValue(stack1, stack2), dataArea, edge1);
+
+            boolean vertical = plot.getOrientation() == PlotOrientation.VERTICAL;
+            GeneralPath left = new GeneralPath();
+            if ((y0 >= 0.0) == positive) {
+                float transYLeft = (float) rangeAxis.valueToJava2D((y0 + y1) / 2.0 + (stack0 + stack1) / 2.0, dataArea, edge1);
+                moveTo(left, vertical, transX1, transY1);
+                lineTo(left, vertical, transX1, transStack1);
+                lineTo(left, vertical, transXLeft, transStackLeft);
+                lineTo(left, vertical, transXLeft, transYLeft);
+            } else {
+                moveTo(left, vertical, transX1, transStack1);
+                lineTo(left, vertical, transX1, transY1);
+                lineTo(left, vertical, transXLeft, transStackLeft);
+            }
+            left.closePath();
+
+            GeneralPath right = new GeneralPath();
+            if ((y2 >= 0.0) == positive) {
+                float transYRight = (float) rangeAxis.valueToJava2D((y1 + y2) / 2.0 + (stack1 + stack2) / 2.0, dataArea, edge1);
+                moveTo(right, vertical, transX1, transStack1);
+                lineTo(right, vertical, transX1, transY1);
+                lineTo(right, vertical, transXRight, transYRight);
+                lineTo(right, vertical, transXRight, transStackRight);
+            } else {
+                moveTo(right, vertical, transX1, transStack1);
+                lineTo(right, vertical, transX1, transY1);
+                lineTo(right, vertical, transXRight, transStackRight);
+            }
+            right.closePath();
+
+            if (pass == 0) {
+                g2.setPaint(getItemPaint(series, item));
+                g2.fill(left);
+                g2.fill(right);
+            }
+
+            EntityCollection entities = state.getEntityCollection();
+            if (entities != null) {
+                GeneralPath hotspot = new GeneralPath(left);
+                hotspot.append(right, false);
+                addEntity(entities, hotspot, dataset, series, item, transX1, transY1);
+            }
+        }
+
+        // same as StackedXYAreaRenderer2: the base of a half is flattened to zero next to an empty stack
+        private static double adjustedStackValue(double stack1, double stack2) {
+            return stack1 == 0.0 || stack2 == 0.0 ? 0.0 : (stack1 + stack2) / 2.0;
+        }
+
+        private static double getYValueOrZero(XYDataset dataset, int series, int item) {
+            double result = dataset.getYValue(series, item);
+            return Double.isNaN(result) ? 0.0 : result;
+        }
+
+        private static void moveTo(GeneralPath path, boolean vertical, float x, float y) {
+            if (vertical) {
+                path.moveTo(x, y);
+            } else {
+                path.moveTo(y, x);
+            }
+        }
+
+        private static void lineTo(GeneralPath path, boolean vertical, float x, float y) {
+            if (vertical) {
+                path.lineTo(x, y);
+            } else {
+                path.lineTo(y, x);
+            }
+        }
+
         @Override
         public boolean isItemLabelVisible(int row, int column) {
             return support.isObsLabelVisible(row, column);
@@ -602,6 +1254,11 @@ public abstract class JTimeSeriesRendererSupport implements XYItemLabelGenerator
             return support.isSeriesLabelVisible(series);
         }
 
+        @Override
+        public boolean isSeriesVisible(int series) {
+            return support.isSeriesVisible(series);
+        }
+
         @Override
         public Paint getSeriesPaint(int series) {
             return support.getSeriesColor(series);
@@ -0,0 +1,317 @@
+/*
+ * Copyright 2026 National Bank of Belgium
+ *
+ * Licensed under the EUPL, Version 1.1 or - as soon they will be approved
+ * by the European Commission - subsequent versions of the EUPL (the "Licence");
+ * You may not use this work except in compliance with the Licence.
+ * You may obtain a copy of the Licence at:
+ *
+ * http://ec.europa.eu/idabc/eupl
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the Licence is distributed on an "AS IS" basis,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Licence for the specific language governing permissions and
+ * limitations under the Licence.
+ */
+package ec.util.chart.swing;
+
+import org.jfree.data.xy.XYDataset;
+import org.jspecify.annotations.Nullable;
+
+import javax.swing.*;
+import javax.swing.table.DefaultTableCellRenderer;
+import javax.swing.table.TableCellRenderer;
+import java.awt.*;
+import java.awt.geom.AffineTransform;
+import java.awt.geom.Path2D;
+import java.awt.image.BufferedImage;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * A sparkline renderer that draws the line directly with Java2D instead of
+ * going through a chart, and keeps the drawn images in a LRU cache. An image
+ * is reused as long as the cell shows the same value (by identity) with the
+ * same size, colors and scale, which makes scrolling cheap.
+ * <p>
+ * Values are either <code>double[][]</code> of x and y values, as accepted by
+ * {@link SparklineCellRenderer}, or {@link XYDataset}. Since values are
+ * compared by identity, they must not be modified once rendered.
+ *
+ * @author Philippe Charles
+ * @since 2.7.1
+ */
+public class LightweightSparklineCellRenderer implements ListCellRenderer, TableCellRenderer {
+
+    private static final int DEFAULT_CACHE_SIZE = 512;
+    // same as the default auto range margin of a number axis
+    private static final double MARGIN = 0.05;
+
+    protected final ListCellRenderer listCellRenderer;
+    protected final TableCellRenderer tableCellRenderer;
+    private final SparklineComponent sparkline;
+    private final ImageCache cache;
+
+    public LightweightSparklineCellRenderer() {
+        this(DEFAULT_CACHE_SIZE);
+    }
+
+    /**
+     * Creates a renderer.
+     *
+     * @param cacheSize the maximum number of images kept in cache
+     */
+    public LightweightSparklineCellRenderer(int cacheSize) {
+        this.listCellRenderer = new DefaultListCellRenderer();
+        this.tableCellRenderer = new DefaultTableCellRenderer();
+        this.sparkline = new SparklineComponent();
+        this.cache = new ImageCache(cacheSize);
+    }
+
+    @Override
+    public Component getListCellRendererComponent(JList list, Object value, int index, boolean isSelected, boolean cellHasFocus) {
+        JLabel label = (JLabel) listCellRenderer.getListCellRendererComponent(list, "", index, isSelected, cellHasFocus);
+        return getCellRendererComponent(label, value);
+    }
+
+    @Override
+    public Component getTableCellRendererComponent(JTable table, Object value, boolean isSelected, boolean hasFocus, int row, int column) {
+        JLabel label = (JLabel) tableCellRenderer.getTableCellRendererComponent(table, "", isSelected, hasFocus, row, column);
+        return getCellRendererComponent(label, value);
+    }
+
+    protected Component getCellRendererComponent(JLabel label, Object value) {
+        sparkline.value = value;
+        sparkline.setForeground(label.getForeground());
+        sparkline.setBackground(label.getBackground());
+        sparkline.setBorder(label.getBorder());
+        return sparkline;
+    }
+
+    /**
+     * Removes all the images from the cache.
+     */
+    public void clearCache() {
+        cache.clear();
+    }
+
+    /**
+     * Draws a sparkline.
+     *
+     * @param g2 the target graphics
+     * @param value the value to draw
+     * @param width the width of the area
+     * @param height the height of the area
+     */
+    protected void paintSparkline(Graphics2D g2, Object value, int width, int height) {
+        if (value instanceof double[][]) {
+            double[][] data = (double[][]) value;
+            if (data.length == 2 && data[0].length == data[1].length) {
+                paintLines(g2, new double[][][]{data}, width, height);
+            }
+        } else if (value instanceof XYDataset) {
+            XYDataset dataset = (XYDataset) value;
+            double[][][] data = new double[dataset.getSeriesCount()][][];
+            for (int series = 0; series < data.length; series++) {
+                int count = dataset.getItemCount(series);
+                data[series] = new double[2][count];
+                for (int item = 0; item < count; item++) {
+                    data[series][0][item] = dataset.getXValue(series, item);
+                    data[series][1][item] = dataset.getYValue(series, item);
+                }
+            }
+            paintLines(g2, data, width, height);
+        }
+    }
+
+    private static void paintLines(Graphics2D g2, double[][][] data, int width, int height) {
+        double minX = Double.POSITIVE_INFINITY, maxX = Double.NEGATIVE_INFINITY;
+        double minY = Double.POSITIVE_INFINITY, maxY = Double.NEGATIVE_INFINITY;
+        for (double[][] o : data) {
+            for (int i = 0; i < o[0].length; i++) {
+                double x = o[0][i];
+                double y = o[1][i];
+                if (!Double.isNaN(x) && !Double.isNaN(y)) {
+                    minX = Math.min(minX, x);
+                    maxX = Math.max(maxX, x);
+                    minY = Math.min(minY, y);
+                    maxY = Math.max(maxY, y);
+                }
+            }
+        }
+        if (minX > maxX) {
+            return;
+        }
+        double rangeX = maxX > minX ? maxX - minX : 1;
+        double marginY = maxY > minY ? (maxY - minY) * MARGIN : 1;
+        double lowerY = minY - marginY;
+        double rangeY = maxY + marginY - lowerY;
+        Path2D.Double path = new Path2D.Double();
+        for (double[][] o : data) {
+            boolean connected = false;
+            for (int i = 0; i < o[0].length; i++) {
+                double x = o[0][i];
+                double y = o[1][i];
+                if (Double.isNaN(x) || Double.isNaN(y)) {
+                    connected = false; // gap
+                    continue;
+                }
+                double px = (x - minX) / rangeX * (width - 1);
+                double py = (height - 1) - (y - lowerY) / rangeY * (height - 1);
+                if (connected) {
+                    path.lineTo(px, py);
+                } else {
+                    path.moveTo(px, py);
+                    connected = true;
+                }
+            }
+        }
+        g2.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+        g2.setRenderingHint(RenderingHints.KEY_STROKE_CONTROL, RenderingHints.VALUE_STROKE_PURE);
+        g2.draw(path);
+    }
+
+    //<editor-fold defaultstate="collapsed" desc="Implementation details">
+    private final class SparklineComponent extends JComponent {
+
+        private Object value;
+
+        SparklineComponent() {
+            setOpaque(true);
+        }
+
+        @Override
+        protected void paintComponent(Graphics g) {
+            Insets insets = getInsets();
+            int width = getWidth() - insets.left - insets.right;
+            int height = getHeight() - insets.top - insets.bottom;
+            g.setColor(getBackground());
+            g.fillRect(0, 0, getWidth(), getHeight());
+            if (value == null || width <= 0 || height <= 0) {
+                return;
+            }
+            AffineTransform tx = ((Graphics2D) g).getTransform();
+            double scaleX = tx.getScaleX() > 0 ? tx.getScaleX() : 1;
+            double scaleY = tx.getScaleY() > 0 ? tx.getScaleY() : 1;
+            ImageKey key = new ImageKey(value, width, height, getForeground(), getBackground(), scaleX, scaleY);
+            BufferedImage image = cache.get(key);
+            if (image == null) {
+                image = createImage(key);
+                cache.put(key, image);
+            }
+            g.drawImage(image, insets.left, insets.top, width, height, null);
+        }
+
+        private BufferedImage createImage(ImageKey key) {
+            BufferedImage result = new BufferedImage((int) Math.ceil(key.width * key.scaleX), (int) Math.ceil(key.height * key.scaleY), BufferedImage.TYPE_INT_ARGB);
+            Graphics2D g2 = result.createGraphics();
+            try {
+                g2.setColor(key.background);
+                g2.fillRect(0, 0, result.getWidth(), result.getHeight());
+                g2.scale(key.scaleX, key.scaleY);
+                g2.setColor(key.foreground);
+                paintSparkline(g2, key.value, key.width, key.height);
+            } finally {
+                g2.dispose();
+            }
+            return result;
+        }
+
+        // same as DefaultTableCellRenderer: no events needed for rendering
+        @Override
+        public void invalidate() {
+        }
+
+        @Override
+        public void validate() {
+        }
+
+        @Override
+        public void revalidate() {
+        }
+
+        @Override
+        public void repaint(long tm, int x, int y, int width, int height) {
+        }
+
+        @Override
+        public void repaint(Rectangle r) {
+        }
+
+        @Override
+        public void repaint() {
+        }
+
+        @Override
+        protected void firePropertyChange(String propertyName, Object oldValue, Object newValue) {
+        }
+    }
+
+    private static final class ImageKey {
+
+        private final Object value;
+        private final int width;
+        private final int height;
+        private final Color foreground;
+        private final Color background;
+        private final double scaleX;
+        private final double scaleY;
+
+        private ImageKey(Object value, int width, int height, Color foreground, Color background, double scaleX, double scaleY) {
+            this.value = value;
+            this.width = width;
+            this.height = height;
+            this.foreground = foreground;
+            this.background = background;
+            this.scaleX = scaleX;
+            this.scaleY = scaleY;
+        }
+
+        @Override
+        public int hashCode() {
+            int result = System.identityHashCode(value);
+            result = 31 * result + width;
+            result = 31 * result + height;
+            result = 31 * result + foreground.getRGB();
+            result = 31 * result + background.getRGB();
+            result = 31 * result + Double.hashCode(scaleX);
+            result = 31 * result + Double.hashCode(scaleY);
+            return result;
+        }
+
+        @Override
+        public boolean equals(@Nullable Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof ImageKey)) {
+                return false;
+            }
+            ImageKey that = (ImageKey) obj;
+            return value == that.value
+                    && width == that.width
+                    && height == that.height
+                    && foreground.getRGB() == that.foreground.getRGB()
+                    && background.getRGB() == that.background.getRGB()
+                    && scaleX == that.scaleX
+                    && scaleY == that.scaleY;
+        }
+    }
+
+    private static final class ImageCache extends LinkedHashMap<ImageKey, BufferedImage> {
+
+        private final int maxSize;
+
+        private ImageCache(int maxSize) {
+            super(16, 0.75f, true);
+            this.maxSize = maxSize;
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<ImageKey, BufferedImage> eldest) {
+            return size() > maxSize;
+        }
+    }
+    //</editor-fold>
+}
@@ -0,0 +1,236 @@
+/*
+ * Copyright 2026 National Bank of Belgium
+ *
+ * Licensed under the EUPL, Version 1.1 or - as soon they will be approved
+ * by the European Commission - subsequent versions of the EUPL (the "Licence");
+ * You may not use this work except in compliance with the Licence.
+ * You may obtain a copy of the Licence at:
+ *
+ * http://ec.europa.eu/idabc/eupl
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the Licence is distributed on an "AS IS" basis,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Licence for the specific language governing permissions and
+ * limitations under the Licence.
+ */
+package ec.util.chart.swing;
+
+import ec.util.chart.ObsIndex;
+import ec.util.chart.TimeSeriesChart.RendererType;
+import lombok.NonNull;
+import org.jfree.chart.ChartPanel;
+import org.jfree.chart.axis.ValueAxis;
+import org.jfree.chart.entity.ChartEntity;
+import org.jfree.chart.entity.EntityCollection;
+import org.jfree.chart.entity.StandardEntityCollection;
+import org.jfree.chart.entity.XYItemEntity;
+import org.jfree.chart.plot.CombinedDomainXYPlot;
+import org.jfree.chart.plot.PlotOrientation;
+import org.jfree.chart.plot.PlotRenderingInfo;
+import org.jfree.chart.plot.XYPlot;
+import org.jfree.chart.renderer.xy.XYBarRenderer;
+import org.jfree.chart.renderer.xy.XYItemRenderer;
+import org.jfree.data.xy.IntervalXYDataset;
+import org.jfree.data.xy.XYDataset;
+import org.jfree.ui.RectangleEdge;
+
+import java.awt.*;
+import java.awt.geom.Point2D;
+import java.awt.geom.Rectangle2D;
+import java.util.List;
+
+/**
+ * Resolves the observation under a point without relying on item entities.
+ * The point is inverse-mapped through the axes of the subplot that contains it
+ * and the x values of each series are bisected to find the candidate items,
+ * whose shapes are then tested analytically. Datasets are expected to be
+ * {@link FilteredXYDataset} sorted by x.
+ * <p>
+ * The precedence of the entity lookup is preserved: the first dataset that
+ * has a hit wins and, within a dataset, the nearest item wins.
+ *
+ * @author Philippe Charles
+ */
+final class ObsHitResolver {
+
+    private static final double POINT_TOLERANCE = 4;
+
+    private ObsHitResolver() {
+        // static class
+    }
+
+    /**
+     * Finds the observation under a point of a chart panel.
+     *
+     * @param chartPanel the panel that was last painted
+     * @param mainPlot the combined plot of the chart
+     * @param rendererTypes the renderer types indexed by dataset index
+     * @param point the point in screen coordinates
+     * @return a non-null observation index, {@link ObsIndex#NULL} if none
+     */
+    @NonNull
+    static ObsIndex getObsIndex(@NonNull ChartPanel chartPanel, @NonNull CombinedDomainXYPlot mainPlot, @NonNull List<RendererType> rendererTypes, @NonNull Point point) {
+        PlotRenderingInfo plotInfo = chartPanel.getChartRenderingInfo().getPlotInfo();
+        Point2D p = chartPanel.translateScreenToJava2D(point);
+        int subplotIndex = plotInfo.getSubplotIndex(p);
+        if (subplotIndex == -1 || subplotIndex >= mainPlot.getSubplots().size()) {
+            return ObsIndex.NULL;
+        }
+        XYPlot plot = (XYPlot) mainPlot.getSubplots().get(subplotIndex);
+        Rectangle2D dataArea = plotInfo.getSubplotInfo(subplotIndex).getDataArea();
+        if (!dataArea.contains(p)) {
+            return ObsIndex.NULL;
+        }
+        boolean horizontal = plot.getOrientation() == PlotOrientation.HORIZONTAL;
+        return getObsIndex(plot, dataArea, rendererTypes, horizontal ? p.getY() : p.getX(), horizontal ? p.getX() : p.getY());
+    }
+
+    // package-private for tests: px and py are along the domain and range axes
+    static ObsIndex getObsIndex(XYPlot plot, Rectangle2D dataArea, List<RendererType> rendererTypes, double px, double py) {
+        RectangleEdge domainEdge = plot.getDomainAxisEdge();
+        RectangleEdge rangeEdge = plot.getRangeAxisEdge();
+        for (int index = 0; index < plot.getDatasetCount(); index++) {
+            XYDataset dataset = plot.getDataset(index);
+            XYItemRenderer renderer = plot.getRenderer(index);
+            ValueAxis domainAxis = plot.getDomainAxisForDataset(index);
+            ValueAxis rangeAxis = plot.getRangeAxisForDataset(index);
+            if (!(dataset instanceof FilteredXYDataset) || renderer == null || domainAxis == null || rangeAxis == null || index >= rendererTypes.size()) {
+                continue;
+            }
+            Hit hit = new Hit(dataArea, domainAxis, domainEdge, rangeAxis, rangeEdge);
+            double x = domainAxis.java2DToValue(px, dataArea, domainEdge);
+            for (int series = 0; series < dataset.getSeriesCount(); series++) {
+                int upper = lowerBound(dataset, series, x);
+                for (int item = upper - 1; item <= upper; item++) {
+                    if (item >= 0 && item < dataset.getItemCount(series) && renderer.getItemVisible(series, item)) {
+                        hit.test(rendererTypes.get(index), renderer, dataset, series, item, px, py);
+                    }
+                }
+            }
+            if (hit.series != -1) {
+                return ObsIndex.valueOf(((FilteredXYDataset) dataset).originalIndexOf(hit.series), hit.item);
+            }
+        }
+        return ObsIndex.NULL;
+    }
+
+    /**
+     * Returns the index of the first item whose x value is not less than the
+     * specified value.
+     */
+    static int lowerBound(XYDataset dataset, int series, double x) {
+        int low = 0;
+        int high = dataset.getItemCount(series);
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (dataset.getXValue(series, mid) < x) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private static final class Hit {
+
+        private final Rectangle2D dataArea;
+        private final ValueAxis domainAxis;
+        private final RectangleEdge domainEdge;
+        private final ValueAxis rangeAxis;
+        private final RectangleEdge rangeEdge;
+        private int series = -1;
+        private int item = -1;
+        private double distance = POINT_TOLERANCE;
+
+        private Hit(Rectangle2D dataArea, ValueAxis domainAxis, RectangleEdge domainEdge, ValueAxis rangeAxis, RectangleEdge rangeEdge) {
+            this.dataArea = dataArea;
+            this.domainAxis = domainAxis;
+            this.domainEdge = domainEdge;
+            this.rangeAxis = rangeAxis;
+            this.rangeEdge = rangeEdge;
+        }
+
+        private void test(RendererType type, XYItemRenderer renderer, XYDataset dataset, int series, int item, double px, double py) {
+            double y = dataset.getYValue(series, item);
+            if (Double.isNaN(y)) {
+                return;
+            }
+            double result;
+            switch (type) {
+                case COLUMN:
+                    result = testColumn((XYBarRenderer) renderer, (IntervalXYDataset) dataset, series, item, px, py);
+                    break;
+                case STACKED_COLUMN:
+                    result = testStackedColumn((XYBarRenderer) renderer, (IntervalXYDataset) dataset, series, item, px, py);
+                    break;
+                case AREA:
+                    result = testArea(dataset, series, item, 0, y, px, py);
+                    break;
+                case STACKED_AREA:
+                    double base = ItemGeometry.getStackedBase(renderer, dataset, series, item, y);
+                    result = testArea(dataset, series, item, base, base + y, px, py);
+                    break;
+                default:
+                    result = testPoint(dataset, series, item, y, px, py);
+                    break;
+            }
+            if (result < distance) {
+                this.series = series;
+                this.item = item;
+                this.distance = result;
+            }
+        }
+
+        private double testPoint(XYDataset dataset, int series, int item, double y, double px, double py) {
+            double tx = domainAxis.valueToJava2D(dataset.getXValue(series, item), dataArea, domainEdge);
+            double ty = rangeAxis.valueToJava2D(y, dataArea, rangeEdge);
+            return Point2D.distance(tx, ty, px, py);
+        }
+
+        private double testColumn(XYBarRenderer renderer, IntervalXYDataset dataset, int series, int item, double px, double py) {
+            Rectangle2D bounds = ItemGeometry.getColumnBounds(renderer, dataset, series, item, dataArea, domainAxis, domainEdge, rangeAxis, rangeEdge);
+            return ItemGeometry.contains(bounds, px, py) ? 0 : Double.POSITIVE_INFINITY;
+        }
+
+        private double testStackedColumn(XYBarRenderer renderer, IntervalXYDataset dataset, int series, int item, double px, double py) {
+            Rectangle2D bounds = ItemGeometry.getStackedColumnBounds(renderer, dataset, series, item, dataArea, domainAxis, domainEdge, rangeAxis, rangeEdge);
+            return ItemGeometry.contains(bounds, px, py) ? 0 : Double.POSITIVE_INFINITY;
+        }
+
+        private double testArea(XYDataset dataset, int series, int item, double y0, double y1, double px, double py) {
+            // an area item spans from the middle of its previous segment to the middle of its next one
+            double x = dataset.getXValue(series, item);
+            double x0 = item > 0 ? (dataset.getXValue(series, item - 1) + x) / 2 : x;
+            double x1 = item + 1 < dataset.getItemCount(series) ? (dataset.getXValue(series, item + 1) + x) / 2 : x;
+            Rectangle2D bounds = ItemGeometry.getBounds(
+                    domainAxis.valueToJava2D(x0, dataArea, domainEdge),
+                    domainAxis.valueToJava2D(x1, dataArea, domainEdge),
+                    rangeAxis.valueToJava2D(y0, dataArea, rangeEdge),
+                    rangeAxis.valueToJava2D(y1, dataArea, rangeEdge));
+            return ItemGeometry.contains(bounds, px, py) ? 0 : Double.POSITIVE_INFINITY;
+        }
+    }
+
+    /**
+     * An entity collection that ignores item entities while keeping the
+     * others, such as the legend and plot entities.
+     */
+    static final class ItemlessEntityCollection extends StandardEntityCollection {
+
+        @Override
+        public void add(ChartEntity entity) {
+            if (!(entity instanceof XYItemEntity)) {
+                super.add(entity);
+            }
+        }
+
+        @Override
+        public void addAll(EntityCollection collection) {
+            for (Object o : collection.getEntities()) {
+                add((ChartEntity) o);
+            }
+        }
+    }
+}
@@ -0,0 +1,289 @@
+/*
+ * Copyright 2026 National Bank of Belgium
+ *
+ * Licensed under the EUPL, Version 1.1 or - as soon they will be approved
+ * by the European Commission - subsequent versions of the EUPL (the "Licence");
+ * You may not use this work except in compliance with the Licence.
+ * You may obtain a copy of the Licence at:
+ *
+ * http://ec.europa.eu/idabc/eupl
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the Licence is distributed on an "AS IS" basis,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Licence for the specific language governing permissions and
+ * limitations under the Licence.
+ */
+package ec.util.chart.swing;
+
+import lombok.NonNull;
+import org.jfree.chart.ChartPanel;
+import org.jfree.chart.ChartRenderingInfo;
+import org.jfree.chart.entity.EntityCollection;
+import org.jfree.chart.plot.PlotRenderingInfo;
+import org.jspecify.annotations.Nullable;
+
+import javax.swing.*;
+import java.awt.*;
+import java.awt.geom.AffineTransform;
+import java.awt.geom.Rectangle2D;
+import java.awt.image.BufferedImage;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Draws the frames of a chart panel on a worker thread and hands them to the
+ * EDT through a pair of swapped images. The EDT keeps painting the last
+ * finished frame, scaled to the current size if needed, until a newer one is
+ * ready.
+ * <p>
+ * A frame is requested when the chart has changed or when the size of the
+ * panel differs from the last request. Only the latest request is kept:
+ * queued frames are replaced and a frame that is already stale when it
+ * finishes is discarded. Frames of a renderer are drawn one at a time and
+ * are created on the EDT just before being handed to the worker, once the
+ * previous frame has finished. A {@link Frame} may therefore prepare a chart
+ * on the EDT and leave it to the worker for the duration of the drawing.
+ * <p>
+ * All the methods must be called on the EDT.
+ *
+ * @author Philippe Charles
+ */
+final class OffscreenChartRenderer {
+
+    /**
+     * A self-contained drawing of a chart, executed on a worker thread. It
+     * must not touch any Swing component.
+     */
+    @FunctionalInterface
+    interface Frame {
+
+        /**
+         * Draws the chart.
+         *
+         * @param g2 the graphics of the offscreen image
+         * @param area the area to draw into
+         * @return the rendering info of the drawn chart
+         */
+        @NonNull
+        ChartRenderingInfo draw(@NonNull Graphics2D g2, @NonNull Rectangle2D area);
+    }
+
+    private static final ExecutorService EXECUTOR = newExecutor();
+
+    private final ChartPanel chartPanel;
+    private volatile long generation;
+    private boolean disposed;
+    private boolean dirty;
+    private boolean running;
+    @Nullable
+    private Request requested;
+    @Nullable
+    private Request pending;
+    // double buffer: the front image is painted by the EDT, the back image is drawn by the worker
+    @Nullable
+    private BufferedImage front;
+    @Nullable
+    private BufferedImage back;
+    private int frontWidth;
+    private int frontHeight;
+
+    OffscreenChartRenderer(@NonNull ChartPanel chartPanel) {
+        this.chartPanel = chartPanel;
+        this.generation = 0;
+        this.disposed = false;
+        this.dirty = true;
+        this.running = false;
+    }
+
+    /**
+     * Marks the current frame as out of date.
+     */
+    void invalidate() {
+        dirty = true;
+    }
+
+    /**
+     * Paints the last finished frame and requests a new one if needed.
+     *
+     * @param g2 the graphics of the panel
+     * @param area the area of the chart in the panel
+     * @param frames a factory of frames, called later on the EDT if a new
+     * frame is needed and not replaced by a newer request in the meantime
+     * @return true if the painted frame matches the requested area, false if
+     * nothing was painted or if the frame was scaled
+     */
+    boolean paint(@NonNull Graphics2D g2, @NonNull Rectangle area, @NonNull Supplier<Frame> frames) {
+        if (area.isEmpty()) {
+            return false;
+        }
+        AffineTransform tx = g2.getTransform();
+        double scaleX = tx.getScaleX() > 0 ? tx.getScaleX() : 1;
+        double scaleY = tx.getScaleY() > 0 ? tx.getScaleY() : 1;
+        if (dirty || requested == null || !requested.hasSize(area.width, area.height, scaleX, scaleY)) {
+            dirty = false;
+            request(new Request(frames, area.width, area.height, scaleX, scaleY));
+        }
+        if (front == null) {
+            return false;
+        }
+        boolean exact = frontWidth == area.width && frontHeight == area.height;
+        Graphics2D g = (Graphics2D) g2.create();
+        try {
+            if (!exact) {
+                g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            }
+            g.drawImage(front, area.x, area.y, area.width, area.height, null);
+        } finally {
+            g.dispose();
+        }
+        return exact;
+    }
+
+    /**
+     * Cancels the pending frames and releases the images.
+     */
+    void dispose() {
+        disposed = true;
+        generation++;
+        requested = null;
+        pending = null;
+        front = null;
+        back = null;
+    }
+
+    private void request(Request request) {
+        request.generation = ++generation;
+        requested = request;
+        pending = request; // replaces any queued frame
+        if (!running) {
+            submitNext();
+        }
+    }
+
+    private void submitNext() {
+        Request request = pending;
+        BufferedImage target = back;
+        pending = null;
+        back = null;
+        running = true;
+        // no other frame is running, so the factory may reuse the objects of the previous frame
+        Frame frame = request.frames.get();
+        EXECUTOR.execute(() -> {
+            Result result = request.generation == generation ? render(request, frame, target) : null;
+            SwingUtilities.invokeLater(() -> onRendered(request, result, target));
+        });
+    }
+
+    private void onRendered(Request request, @Nullable Result result, @Nullable BufferedImage target) {
+        running = false;
+        if (disposed) {
+            return;
+        }
+        // a stale frame is still better than nothing
+        if (result != null && (request.generation == generation || front == null)) {
+            back = front;
+            front = result.image;
+            frontWidth = request.width;
+            frontHeight = request.height;
+            copyRenderingInfo(result.info, chartPanel.getChartRenderingInfo());
+            chartPanel.repaint();
+        } else {
+            back = result != null ? result.image : target;
+        }
+        if (pending != null) {
+            submitNext();
+        }
+    }
+
+    private static Result render(Request request, Frame frame, @Nullable BufferedImage target) {
+        int width = (int) Math.ceil(request.width * request.scaleX);
+        int height = (int) Math.ceil(request.height * request.scaleY);
+        BufferedImage image = target != null && target.getWidth() == width && target.getHeight() == height
+                ? target
+                : new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g2 = image.createGraphics();
+        try {
+            g2.setComposite(AlphaComposite.Clear);
+            g2.fillRect(0, 0, width, height);
+            g2.setComposite(AlphaComposite.SrcOver);
+            g2.scale(request.scaleX, request.scaleY);
+            ChartRenderingInfo info = frame.draw(g2, new Rectangle2D.Double(0, 0, request.width, request.height));
+            return new Result(image, info);
+        } catch (RuntimeException ex) {
+            Logger.getLogger(OffscreenChartRenderer.class.getName()).log(Level.WARNING, "Failed to render chart offscreen", ex);
+            return null;
+        } finally {
+            g2.dispose();
+        }
+    }
+
+    /**
+     * Copies the areas and the entities of a rendering info into the info of
+     * a panel, which cannot be replaced.
+     */
+    private static void copyRenderingInfo(ChartRenderingInfo source, ChartRenderingInfo target) {
+        target.clear();
+        target.setChartArea(source.getChartArea());
+        PlotRenderingInfo sourcePlot = source.getPlotInfo();
+        PlotRenderingInfo targetPlot = target.getPlotInfo();
+        targetPlot.setPlotArea(sourcePlot.getPlotArea());
+        targetPlot.setDataArea(sourcePlot.getDataArea());
+        for (int i = 0; i < sourcePlot.getSubplotCount(); i++) {
+            targetPlot.addSubplotInfo(sourcePlot.getSubplotInfo(i));
+        }
+        EntityCollection entities = target.getEntityCollection();
+        if (entities != null && source.getEntityCollection() != null) {
+            entities.addAll(source.getEntityCollection());
+        }
+    }
+
+    private static ExecutorService newExecutor() {
+        int threads = Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        ThreadPoolExecutor result = new ThreadPoolExecutor(threads, threads, 10, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), runnable -> {
+            Thread thread = new Thread(runnable, "OffscreenChartRenderer");
+            thread.setDaemon(true);
+            return thread;
+        });
+        result.allowCoreThreadTimeOut(true);
+        return result;
+    }
+
+    private static final class Request {
+
+        private final Supplier<Frame> frames;
+        private final int width;
+        private final int height;
+        private final double scaleX;
+        private final double scaleY;
+        private long generation;
+
+        private Request(Supplier<Frame> frames, int width, int height, double scaleX, double scaleY) {
+            this.frames = frames;
+            this.width = width;
+            this.height = height;
+            this.scaleX = scaleX;
+            this.scaleY = scaleY;
+        }
+
+        private boolean hasSize(int width, int height, double scaleX, double scaleY) {
+            return this.width == width && this.height == height && this.scaleX == scaleX && this.scaleY == scaleY;
+        }
+    }
+
+    private static final class Result {
+
+        private final BufferedImage image;
+        private final ChartRenderingInfo info;
+
+        private Result(BufferedImage image, ChartRenderingInfo info) {
+            this.image = image;
+            this.info = info;
+        }
+    }
+}
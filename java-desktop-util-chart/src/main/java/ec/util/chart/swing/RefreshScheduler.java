@@ -0,0 +1,224 @@
+/*
+ * Copyright 2026 National Bank of Belgium
+ *
+ * Licensed under the EUPL, Version 1.1 or - as soon they will be approved
+ * by the European Commission - subsequent versions of the EUPL (the "Licence");
+ * You may not use this work except in compliance with the Licence.
+ * You may obtain a copy of the Licence at:
+ *
+ * http://ec.europa.eu/idabc/eupl
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the Licence is distributed on an "AS IS" basis,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Licence for the specific language governing permissions and
+ * limitations under the Licence.
+ */
+package ec.util.chart.swing;
+
+import lombok.NonNull;
+
+import javax.swing.*;
+import javax.swing.event.AncestorEvent;
+import javax.swing.event.AncestorListener;
+import java.awt.*;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Runs the refresh tasks of many components on the EDT, in frames whose
+ * total duration is capped so that a screen full of charts stays responsive.
+ * <p>
+ * A task coalesces its requests and runs at most a given number of times per
+ * second. The tasks of a component that is displayed but out of view, such
+ * as a chart scrolled out of a scroll pane, are deferred until it comes into
+ * view. The tasks of the component that holds the focus run first.
+ *
+ * @author Philippe Charles
+ */
+final class RefreshScheduler {
+
+    private static final RefreshScheduler DEFAULT = new RefreshScheduler(16, 12);
+
+    /**
+     * Gets the scheduler shared by all the charts.
+     *
+     * @return a non-null scheduler
+     */
+    @NonNull
+    static RefreshScheduler getDefault() {
+        return DEFAULT;
+    }
+
+    private final long framePeriod;
+    private final long frameBudget;
+    private final List<Task> queue;
+    private final Timer timer;
+
+    /**
+     * Creates a scheduler.
+     *
+     * @param framePeriod the minimum delay between two frames, in
+     * milliseconds
+     * @param frameBudget the time after which a frame stops running tasks, in
+     * milliseconds
+     */
+    RefreshScheduler(int framePeriod, int frameBudget) {
+        this.framePeriod = framePeriod;
+        this.frameBudget = TimeUnit.MILLISECONDS.toNanos(frameBudget);
+        this.queue = new ArrayList<>();
+        this.timer = new Timer(0, event -> runFrame());
+        this.timer.setRepeats(false);
+    }
+
+    /**
+     * Creates a task.
+     *
+     * @param component the component refreshed by the task
+     * @param action the action to run on the EDT
+     * @param maxRate the maximum number of runs per second, zero or less for
+     * no limit
+     * @return a non-null task
+     */
+    @NonNull
+    Task newTask(@NonNull JComponent component, @NonNull Runnable action, int maxRate) {
+        return new Task(component, action, maxRate);
+    }
+
+    final class Task {
+
+        private final JComponent component;
+        private final Runnable action;
+        private final AtomicBoolean requested;
+        private int maxRate;
+        private long lastRun;
+        // only accessed on the EDT
+        private boolean queued;
+
+        private Task(JComponent component, Runnable action, int maxRate) {
+            this.component = component;
+            this.action = action;
+            this.requested = new AtomicBoolean(false);
+            this.maxRate = maxRate;
+            this.lastRun = System.nanoTime() - TimeUnit.SECONDS.toNanos(1);
+            this.queued = false;
+            // a deferred task is queued again when its component comes into view
+            component.addAncestorListener(new AncestorListener() {
+                @Override
+                public void ancestorAdded(AncestorEvent event) {
+                    enqueue();
+                }
+
+                @Override
+                public void ancestorRemoved(AncestorEvent event) {
+                }
+
+                @Override
+                public void ancestorMoved(AncestorEvent event) {
+                    enqueue();
+                }
+            });
+        }
+
+        void setMaxRate(int maxRate) {
+            this.maxRate = maxRate;
+        }
+
+        /**
+         * Requests a run of the action. May be called from any thread.
+         */
+        void request() {
+            if (requested.compareAndSet(false, true)) {
+                if (SwingUtilities.isEventDispatchThread()) {
+                    enqueue();
+                } else {
+                    SwingUtilities.invokeLater(this::enqueue);
+                }
+            }
+        }
+
+        private void enqueue() {
+            if (requested.get() && !queued && !isDeferred()) {
+                queued = true;
+                queue.add(this);
+                schedule(0);
+            }
+        }
+
+        private boolean isDeferred() {
+            // components that are not displayed, such as offscreen charts, are never deferred
+            return component.isDisplayable() && (!component.isShowing() || component.getVisibleRect().isEmpty());
+        }
+
+        private boolean isFocused() {
+            Component owner = KeyboardFocusManager.getCurrentKeyboardFocusManager().getFocusOwner();
+            return owner != null && SwingUtilities.isDescendingFrom(owner, component);
+        }
+
+        private long getNextRun() {
+            return maxRate > 0 ? lastRun + TimeUnit.SECONDS.toNanos(1) / maxRate : lastRun;
+        }
+
+        private void run() {
+            // requests made by the action itself are served by the next run
+            requested.set(false);
+            lastRun = System.nanoTime();
+            action.run();
+        }
+    }
+
+    private void schedule(long delayMillis) {
+        int delay = (int) Math.max(0, delayMillis);
+        if (!timer.isRunning() || timer.getInitialDelay() > delay) {
+            timer.setInitialDelay(delay);
+            timer.restart();
+        }
+    }
+
+    private void runFrame() {
+        long start = System.nanoTime();
+        long nextRun = Long.MAX_VALUE;
+        boolean overBudget = false;
+        moveFocusedFirst();
+        // tasks queued by the running tasks are served in the same frame
+        for (int i = 0; i < queue.size(); ) {
+            Task task = queue.get(i);
+            if (task.isDeferred()) {
+                queue.remove(i);
+                task.queued = false;
+                continue;
+            }
+            long now = System.nanoTime();
+            if (task.getNextRun() > now) {
+                nextRun = Math.min(nextRun, task.getNextRun());
+                i++;
+                continue;
+            }
+            if (now - start >= frameBudget) {
+                overBudget = true;
+                break;
+            }
+            queue.remove(i);
+            task.queued = false;
+            task.run();
+        }
+        if (overBudget) {
+            schedule(framePeriod);
+        } else if (nextRun != Long.MAX_VALUE) {
+            schedule(Math.max(1, TimeUnit.NANOSECONDS.toMillis(nextRun - System.nanoTime())));
+        }
+    }
+
+    private void moveFocusedFirst() {
+        int focused = 0;
+        for (int i = 0; i < queue.size(); i++) {
+            Task task = queue.get(i);
+            if (task.isFocused()) {
+                queue.remove(i);
+                queue.add(focused++, task);
+            }
+        }
+    }
+}
@@ -0,0 +1,347 @@
+/*
+ * Copyright 2026 National Bank of Belgium
+ *
+ * Licensed under the EUPL, Version 1.1 or - as soon they will be approved
+ * by the European Commission - subsequent versions of the EUPL (the "Licence");
+ * You may not use this work except in compliance with the Licence.
+ * You may obtain a copy of the Licence at:
+ *
+ * http://ec.europa.eu/idabc/eupl
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the Licence is distributed on an "AS IS" basis,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Licence for the specific language governing permissions and
+ * limitations under the Licence.
+ */
+package ec.util.chart.swing;
+
+import lombok.NonNull;
+import org.jfree.data.DomainOrder;
+import org.jfree.data.time.TimePeriodAnchor;
+import org.jfree.data.xy.AbstractIntervalXYDataset;
+
+import java.time.LocalDate;
+import java.time.Period;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * An immutable interval dataset of regular time series. Each series is only
+ * made of a start period, a frequency and its values; the x values are
+ * derived from the position of the observations.
+ * <p>
+ * The bounds of the periods are computed once per frequency and shared by all
+ * the series whose start is aligned on it, so that a series costs little more
+ * than its values. Like {@link org.jfree.data.time.TimeSeriesCollection}, the
+ * start and end x values of an observation are the first and last
+ * milliseconds of its period.
+ *
+ * @author Philippe Charles
+ * @since 2.7.1
+ */
+public final class RegularXYDataset extends AbstractIntervalXYDataset {
+
+    @NonNull
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    private final Series[] series;
+    private final TimePeriodAnchor anchor;
+
+    private RegularXYDataset(Series[] series, TimePeriodAnchor anchor) {
+        this.series = series;
+        this.anchor = anchor;
+    }
+
+    @Override
+    public int getSeriesCount() {
+        return series.length;
+    }
+
+    @Override
+    public Comparable getSeriesKey(int series) {
+        return this.series[series].key;
+    }
+
+    @Override
+    public int getItemCount(int series) {
+        return this.series[series].values.length;
+    }
+
+    @Override
+    public DomainOrder getDomainOrder() {
+        return DomainOrder.ASCENDING;
+    }
+
+    @Override
+    public double getXValue(int series, int item) {
+        Series o = this.series[series];
+        long first = o.timeline.bounds[o.offset + item];
+        long last = o.timeline.bounds[o.offset + item + 1] - 1;
+        if (anchor == TimePeriodAnchor.START) {
+            return first;
+        }
+        if (anchor == TimePeriodAnchor.END) {
+            return last;
+        }
+        return first + (last - first) / 2;
+    }
+
+    @Override
+    public double getYValue(int series, int item) {
+        return this.series[series].values[item];
+    }
+
+    @Override
+    public double getStartXValue(int series, int item) {
+        Series o = this.series[series];
+        return o.timeline.bounds[o.offset + item];
+    }
+
+    @Override
+    public double getEndXValue(int series, int item) {
+        Series o = this.series[series];
+        return o.timeline.bounds[o.offset + item + 1] - 1;
+    }
+
+    @Override
+    public double getStartYValue(int series, int item) {
+        return getYValue(series, item);
+    }
+
+    @Override
+    public double getEndYValue(int series, int item) {
+        return getYValue(series, item);
+    }
+
+    @Override
+    public Number getX(int series, int item) {
+        return getXValue(series, item);
+    }
+
+    @Override
+    public Number getY(int series, int item) {
+        return getYValue(series, item);
+    }
+
+    @Override
+    public Number getStartX(int series, int item) {
+        return getStartXValue(series, item);
+    }
+
+    @Override
+    public Number getEndX(int series, int item) {
+        return getEndXValue(series, item);
+    }
+
+    @Override
+    public Number getStartY(int series, int item) {
+        return getStartYValue(series, item);
+    }
+
+    @Override
+    public Number getEndY(int series, int item) {
+        return getEndYValue(series, item);
+    }
+
+    public static final class Builder {
+
+        private final List<Entry> entries = new ArrayList<>();
+        private ZoneId zone = ZoneId.systemDefault();
+        private TimePeriodAnchor anchor = TimePeriodAnchor.MIDDLE;
+
+        private Builder() {
+        }
+
+        /**
+         * Adds a regular series.
+         *
+         * @param key the series key
+         * @param start the first day of the first period
+         * @param frequency the length of a period, such as one month or three
+         * months
+         * @param values the values, one per period, copied so that the dataset
+         * cannot change afterwards
+         * @return this builder
+         */
+        @NonNull
+        public Builder series(@NonNull Comparable<?> key, @NonNull LocalDate start, @NonNull Period frequency, double @NonNull [] values) {
+            if (frequency.isZero() || frequency.isNegative()) {
+                throw new IllegalArgumentException("Frequency must be positive");
+            }
+            entries.add(new Entry(key, start, frequency.normalized(), values.clone()));
+            return this;
+        }
+
+        /**
+         * Sets the time zone used to convert the periods into milliseconds.
+         *
+         * @param zone the time zone, the system default if not set
+         * @return this builder
+         */
+        @NonNull
+        public Builder zone(@NonNull ZoneId zone) {
+            this.zone = zone;
+            return this;
+        }
+
+        /**
+         * Sets the position of the x values within their periods.
+         *
+         * @param anchor the anchor, {@link TimePeriodAnchor#MIDDLE} if not set
+         * @return this builder
+         */
+        @NonNull
+        public Builder anchor(@NonNull TimePeriodAnchor anchor) {
+            this.anchor = anchor;
+            return this;
+        }
+
+        @NonNull
+        public RegularXYDataset build() {
+            List<TimelineBuilder> timelines = new ArrayList<>();
+            TimelineBuilder[] timelineOf = new TimelineBuilder[entries.size()];
+            for (int i = 0; i < timelineOf.length; i++) {
+                timelineOf[i] = getTimeline(timelines, entries.get(i));
+            }
+            Timeline[] built = new Timeline[timelines.size()];
+            for (int i = 0; i < built.length; i++) {
+                built[i] = timelines.get(i).build(zone);
+            }
+            Series[] result = new Series[entries.size()];
+            for (int i = 0; i < result.length; i++) {
+                Entry entry = entries.get(i);
+                TimelineBuilder timeline = timelineOf[i];
+                int offset = (int) Timeline.stepsBetween(timeline.origin, entry.start, entry.frequency);
+                result[i] = new Series(entry.key, built[timelines.indexOf(timeline)], offset, entry.values);
+            }
+            return new RegularXYDataset(result, anchor);
+        }
+
+        private static TimelineBuilder getTimeline(List<TimelineBuilder> timelines, Entry entry) {
+            for (TimelineBuilder o : timelines) {
+                if (o.accept(entry)) {
+                    return o;
+                }
+            }
+            TimelineBuilder result = new TimelineBuilder(entry);
+            timelines.add(result);
+            return result;
+        }
+    }
+
+    //<editor-fold defaultstate="collapsed" desc="Implementation details">
+    private static final class Series {
+
+        final Comparable<?> key;
+        final Timeline timeline;
+        final int offset;
+        final double[] values;
+
+        Series(Comparable<?> key, Timeline timeline, int offset, double[] values) {
+            this.key = key;
+            this.timeline = timeline;
+            this.offset = offset;
+            this.values = values;
+        }
+    }
+
+    /**
+     * The first milliseconds of consecutive periods, plus the first
+     * millisecond after the last one.
+     */
+    private static final class Timeline {
+
+        private static final long NOT_ALIGNED = Long.MIN_VALUE;
+
+        final long[] bounds;
+
+        Timeline(long[] bounds) {
+            this.bounds = bounds;
+        }
+
+        /**
+         * Computes the number of periods between two dates, without
+         * iterating.
+         *
+         * @return a number of periods, possibly negative, or
+         * {@link #NOT_ALIGNED} if the dates are not a whole number of periods
+         * apart
+         */
+        static long stepsBetween(LocalDate from, LocalDate to, Period frequency) {
+            if (from.equals(to)) {
+                return 0;
+            }
+            if (frequency.getDays() == 0) {
+                long months = (to.getYear() * 12L + to.getMonthValue()) - (from.getYear() * 12L + from.getMonthValue());
+                long step = frequency.toTotalMonths();
+                return to.getDayOfMonth() == from.getDayOfMonth() && months % step == 0 ? months / step : NOT_ALIGNED;
+            }
+            if (frequency.toTotalMonths() == 0) {
+                long days = to.toEpochDay() - from.toEpochDay();
+                long step = frequency.getDays();
+                return days % step == 0 ? days / step : NOT_ALIGNED;
+            }
+            return NOT_ALIGNED;
+        }
+    }
+
+    private static final class TimelineBuilder {
+
+        private final Period frequency;
+        private LocalDate origin;
+        // number of periods from the origin
+        private long length;
+
+        TimelineBuilder(Entry entry) {
+            this.frequency = entry.frequency;
+            this.origin = entry.start;
+            this.length = entry.values.length;
+        }
+
+        boolean accept(Entry entry) {
+            if (!frequency.equals(entry.frequency)) {
+                return false;
+            }
+            long steps = Timeline.stepsBetween(origin, entry.start, frequency);
+            if (steps == Timeline.NOT_ALIGNED) {
+                return false;
+            }
+            if (steps < 0) {
+                origin = entry.start;
+                length -= steps;
+                steps = 0;
+            }
+            length = Math.max(length, steps + entry.values.length);
+            return true;
+        }
+
+        Timeline build(ZoneId zone) {
+            long[] result = new long[Math.toIntExact(length + 1)];
+            for (int i = 0; i < result.length; i++) {
+                // computed from the origin to avoid the drift of end-of-month days
+                result[i] = origin.plus(frequency.multipliedBy(i)).atStartOfDay(zone).toInstant().toEpochMilli();
+            }
+            return new Timeline(result);
+        }
+    }
+
+    private static final class Entry {
+
+        final Comparable<?> key;
+        final LocalDate start;
+        final Period frequency;
+        final double[] values;
+
+        Entry(Comparable<?> key, LocalDate start, Period frequency, double[] values) {
+            this.key = key;
+            this.start = start;
+            this.frequency = frequency;
+            this.values = values;
+        }
+    }
+    //</editor-fold>
+}
@@ -0,0 +1,229 @@
+/*
+ * Copyright 2026 National Bank of Belgium
+ *
+ * Licensed under the EUPL, Version 1.1 or - as soon they will be approved
+ * by the European Commission - subsequent versions of the EUPL (the "Licence");
+ * You may not use this work except in compliance with the Licence.
+ * You may obtain a copy of the Licence at:
+ *
+ * http://ec.europa.eu/idabc/eupl
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the Licence is distributed on an "AS IS" basis,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Licence for the specific language governing permissions and
+ * limitations under the Licence.
+ */
+package ec.util.chart.swing;
+
+import org.jfree.chart.axis.ValueAxis;
+import org.jfree.chart.plot.XYPlot;
+import org.jfree.data.DomainOrder;
+import org.jfree.data.Range;
+import org.jfree.data.general.DatasetChangeEvent;
+import org.jfree.data.general.DatasetChangeListener;
+import org.jfree.data.xy.XYDataset;
+import org.jfree.ui.RectangleEdge;
+
+import java.awt.geom.Rectangle2D;
+import java.util.Arrays;
+import java.util.BitSet;
+
+/**
+ * Pixel-aware decimation of the items of a dataset. For each pixel column of
+ * the data area, only the first, last, lowest and highest items are kept so
+ * that the drawn shape is visually identical while the number of drawn items
+ * is bounded by the width of the chart. Item indexes are never remapped.
+ * Only the visible items of a sorted series are scanned.
+ * <p>
+ * When the dataset supports it, the kept items of very dense series are read
+ * from the level-of-detail pyramid of {@link SeriesRangeIndex} instead of
+ * being computed from every visible item.
+ * <p>
+ * The kept items are cached until the dataset changes or the data area or
+ * the domain axis range changes, so that repainting an unchanged view, for
+ * example on hovering or selection, doesn't compute them again.
+ *
+ * @author Philippe Charles
+ */
+final class SeriesDecimator implements DatasetChangeListener {
+
+    // items per pixel column above which a series is decimated
+    private static final int DENSITY_THRESHOLD = 4;
+
+    private XYDataset dataset = null;
+    private ValueAxis domainAxis = null;
+    private RectangleEdge domainAxisEdge = null;
+    private Rectangle2D dataArea = null;
+    private BitSet[] masks = new BitSet[0];
+    private boolean[] computed = new boolean[0];
+    // view of the cached masks, null if out of date
+    private Object[] key = null;
+
+    /**
+     * Prepares this decimator for a new rendering pass. Must be called from
+     * the renderer initialisation.
+     *
+     * @param enabled true if decimation is requested
+     * @param plot the plot being rendered
+     * @param dataset the dataset being rendered
+     * @param dataArea the data area
+     */
+    void reset(boolean enabled, XYPlot plot, XYDataset dataset, Rectangle2D dataArea) {
+        XYDataset target = enabled ? dataset : null;
+        if (this.dataset != target) {
+            if (this.dataset != null) {
+                this.dataset.removeChangeListener(this);
+            }
+            if (target != null) {
+                target.addChangeListener(this);
+            }
+            this.dataset = target;
+            this.key = null;
+        }
+        if (target != null) {
+            this.domainAxis = plot.getDomainAxisForDataset(plot.indexOf(target));
+            this.domainAxisEdge = plot.getDomainAxisEdge();
+            this.dataArea = dataArea;
+            int seriesCount = target.getSeriesCount();
+            Object[] newKey = {
+                dataArea.getBounds2D(), domainAxisEdge,
+                domainAxis != null ? domainAxis.getRange() : null, domainAxis != null && domainAxis.isInverted()
+            };
+            if (!Arrays.equals(key, newKey) || masks.length != seriesCount) {
+                this.key = newKey;
+                this.masks = new BitSet[seriesCount];
+                this.computed = new boolean[seriesCount];
+            }
+        } else {
+            this.domainAxis = null;
+            this.dataArea = null;
+        }
+    }
+
+    @Override
+    public void datasetChanged(DatasetChangeEvent event) {
+        key = null;
+    }
+
+    boolean isEnabled() {
+        return dataset != null && domainAxis != null;
+    }
+
+    boolean isKept(int series, int item) {
+        BitSet mask = getMask(series);
+        return mask == null || mask.get(item);
+    }
+
+    /**
+     * Returns the index of the previous kept item or -1 if none.
+     */
+    int previousKept(int series, int item) {
+        BitSet mask = getMask(series);
+        return mask == null ? item - 1 : (item > 0 ? mask.previousSetBit(item - 1) : -1);
+    }
+
+    /**
+     * Returns the index of the next kept item or -1 if none.
+     */
+    int nextKept(int series, int item) {
+        BitSet mask = getMask(series);
+        if (mask == null) {
+            return item + 1 < dataset.getItemCount(series) ? item + 1 : -1;
+        }
+        return mask.nextSetBit(item + 1);
+    }
+
+    private BitSet getMask(int series) {
+        if (!isEnabled() || series >= masks.length) {
+            return null;
+        }
+        if (!computed[series]) {
+            masks[series] = computeMask(series);
+            computed[series] = true;
+        }
+        return masks[series];
+    }
+
+    private BitSet computeMask(int series) {
+        if (SeriesRangeIndex.isSupported(dataset)) {
+            double length = RectangleEdge.isTopOrBottom(domainAxisEdge) ? dataArea.getWidth() : dataArea.getHeight();
+            BitSet result = SeriesRangeIndex.findLevelOfDetail(dataset, series, domainAxis.getLowerBound(), domainAxis.getUpperBound(), length);
+            if (result != null) {
+                return result;
+            }
+            // not available yet: the next paint must ask again
+            key = null;
+        }
+        return computeMinMax(dataset, series, domainAxis, dataArea, domainAxisEdge);
+    }
+
+    /**
+     * Computes the items to keep using a min/max-per-pixel-column strategy.
+     * The items of a sorted series that are outside the range of the domain
+     * axis are skipped, except the ones next to the visible items.
+     *
+     * @return a mask of kept items or null if all items must be kept
+     */
+    static BitSet computeMinMax(XYDataset dataset, int series, ValueAxis domainAxis, Rectangle2D dataArea, RectangleEdge edge) {
+        int itemCount = dataset.getItemCount(series);
+        int from = 0;
+        int to = itemCount;
+        if (dataset.getDomainOrder() == DomainOrder.ASCENDING) {
+            // same items as the ones iterated by the plot
+            Range range = domainAxis.getRange();
+            from = Math.max(SeriesRangeIndex.lowerBound(dataset, series, range.getLowerBound(), itemCount) - 1, 0);
+            to = Math.min(SeriesRangeIndex.upperBound(dataset, series, range.getUpperBound(), itemCount) + 1, itemCount);
+        }
+        double length = RectangleEdge.isTopOrBottom(edge) ? dataArea.getWidth() : dataArea.getHeight();
+        if (to - from <= DENSITY_THRESHOLD * Math.max(length, 1)) {
+            return null;
+        }
+
+        BitSet result = new BitSet(itemCount);
+        result.set(0);
+        result.set(itemCount - 1);
+
+        long column = Long.MIN_VALUE;
+        int first = -1, last = -1, min = -1, max = -1;
+        double minY = Double.NaN, maxY = Double.NaN;
+
+        for (int item = from; item < to; item++) {
+            double x = domainAxis.valueToJava2D(dataset.getXValue(series, item), dataArea, edge);
+            long current = Double.isNaN(x) ? column : (long) Math.floor(x);
+            if (current != column) {
+                keep(result, first, last, min, max);
+                column = current;
+                first = item;
+                min = max = -1;
+                minY = maxY = Double.NaN;
+            }
+            last = item;
+            double y = dataset.getYValue(series, item);
+            if (!Double.isNaN(y)) {
+                if (min == -1 || y < minY) {
+                    min = item;
+                    minY = y;
+                }
+                if (max == -1 || y > maxY) {
+                    max = item;
+                    maxY = y;
+                }
+            }
+        }
+        keep(result, first, last, min, max);
+
+        return result;
+    }
+
+    private static void keep(BitSet mask, int first, int last, int min, int max) {
+        if (first != -1) {
+            mask.set(first);
+            mask.set(last);
+        }
+        if (min != -1) {
+            mask.set(min);
+            mask.set(max);
+        }
+    }
+}
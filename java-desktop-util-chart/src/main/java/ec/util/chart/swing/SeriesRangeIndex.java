@@ -0,0 +1,489 @@
+/*
+ * Copyright 2026 National Bank of Belgium
+ *
+ * Licensed under the EUPL, Version 1.1 or - as soon they will be approved
+ * by the European Commission - subsequent versions of the EUPL (the "Licence");
+ * You may not use this work except in compliance with the Licence.
+ * You may obtain a copy of the Licence at:
+ *
+ * http://ec.europa.eu/idabc/eupl
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the Licence is distributed on an "AS IS" basis,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Licence for the specific language governing permissions and
+ * limitations under the Licence.
+ */
+package ec.util.chart.swing;
+
+import lombok.NonNull;
+import org.jfree.chart.axis.ValueAxis;
+import org.jfree.chart.plot.XYPlot;
+import org.jfree.chart.renderer.xy.XYItemRenderer;
+import org.jfree.data.DomainOrder;
+import org.jfree.data.Range;
+import org.jfree.data.general.DatasetChangeEvent;
+import org.jfree.data.general.DatasetChangeListener;
+import org.jfree.data.xy.XYDataset;
+import org.jspecify.annotations.Nullable;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * An index of the y bounds of the series of a dataset that answers the range
+ * of the values within an x interval in logarithmic time. Each series is
+ * summarized by a pyramid of min/max values: the first level holds the bounds
+ * of blocks of consecutive items and each next level merges pairs of the
+ * previous one. The items of the interval are found by bisection, so the
+ * x values must be sorted.
+ * <p>
+ * The pyramid also keeps the position of its min/max values, which makes it
+ * a level-of-detail index: the items to draw for a given pixel width are the
+ * first, last, lowest and highest items of the blocks of the level that
+ * matches the visible range.
+ * <p>
+ * Indexes are cached per original dataset instance and invalidated by its change
+ * events. Only a {@link StreamingXYDataset} tells which series grew without
+ * evicting items: the new blocks of these series are computed whereas any
+ * other change rebuilds the series index. The range bounds update a series index on
+ * the calling thread. So does the level of detail, except for the immutable
+ * {@link ColumnarXYDataset} and {@link RegularXYDataset} that can be read
+ * safely off the EDT: their index is updated on a background thread and is
+ * unavailable in the meantime.
+ *
+ * @author Philippe Charles
+ */
+final class SeriesRangeIndex implements DatasetChangeListener {
+
+    private static final WeakIdentityCache<XYDataset, SeriesRangeIndex> CACHE = new WeakIdentityCache<>();
+    private static final ExecutorService EXECUTOR = newExecutor();
+
+    /**
+     * Checks if the range bounds of a dataset can be computed by an index.
+     *
+     * @param dataset the dataset of a renderer
+     * @return true if supported, false otherwise
+     */
+    static boolean isSupported(@Nullable XYDataset dataset) {
+        return dataset instanceof FilteredXYDataset && dataset.getDomainOrder() == DomainOrder.ASCENDING;
+    }
+
+    /**
+     * Finds the range bounds of the visible series of a renderer within the
+     * current range of its domain axis, like
+     * {@link org.jfree.chart.renderer.xy.AbstractXYItemRenderer#findRangeBounds(XYDataset)}.
+     *
+     * @param renderer the renderer
+     * @param dataset a supported dataset
+     * @return the range, null if no value
+     */
+    @Nullable
+    static Range findRangeBounds(@NonNull XYItemRenderer renderer, @NonNull XYDataset dataset) {
+        FilteredXYDataset filtered = (FilteredXYDataset) dataset;
+        XYDataset original = filtered.getOriginal();
+        Range xRange = getDomainRange(renderer);
+        double lower = xRange != null ? xRange.getLowerBound() : Double.NEGATIVE_INFINITY;
+        double upper = xRange != null ? xRange.getUpperBound() : Double.POSITIVE_INFINITY;
+        SeriesRangeIndex index = of(original);
+        double[] bounds = {Double.POSITIVE_INFINITY, Double.NEGATIVE_INFINITY};
+        for (int series = 0; series < filtered.getSeriesCount(); series++) {
+            if (renderer.isSeriesVisible(series)) {
+                index.collect(original, filtered.originalIndexOf(series), lower, upper, bounds);
+            }
+        }
+        return bounds[0] <= bounds[1] ? new Range(bounds[0], bounds[1]) : null;
+    }
+
+    /**
+     * Finds the items of a series to draw at a given pixel resolution. The
+     * mask covers the visible items plus the items on each side of them,
+     * which are the ones iterated by the plot.
+     *
+     * @param dataset a supported dataset
+     * @param series the series index in the dataset
+     * @param lower the lower bound of the visible x values
+     * @param upper the upper bound of the visible x values
+     * @param length the length of the domain axis in pixels
+     * @return a mask of the items to draw, null if the visible items are not
+     * dense enough or if the index of the series is not up to date yet
+     */
+    @Nullable
+    static BitSet findLevelOfDetail(@NonNull XYDataset dataset, int series, double lower, double upper, double length) {
+        FilteredXYDataset filtered = (FilteredXYDataset) dataset;
+        XYDataset original = filtered.getOriginal();
+        return of(original).levelOfDetail(original, filtered.originalIndexOf(series), lower, upper, length);
+    }
+
+    private static SeriesRangeIndex of(XYDataset original) {
+        synchronized (CACHE) {
+            return CACHE.computeIfAbsent(original, o -> {
+                SeriesRangeIndex result = new SeriesRangeIndex();
+                o.addChangeListener(result);
+                return result;
+            });
+        }
+    }
+
+    @Nullable
+    private static Range getDomainRange(XYItemRenderer renderer) {
+        // same as AbstractXYItemRenderer: visible series within the current x range
+        XYPlot plot = renderer.getPlot();
+        if (plot == null) {
+            return null;
+        }
+        int index = plot.getIndexOf(renderer);
+        ValueAxis axis = index >= 0 ? plot.getDomainAxisForDataset(index) : null;
+        return axis != null ? axis.getRange() : null;
+    }
+
+    private SeriesPyramid[] series = new SeriesPyramid[0];
+    private int modCount = 0;
+    // series being updated in background
+    private final BitSet updating = new BitSet();
+
+    private SeriesRangeIndex() {
+    }
+
+    @Override
+    public synchronized void datasetChanged(DatasetChangeEvent event) {
+        modCount++;
+    }
+
+    private synchronized void collect(XYDataset original, int series, double lower, double upper, double[] bounds) {
+        getUpToDate(original, series).collect(original, series, lower, upper, bounds);
+    }
+
+    @Nullable
+    private synchronized BitSet levelOfDetail(XYDataset original, int series, double lower, double upper, double length) {
+        if (!isImmutable(original)) {
+            // mutable datasets are only read on their own thread
+            return getUpToDate(original, series).levelOfDetail(original, series, lower, upper, length);
+        }
+        SeriesPyramid pyramid = series < this.series.length ? this.series[series] : null;
+        if (pyramid == null || pyramid.modCount != modCount) {
+            scheduleUpdate(original, series, pyramid);
+            return null;
+        }
+        return pyramid.levelOfDetail(original, series, lower, upper, length);
+    }
+
+    private SeriesPyramid getUpToDate(XYDataset original, int series) {
+        if (series >= this.series.length) {
+            this.series = Arrays.copyOf(this.series, original.getSeriesCount());
+        }
+        SeriesPyramid pyramid = this.series[series];
+        if (pyramid == null) {
+            pyramid = this.series[series] = new SeriesPyramid();
+            pyramid.update(original, series, modCount);
+        } else if (pyramid.modCount != modCount) {
+            pyramid.update(original, series, modCount);
+        }
+        return pyramid;
+    }
+
+    private static boolean isImmutable(XYDataset original) {
+        return original instanceof ColumnarXYDataset || original instanceof RegularXYDataset;
+    }
+
+    private void scheduleUpdate(XYDataset original, int series, @Nullable SeriesPyramid pyramid) {
+        if (updating.get(series)) {
+            return;
+        }
+        updating.set(series);
+        int expected = modCount;
+        // the copy is updated outside the lock while the current pyramid still answers the range bounds
+        SeriesPyramid copy = pyramid != null ? pyramid.copy() : new SeriesPyramid();
+        EXECUTOR.execute(() -> {
+            boolean done;
+            try {
+                copy.update(original, series, expected);
+                done = true;
+            } catch (RuntimeException ex) {
+                // the next request reschedules it
+                done = false;
+            }
+            synchronized (this) {
+                updating.clear(series);
+                if (done && modCount == expected) {
+                    if (series >= this.series.length) {
+                        this.series = Arrays.copyOf(this.series, series + 1);
+                    }
+                    this.series[series] = copy;
+                }
+            }
+        });
+    }
+
+    /**
+     * Returns the index of the first item whose x value is not less than the
+     * specified value.
+     */
+    static int lowerBound(XYDataset data, int series, double x, int count) {
+        int low = 0;
+        int high = count;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (data.getXValue(series, mid) < x) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Returns the index of the first item whose x value is greater than the
+     * specified value.
+     */
+    static int upperBound(XYDataset data, int series, double x, int count) {
+        int low = 0;
+        int high = count;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (data.getXValue(series, mid) <= x) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private static ExecutorService newExecutor() {
+        ThreadPoolExecutor result = new ThreadPoolExecutor(1, 1, 10, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), runnable -> {
+            Thread thread = new Thread(runnable, "SeriesRangeIndex");
+            thread.setDaemon(true);
+            thread.setPriority(Thread.MIN_PRIORITY);
+            return thread;
+        });
+        result.allowCoreThreadTimeOut(true);
+        return result;
+    }
+
+    private static final class SeriesPyramid {
+
+        private static final int BLOCK_SIZE = 32;
+
+        private int modCount;
+        private int count;
+        // evicted items of an append-only series, -1 if unknown
+        private long evicted = -1;
+        // levels of min/max values and of their items, level 0 has one entry per block
+        private double[][] mins = new double[0][];
+        private double[][] maxs = new double[0][];
+        private int[][] argMins = new int[0][];
+        private int[][] argMaxs = new int[0][];
+
+        SeriesPyramid copy() {
+            SeriesPyramid result = new SeriesPyramid();
+            result.modCount = modCount;
+            result.count = count;
+            result.evicted = evicted;
+            result.mins = deepCopy(mins);
+            result.maxs = deepCopy(maxs);
+            result.argMins = deepCopy(argMins);
+            result.argMaxs = deepCopy(argMaxs);
+            return result;
+        }
+
+        void update(XYDataset data, int series, int modCount) {
+            long newEvicted = data instanceof StreamingXYDataset ? ((StreamingXYDataset) data).getEvictedCount(series) : -1;
+            int newCount = data.getItemCount(series);
+            if (!isAppended(newCount, newEvicted)) {
+                count = 0;
+            }
+            if (newCount != count) {
+                extend(data, series, newCount);
+            }
+            this.evicted = newEvicted;
+            this.modCount = modCount;
+        }
+
+        private boolean isAppended(int newCount, long newEvicted) {
+            // any other change, even batched, may have modified the indexed items
+            return count > 0 && newCount >= count && newEvicted >= 0 && newEvicted == evicted;
+        }
+
+        private void extend(XYDataset data, int series, int newCount) {
+            int firstBlock = count / BLOCK_SIZE;
+            int blockCount = (newCount + BLOCK_SIZE - 1) / BLOCK_SIZE;
+            ensureLevels(blockCount);
+            for (int block = firstBlock; block < blockCount; block++) {
+                double min = Double.POSITIVE_INFINITY;
+                double max = Double.NEGATIVE_INFINITY;
+                int argMin = -1;
+                int argMax = -1;
+                for (int item = block * BLOCK_SIZE; item < Math.min(newCount, (block + 1) * BLOCK_SIZE); item++) {
+                    double y = data.getYValue(series, item);
+                    if (y < min) {
+                        min = y;
+                        argMin = item;
+                    }
+                    if (y > max) {
+                        max = y;
+                        argMax = item;
+                    }
+                }
+                mins[0][block] = min;
+                maxs[0][block] = max;
+                argMins[0][block] = argMin;
+                argMaxs[0][block] = argMax;
+            }
+            int from = firstBlock;
+            int length = blockCount;
+            for (int level = 1; level < mins.length; level++) {
+                int previousLength = length;
+                from >>= 1;
+                length = (length + 1) >> 1;
+                for (int i = from; i < length; i++) {
+                    int left = i * 2;
+                    int right = left + 1 < previousLength ? left + 1 : left;
+                    int min = mins[level - 1][right] < mins[level - 1][left] ? right : left;
+                    int max = maxs[level - 1][right] > maxs[level - 1][left] ? right : left;
+                    mins[level][i] = mins[level - 1][min];
+                    maxs[level][i] = maxs[level - 1][max];
+                    argMins[level][i] = argMins[level - 1][min];
+                    argMaxs[level][i] = argMaxs[level - 1][max];
+                }
+            }
+            count = newCount;
+        }
+
+        private void ensureLevels(int blockCount) {
+            int levelCount = 1;
+            for (int length = blockCount; length > 1; length = (length + 1) >> 1) {
+                levelCount++;
+            }
+            if (mins.length < levelCount) {
+                mins = Arrays.copyOf(mins, levelCount);
+                maxs = Arrays.copyOf(maxs, levelCount);
+                argMins = Arrays.copyOf(argMins, levelCount);
+                argMaxs = Arrays.copyOf(argMaxs, levelCount);
+            }
+            for (int level = 0; level < mins.length; level++) {
+                int length = lengthOf(level, blockCount);
+                if (mins[level] == null || mins[level].length < length) {
+                    // doubled to amortize appends
+                    int capacity = Math.max(length, mins[level] != null ? mins[level].length * 2 : 0);
+                    mins[level] = mins[level] != null ? Arrays.copyOf(mins[level], capacity) : new double[capacity];
+                    maxs[level] = maxs[level] != null ? Arrays.copyOf(maxs[level], capacity) : new double[capacity];
+                    argMins[level] = argMins[level] != null ? Arrays.copyOf(argMins[level], capacity) : new int[capacity];
+                    argMaxs[level] = argMaxs[level] != null ? Arrays.copyOf(argMaxs[level], capacity) : new int[capacity];
+                }
+            }
+        }
+
+        private static int lengthOf(int level, int blockCount) {
+            int result = blockCount;
+            for (int i = 0; i < level; i++) {
+                result = (result + 1) >> 1;
+            }
+            return result;
+        }
+
+        void collect(XYDataset data, int series, double lower, double upper, double[] bounds) {
+            int from = lowerBound(data, series, lower, count);
+            int to = upperBound(data, series, upper, count);
+            if (from >= to) {
+                return;
+            }
+            int firstBlock = (from + BLOCK_SIZE - 1) / BLOCK_SIZE;
+            int lastBlock = to / BLOCK_SIZE;
+            if (firstBlock >= lastBlock) {
+                collectItems(data, series, from, to, bounds);
+                return;
+            }
+            collectItems(data, series, from, firstBlock * BLOCK_SIZE, bounds);
+            collectItems(data, series, lastBlock * BLOCK_SIZE, to, bounds);
+            // bottom-up query over the full blocks [firstBlock, lastBlock)
+            int left = firstBlock;
+            int right = lastBlock;
+            for (int level = 0; left < right; level++) {
+                if ((left & 1) == 1) {
+                    collectEntry(level, left++, bounds);
+                }
+                if ((right & 1) == 1) {
+                    collectEntry(level, --right, bounds);
+                }
+                left >>= 1;
+                right >>= 1;
+            }
+        }
+
+        @Nullable
+        BitSet levelOfDetail(XYDataset data, int series, double lower, double upper, double length) {
+            int from = lowerBound(data, series, lower, count);
+            int to = upperBound(data, series, upper, count);
+            // at least two blocks per pixel so that a block never spans several pixel columns
+            long itemsPerBlock = (long) ((to - from) / (2 * Math.max(length, 1)));
+            if (itemsPerBlock < BLOCK_SIZE) {
+                return null;
+            }
+            int level = Math.min(mins.length - 1, 63 - Long.numberOfLeadingZeros(itemsPerBlock / BLOCK_SIZE));
+            int blockSize = BLOCK_SIZE << level;
+            int firstBlock = (from + blockSize - 1) / blockSize;
+            int lastBlock = to / blockSize;
+            BitSet result = new BitSet(count);
+            // items iterated by the plot around the visible ones
+            result.set(0);
+            result.set(count - 1);
+            result.set(Math.max(from - 1, 0));
+            result.set(Math.min(to, count - 1));
+            // partial blocks on the edges
+            result.set(from, Math.min(firstBlock * blockSize, to));
+            result.set(Math.max(lastBlock * blockSize, from), to);
+            for (int block = firstBlock; block < lastBlock; block++) {
+                result.set(block * blockSize);
+                result.set((block + 1) * blockSize - 1);
+                if (argMins[level][block] != -1) {
+                    result.set(argMins[level][block]);
+                    result.set(argMaxs[level][block]);
+                }
+            }
+            return result;
+        }
+
+        private void collectEntry(int level, int index, double[] bounds) {
+            if (mins[level][index] < bounds[0]) {
+                bounds[0] = mins[level][index];
+            }
+            if (maxs[level][index] > bounds[1]) {
+                bounds[1] = maxs[level][index];
+            }
+        }
+
+        private static void collectItems(XYDataset data, int series, int from, int to, double[] bounds) {
+            for (int item = from; item < to; item++) {
+                double y = data.getYValue(series, item);
+                if (y < bounds[0]) {
+                    bounds[0] = y;
+                }
+                if (y > bounds[1]) {
+                    bounds[1] = y;
+                }
+            }
+        }
+
+        private static double[][] deepCopy(double[][] values) {
+            double[][] result = new double[values.length][];
+            for (int i = 0; i < values.length; i++) {
+                result[i] = values[i] != null ? values[i].clone() : null;
+            }
+            return result;
+        }
+
+        private static int[][] deepCopy(int[][] values) {
+            int[][] result = new int[values.length][];
+            for (int i = 0; i < values.length; i++) {
+                result[i] = values[i] != null ? values[i].clone() : null;
+            }
+            return result;
+        }
+    }
+}
@@ -0,0 +1,315 @@
+/*
+ * Copyright 2026 National Bank of Belgium
+ *
+ * Licensed under the EUPL, Version 1.1 or - as soon they will be approved
+ * by the European Commission - subsequent versions of the EUPL (the "Licence");
+ * You may not use this work except in compliance with the Licence.
+ * You may obtain a copy of the Licence at:
+ *
+ * http://ec.europa.eu/idabc/eupl
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the Licence is distributed on an "AS IS" basis,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Licence for the specific language governing permissions and
+ * limitations under the Licence.
+ */
+package ec.util.chart.swing;
+
+import lombok.NonNull;
+import org.jfree.chart.ChartPanel;
+import org.jfree.chart.axis.ValueAxis;
+import org.jfree.chart.entity.LegendItemEntity;
+import org.jfree.chart.plot.PlotOrientation;
+import org.jfree.chart.plot.XYPlot;
+import org.jfree.chart.renderer.xy.XYItemRenderer;
+import org.jfree.data.Range;
+import org.jfree.data.general.DatasetChangeListener;
+import org.jfree.data.xy.XYDataset;
+import org.jfree.ui.RectangleEdge;
+import org.jspecify.annotations.Nullable;
+
+import java.awt.geom.Rectangle2D;
+import java.util.Arrays;
+import java.util.BitSet;
+
+/**
+ * A screen-space index of the segments drawn by the series of a plot. The
+ * data area is divided into a uniform grid and each segment is registered in
+ * the cells that it crosses (plus a tolerance), so that finding the series
+ * under a point only looks at a single cell.
+ * <p>
+ * Only the visible series of the renderers are indexed. Indexes are cached per
+ * chart panel and per plot. They are rebuilt when the data area, the plot
+ * orientation, the axis ranges or their inversion, the datasets or the
+ * visibility of their series change.
+ *
+ * @author Philippe Charles
+ */
+final class SeriesSegmentIndex {
+
+    private static final int CELL_SIZE = 8;
+
+    /**
+     * Gets an up-to-date index of a plot, building it if necessary.
+     *
+     * @param chartPanel the panel that owns the cache
+     * @param plot the plot to index
+     * @param dataArea the current data area of the plot
+     * @param tolerance the maximum distance between a point and a segment
+     * @return a non-null index
+     */
+    @NonNull
+    static SeriesSegmentIndex of(@NonNull ChartPanel chartPanel, @NonNull XYPlot plot, @NonNull Rectangle2D dataArea, int tolerance) {
+        @SuppressWarnings("unchecked")
+        WeakIdentityCache<XYPlot, SeriesSegmentIndex> cache = (WeakIdentityCache<XYPlot, SeriesSegmentIndex>) chartPanel.getClientProperty(SeriesSegmentIndex.class);
+        if (cache == null) {
+            cache = new WeakIdentityCache<>();
+            chartPanel.putClientProperty(SeriesSegmentIndex.class, cache);
+        }
+        SeriesSegmentIndex result = cache.get(plot);
+        if (result == null || !result.isValid(plot, dataArea, tolerance)) {
+            if (result != null) {
+                result.dispose();
+            }
+            result = new SeriesSegmentIndex(plot, dataArea, tolerance);
+            cache.put(plot, result);
+        }
+        return result;
+    }
+
+    private final Rectangle2D dataArea;
+    private final int tolerance;
+    private final PlotOrientation orientation;
+    private final XYDataset[] datasets;
+    private final Range[] domainRanges;
+    private final Range[] rangeRanges;
+    private final boolean[] domainInversions;
+    private final boolean[] rangeInversions;
+    private final BitSet[] visibleSeries;
+    private final DatasetChangeListener invalidator;
+    private volatile boolean dirty;
+
+    // grid
+    private final int columns;
+    private final int rows;
+    private final int[][] cells;
+    private final int[] cellSizes;
+
+    // segments
+    private int segmentCount;
+    private int[] segmentDatasets;
+    private int[] segmentSeries;
+    private float[] coordinates;
+
+    private SeriesSegmentIndex(XYPlot plot, Rectangle2D dataArea, int tolerance) {
+        this.dataArea = (Rectangle2D) dataArea.clone();
+        this.tolerance = tolerance;
+        this.orientation = plot.getOrientation();
+        this.datasets = new XYDataset[plot.getDatasetCount()];
+        this.domainRanges = new Range[datasets.length];
+        this.rangeRanges = new Range[datasets.length];
+        this.domainInversions = new boolean[datasets.length];
+        this.rangeInversions = new boolean[datasets.length];
+        this.visibleSeries = new BitSet[datasets.length];
+        this.invalidator = event -> dirty = true;
+        this.dirty = false;
+
+        this.columns = Math.max(1, (int) Math.ceil(dataArea.getWidth() / CELL_SIZE));
+        this.rows = Math.max(1, (int) Math.ceil(dataArea.getHeight() / CELL_SIZE));
+        this.cells = new int[columns * rows][];
+        this.cellSizes = new int[columns * rows];
+
+        this.segmentCount = 0;
+        this.segmentDatasets = new int[64];
+        this.segmentSeries = new int[64];
+        this.coordinates = new float[64 * 4];
+
+        for (int i = 0; i < datasets.length; i++) {
+            XYDataset dataset = plot.getDataset(i);
+            ValueAxis domainAxis = plot.getDomainAxisForDataset(i);
+            ValueAxis rangeAxis = plot.getRangeAxisForDataset(i);
+            datasets[i] = dataset;
+            domainRanges[i] = domainAxis != null ? domainAxis.getRange() : null;
+            rangeRanges[i] = rangeAxis != null ? rangeAxis.getRange() : null;
+            domainInversions[i] = domainAxis != null && domainAxis.isInverted();
+            rangeInversions[i] = rangeAxis != null && rangeAxis.isInverted();
+            visibleSeries[i] = getVisibleSeries(plot, i);
+            if (dataset != null && domainAxis != null && rangeAxis != null) {
+                dataset.addChangeListener(invalidator);
+                index(plot, i, dataset, domainAxis, rangeAxis);
+            }
+        }
+    }
+
+    private boolean isValid(XYPlot plot, Rectangle2D dataArea, int tolerance) {
+        if (dirty || this.tolerance != tolerance || !this.dataArea.equals(dataArea)
+                || orientation != plot.getOrientation() || datasets.length != plot.getDatasetCount()) {
+            return false;
+        }
+        for (int i = 0; i < datasets.length; i++) {
+            if (datasets[i] != plot.getDataset(i)) {
+                return false;
+            }
+            ValueAxis domainAxis = plot.getDomainAxisForDataset(i);
+            ValueAxis rangeAxis = plot.getRangeAxisForDataset(i);
+            if (domainAxis != null && (!domainAxis.getRange().equals(domainRanges[i]) || domainAxis.isInverted() != domainInversions[i])) {
+                return false;
+            }
+            if (rangeAxis != null && (!rangeAxis.getRange().equals(rangeRanges[i]) || rangeAxis.isInverted() != rangeInversions[i])) {
+                return false;
+            }
+            if (!visibleSeries[i].equals(getVisibleSeries(plot, i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static BitSet getVisibleSeries(XYPlot plot, int datasetIndex) {
+        BitSet result = new BitSet();
+        XYDataset dataset = plot.getDataset(datasetIndex);
+        if (dataset != null) {
+            XYItemRenderer renderer = plot.getRendererForDataset(dataset);
+            for (int series = 0; series < dataset.getSeriesCount(); series++) {
+                if (renderer == null || renderer.isSeriesVisible(series)) {
+                    result.set(series);
+                }
+            }
+        }
+        return result;
+    }
+
+    private void dispose() {
+        for (XYDataset o : datasets) {
+            if (o != null) {
+                o.removeChangeListener(invalidator);
+            }
+        }
+    }
+
+    /**
+     * Finds the series whose drawn line is the nearest to a point.
+     *
+     * @param x the x coordinate in Java2D space
+     * @param y the y coordinate in Java2D space
+     * @return a fake legend entity identifying the series, null if none
+     */
+    @Nullable
+    LegendItemEntity getSeriesForPoint(double x, double y) {
+        int column = (int) Math.floor((x - dataArea.getMinX()) / CELL_SIZE);
+        int row = (int) Math.floor((y - dataArea.getMinY()) / CELL_SIZE);
+        if (column < 0 || column >= columns || row < 0 || row >= rows) {
+            return null;
+        }
+        int cell = row * columns + column;
+        int[] segments = cells[cell];
+        int best = -1;
+        double bestDistance = tolerance;
+        for (int i = 0; i < cellSizes[cell]; i++) {
+            int segment = segments[i];
+            int offset = segment * 4;
+            double distance = Charts.ptSegDist(coordinates[offset], coordinates[offset + 1], coordinates[offset + 2], coordinates[offset + 3], x, y);
+            if (distance < bestDistance) {
+                bestDistance = distance;
+                best = segment;
+            }
+        }
+        if (best == -1) {
+            return null;
+        }
+        XYDataset dataset = datasets[segmentDatasets[best]];
+        return Charts.createFakeLegendItemEntity(dataset, dataset.getSeriesKey(segmentSeries[best]));
+    }
+
+    private void index(XYPlot plot, int datasetIndex, XYDataset dataset, ValueAxis domainAxis, ValueAxis rangeAxis) {
+        RectangleEdge domainAxisEdge = plot.getDomainAxisEdge();
+        RectangleEdge rangeAxisEdge = plot.getRangeAxisEdge();
+        boolean horizontal = orientation == PlotOrientation.HORIZONTAL;
+        for (int series = visibleSeries[datasetIndex].nextSetBit(0); series >= 0; series = visibleSeries[datasetIndex].nextSetBit(series + 1)) {
+            float x0 = Float.NaN;
+            float y0 = Float.NaN;
+            for (int item = 0; item < dataset.getItemCount(series); item++) {
+                double tx = domainAxis.valueToJava2D(dataset.getXValue(series, item), dataArea, domainAxisEdge);
+                double ty = rangeAxis.valueToJava2D(dataset.getYValue(series, item), dataArea, rangeAxisEdge);
+                if (Double.isNaN(tx) || Double.isNaN(ty)) {
+                    continue;
+                }
+                float x1 = (float) (horizontal ? ty : tx);
+                float y1 = (float) (horizontal ? tx : ty);
+                if (Float.isNaN(x0)) {
+                    // first point is a degenerated segment
+                    add(datasetIndex, series, x1, y1, x1, y1);
+                } else if ((int) x0 != (int) x1 || (int) y0 != (int) y1) {
+                    add(datasetIndex, series, x0, y0, x1, y1);
+                } else {
+                    continue; // same pixel as previous point
+                }
+                x0 = x1;
+                y0 = y1;
+            }
+        }
+    }
+
+    private void add(int datasetIndex, int series, float x0, float y0, float x1, float y1) {
+        // relative to the grid
+        double ax = x0 - dataArea.getMinX();
+        double ay = y0 - dataArea.getMinY();
+        double dx = x1 - x0;
+        double dy = y1 - y0;
+
+        int firstColumn = Math.max(0, (int) Math.floor((Math.min(ax, ax + dx) - tolerance) / CELL_SIZE));
+        int lastColumn = Math.min(columns - 1, (int) Math.floor((Math.max(ax, ax + dx) + tolerance) / CELL_SIZE));
+        int firstRow = Math.max(0, (int) Math.floor((Math.min(ay, ay + dy) - tolerance) / CELL_SIZE));
+        int lastRow = Math.min(rows - 1, (int) Math.floor((Math.max(ay, ay + dy) + tolerance) / CELL_SIZE));
+        if (firstColumn > lastColumn || firstRow > lastRow) {
+            return; // outside of data area
+        }
+
+        int segment = segmentCount++;
+        if (segment == segmentDatasets.length) {
+            segmentDatasets = Arrays.copyOf(segmentDatasets, segment * 2);
+            segmentSeries = Arrays.copyOf(segmentSeries, segment * 2);
+            coordinates = Arrays.copyOf(coordinates, segment * 2 * 4);
+        }
+        segmentDatasets[segment] = datasetIndex;
+        segmentSeries[segment] = series;
+        coordinates[segment * 4] = x0;
+        coordinates[segment * 4 + 1] = y0;
+        coordinates[segment * 4 + 2] = x1;
+        coordinates[segment * 4 + 3] = y1;
+
+        // walks the rows crossed by the segment: a point within the tolerance
+        // of the segment is within the tolerance of its part in the row band
+        for (int row = firstRow; row <= lastRow; row++) {
+            double t0 = 0;
+            double t1 = 1;
+            if (dy != 0) {
+                double lower = (row * CELL_SIZE - tolerance - ay) / dy;
+                double upper = ((row + 1) * CELL_SIZE + tolerance - ay) / dy;
+                t0 = Math.max(0, Math.min(lower, upper));
+                t1 = Math.min(1, Math.max(lower, upper));
+                if (t0 > t1) {
+                    continue;
+                }
+            }
+            double xa = ax + t0 * dx;
+            double xb = ax + t1 * dx;
+            int from = Math.max(firstColumn, (int) Math.floor((Math.min(xa, xb) - tolerance) / CELL_SIZE));
+            int to = Math.min(lastColumn, (int) Math.floor((Math.max(xa, xb) + tolerance) / CELL_SIZE));
+            for (int column = from; column <= to; column++) {
+                addToCell(row * columns + column, segment);
+            }
+        }
+    }
+
+    private void addToCell(int cell, int segment) {
+        int[] segments = cells[cell];
+        if (segments == null) {
+            segments = cells[cell] = new int[4];
+        } else if (cellSizes[cell] == segments.length) {
+            segments = cells[cell] = Arrays.copyOf(segments, segments.length * 2);
+        }
+        segments[cellSizes[cell]++] = segment;
+    }
+}
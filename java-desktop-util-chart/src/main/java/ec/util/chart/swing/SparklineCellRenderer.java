@@ -53,6 +53,9 @@ public class SparklineCellRenderer implements ListCellRenderer, TableCellRendere
     }
 
     protected XYDataset getDataset(Object value) {
+        if (value instanceof XYDataset) {
+            return (XYDataset) value;
+        }
         if (value instanceof double[][]) {
             DefaultXYDataset result = new DefaultXYDataset();
             result.addSeries("", (double[][]) value);
@@ -0,0 +1,341 @@
+/*
+ * Copyright 2026 National Bank of Belgium
+ *
+ * Licensed under the EUPL, Version 1.1 or - as soon they will be approved
+ * by the European Commission - subsequent versions of the EUPL (the "Licence");
+ * You may not use this work except in compliance with the Licence.
+ * You may obtain a copy of the Licence at:
+ *
+ * http://ec.europa.eu/idabc/eupl
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the Licence is distributed on an "AS IS" basis,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Licence for the specific language governing permissions and
+ * limitations under the Licence.
+ */
+package ec.util.chart.swing;
+
+import lombok.NonNull;
+import org.jfree.data.DomainOrder;
+import org.jfree.data.xy.AbstractIntervalXYDataset;
+
+import javax.swing.*;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * An interval dataset fed by producer threads that keeps the latest
+ * observations of each series in a ring buffer of bounded capacity. Once a
+ * series is full, each new observation evicts the oldest one.
+ * <p>
+ * Series and observations can be added from any thread. They are queued and
+ * applied on the EDT, which then fires a single change event for all the
+ * observations received in the meantime. The dataset therefore only changes
+ * on the EDT and painting always reads a consistent state. The x values of a
+ * series must be appended in ascending order.
+ *
+ * @author Philippe Charles
+ * @since 2.7.1
+ */
+public final class StreamingXYDataset extends AbstractIntervalXYDataset {
+
+    private final int capacity;
+    private final Object lock;
+    // guarded by lock
+    private final List<Comparable<?>> pendingKeys;
+    private Ring[] pendingRings;
+    private double[] lastX;
+    private boolean syncScheduled;
+    // confined to the EDT
+    private Comparable<?>[] keys;
+    private Ring[] rings;
+
+    /**
+     * Creates an empty dataset.
+     *
+     * @param capacity the maximum number of observations kept per series
+     */
+    public StreamingXYDataset(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity must be positive");
+        }
+        this.capacity = capacity;
+        this.lock = new Object();
+        this.pendingKeys = new ArrayList<>();
+        this.pendingRings = new Ring[0];
+        this.lastX = new double[0];
+        this.syncScheduled = false;
+        this.keys = new Comparable<?>[0];
+        this.rings = new Ring[0];
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * Adds a new empty series. May be called from any thread.
+     * <p>
+     * Like the observations, the series is applied later on the EDT: it is
+     * not part of {@link #getSeriesCount()} until then. Observations can
+     * nevertheless be appended to the returned index right away.
+     *
+     * @param key the series key
+     * @return the index that the new series will have
+     */
+    public int addSeries(@NonNull Comparable<?> key) {
+        synchronized (lock) {
+            int result = pendingKeys.size();
+            pendingKeys.add(key);
+            pendingRings = Arrays.copyOf(pendingRings, result + 1);
+            pendingRings[result] = new Ring(capacity);
+            lastX = Arrays.copyOf(lastX, result + 1);
+            lastX[result] = Double.NEGATIVE_INFINITY;
+            scheduleSync();
+            return result;
+        }
+    }
+
+    /**
+     * Appends an observation that has no width. May be called from any
+     * thread.
+     *
+     * @param series the series index
+     * @param x the x value, not less than the previous one
+     * @param y the y value
+     */
+    public void append(int series, double x, double y) {
+        append(series, x, x, x, y);
+    }
+
+    /**
+     * Appends an observation. May be called from any thread.
+     *
+     * @param series the series index
+     * @param x the x value, not less than the previous one
+     * @param startX the start of the interval
+     * @param endX the end of the interval
+     * @param y the y value
+     */
+    public void append(int series, double x, double startX, double endX, double y) {
+        synchronized (lock) {
+            if (series < 0 || series >= pendingKeys.size()) {
+                throw new IndexOutOfBoundsException("Invalid series index: " + series);
+            }
+            if (x < lastX[series]) {
+                throw new IllegalArgumentException("X values must be appended in ascending order");
+            }
+            lastX[series] = x;
+            pendingRings[series].add(x, startX, endX, y);
+            scheduleSync();
+        }
+    }
+
+    private void scheduleSync() {
+        if (!syncScheduled) {
+            syncScheduled = true;
+            SwingUtilities.invokeLater(this::sync);
+        }
+    }
+
+    private void sync() {
+        synchronized (lock) {
+            syncScheduled = false;
+            int oldSize = keys.length;
+            if (oldSize < pendingKeys.size()) {
+                keys = pendingKeys.toArray(new Comparable<?>[0]);
+                rings = Arrays.copyOf(rings, keys.length);
+                for (int i = oldSize; i < rings.length; i++) {
+                    rings[i] = new Ring(capacity);
+                }
+            }
+            for (int i = 0; i < rings.length; i++) {
+                rings[i].addAll(pendingRings[i]);
+                pendingRings[i].clear();
+            }
+        }
+        fireDatasetChanged();
+    }
+
+    /**
+     * Gets the number of observations evicted from a series since its
+     * creation. Between two changes of this dataset, a series whose count is
+     * unchanged has only received new observations at its end.
+     *
+     * @param series the series index
+     * @return a non-negative number
+     */
+    long getEvictedCount(int series) {
+        return rings[series].evicted;
+    }
+
+    @Override
+    public int getSeriesCount() {
+        return keys.length;
+    }
+
+    @Override
+    public Comparable getSeriesKey(int series) {
+        return keys[series];
+    }
+
+    @Override
+    public int getItemCount(int series) {
+        return rings[series].size;
+    }
+
+    @Override
+    public DomainOrder getDomainOrder() {
+        return DomainOrder.ASCENDING;
+    }
+
+    @Override
+    public double getXValue(int series, int item) {
+        Ring ring = rings[series];
+        return ring.x[ring.indexOf(item)];
+    }
+
+    @Override
+    public double getYValue(int series, int item) {
+        Ring ring = rings[series];
+        return ring.y[ring.indexOf(item)];
+    }
+
+    @Override
+    public double getStartXValue(int series, int item) {
+        Ring ring = rings[series];
+        return ring.startX[ring.indexOf(item)];
+    }
+
+    @Override
+    public double getEndXValue(int series, int item) {
+        Ring ring = rings[series];
+        return ring.endX[ring.indexOf(item)];
+    }
+
+    @Override
+    public double getStartYValue(int series, int item) {
+        return getYValue(series, item);
+    }
+
+    @Override
+    public double getEndYValue(int series, int item) {
+        return getYValue(series, item);
+    }
+
+    @Override
+    public Number getX(int series, int item) {
+        return getXValue(series, item);
+    }
+
+    @Override
+    public Number getY(int series, int item) {
+        return getYValue(series, item);
+    }
+
+    @Override
+    public Number getStartX(int series, int item) {
+        return getStartXValue(series, item);
+    }
+
+    @Override
+    public Number getEndX(int series, int item) {
+        return getEndXValue(series, item);
+    }
+
+    @Override
+    public Number getStartY(int series, int item) {
+        return getStartYValue(series, item);
+    }
+
+    @Override
+    public Number getEndY(int series, int item) {
+        return getEndYValue(series, item);
+    }
+
+    //<editor-fold defaultstate="collapsed" desc="Implementation details">
+    private static final class Ring {
+
+        private static final int INITIAL_LENGTH = 16;
+
+        // arrays grow up to the capacity, the items being unrolled from index 0
+        final int capacity;
+        double[] x;
+        double[] startX;
+        double[] endX;
+        double[] y;
+        int head;
+        int size;
+        long evicted;
+
+        Ring(int capacity) {
+            int length = Math.min(capacity, INITIAL_LENGTH);
+            this.capacity = capacity;
+            this.x = new double[length];
+            this.startX = new double[length];
+            this.endX = new double[length];
+            this.y = new double[length];
+            this.head = 0;
+            this.size = 0;
+            this.evicted = 0;
+        }
+
+        int indexOf(int item) {
+            int result = head + item;
+            return result < x.length ? result : result - x.length;
+        }
+
+        void add(double x, double startX, double endX, double y) {
+            if (size == this.x.length && size < capacity) {
+                grow();
+            }
+            int index;
+            if (size < this.x.length) {
+                index = indexOf(size++);
+            } else {
+                // full: overwrite the oldest
+                index = head;
+                head = indexOf(1);
+                evicted++;
+            }
+            this.x[index] = x;
+            this.startX[index] = startX;
+            this.endX[index] = endX;
+            this.y[index] = y;
+        }
+
+        void addAll(Ring other) {
+            for (int item = 0; item < other.size; item++) {
+                int index = other.indexOf(item);
+                add(other.x[index], other.startX[index], other.endX[index], other.y[index]);
+            }
+        }
+
+        void clear() {
+            head = 0;
+            size = 0;
+        }
+
+        private void grow() {
+            int length = (int) Math.min((long) x.length * 2, capacity);
+            x = unroll(x, length);
+            startX = unroll(startX, length);
+            endX = unroll(endX, length);
+            y = unroll(y, length);
+            head = 0;
+        }
+
+        private double[] unroll(double[] values, int length) {
+            double[] result = new double[length];
+            int tail = values.length - head;
+            System.arraycopy(values, head, result, 0, Math.min(tail, size));
+            if (size > tail) {
+                System.arraycopy(values, 0, result, tail, size - tail);
+            }
+            return result;
+        }
+    }
+    //</editor-fold>
+}
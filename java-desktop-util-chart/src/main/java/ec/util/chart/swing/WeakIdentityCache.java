@@ -0,0 +1,100 @@
+/*
+ * Copyright 2026 National Bank of Belgium
+ *
+ * Licensed under the EUPL, Version 1.1 or - as soon they will be approved
+ * by the European Commission - subsequent versions of the EUPL (the "Licence");
+ * You may not use this work except in compliance with the Licence.
+ * You may obtain a copy of the Licence at:
+ *
+ * http://ec.europa.eu/idabc/eupl
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the Licence is distributed on an "AS IS" basis,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Licence for the specific language governing permissions and
+ * limitations under the Licence.
+ */
+package ec.util.chart.swing;
+
+import lombok.NonNull;
+import org.jspecify.annotations.Nullable;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * A cache whose keys are weakly referenced and compared by identity. Unlike a
+ * {@link java.util.WeakHashMap}, a key that defines equality on its content,
+ * such as a mutable dataset or a plot, keeps its entry after a change and
+ * never shares it with an equal key.
+ * <p>
+ * This class is not thread-safe.
+ *
+ * @param <K> the type of keys
+ * @param <V> the type of values, that must not reference their key
+ * @author Philippe Charles
+ */
+final class WeakIdentityCache<K, V> {
+
+    private final Map<Key<K>, V> entries = new HashMap<>();
+    private final ReferenceQueue<K> queue = new ReferenceQueue<>();
+
+    @Nullable
+    V get(@NonNull K key) {
+        expunge();
+        return entries.get(new Key<>(key, null));
+    }
+
+    void put(@NonNull K key, @NonNull V value) {
+        expunge();
+        entries.put(new Key<>(key, queue), value);
+    }
+
+    @NonNull
+    V computeIfAbsent(@NonNull K key, @NonNull Function<? super K, ? extends V> factory) {
+        V result = get(key);
+        if (result == null) {
+            result = factory.apply(key);
+            put(key, result);
+        }
+        return result;
+    }
+
+    private void expunge() {
+        Reference<? extends K> ref;
+        while ((ref = queue.poll()) != null) {
+            entries.remove(ref);
+        }
+    }
+
+    private static final class Key<K> extends WeakReference<K> {
+
+        private final int hash;
+
+        Key(K referent, @Nullable ReferenceQueue<? super K> queue) {
+            super(referent, queue);
+            this.hash = System.identityHashCode(referent);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof Key)) {
+                return false;
+            }
+            Object referent = get();
+            return referent != null && referent == ((Key<?>) obj).get();
+        }
+    }
+}
@@ -0,0 +1,130 @@
+/*
+ * Copyright 2026 National Bank of Belgium
+ *
+ * Licensed under the EUPL, Version 1.1 or - as soon they will be approved
+ * by the European Commission - subsequent versions of the EUPL (the "Licence");
+ * You may not use this work except in compliance with the Licence.
+ * You may obtain a copy of the Licence at:
+ *
+ * http://ec.europa.eu/idabc/eupl
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the Licence is distributed on an "AS IS" basis,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Licence for the specific language governing permissions and
+ * limitations under the Licence.
+ */
+package ec.util.chart.swing;
+
+import org.jfree.chart.LegendItem;
+import org.jfree.chart.LegendItemCollection;
+import org.jfree.chart.LegendItemSource;
+import org.jfree.chart.block.Block;
+import org.jfree.chart.block.LabelBlock;
+import org.jfree.chart.block.RectangleConstraint;
+import org.jfree.ui.RectangleEdge;
+import org.junit.jupiter.api.Test;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * @author Philippe Charles
+ */
+public class CachedLegendTitleTest {
+
+    private final Graphics2D g2 = new BufferedImage(1, 1, BufferedImage.TYPE_INT_ARGB).createGraphics();
+
+    @Test
+    public void testCache() {
+        CountingSource source = new CountingSource(3);
+        AtomicInteger version = new AtomicInteger();
+        CachedLegendTitle x = new CachedLegendTitle(source, version::get);
+
+        x.arrange(g2, RectangleConstraint.NONE);
+        assertThat(source.calls).isEqualTo(1);
+
+        // same version
+        x.arrange(g2, RectangleConstraint.NONE);
+        assertThat(source.calls).isEqualTo(1);
+
+        version.incrementAndGet();
+        x.arrange(g2, RectangleConstraint.NONE);
+        assertThat(source.calls).isEqualTo(2);
+
+        // a property of the legend itself
+        x.setItemFont(new Font("Dialog", Font.BOLD, 12));
+        x.arrange(g2, RectangleConstraint.NONE);
+        assertThat(source.calls).isEqualTo(3);
+    }
+
+    @Test
+    public void testNoOverflow() {
+        CachedLegendTitle x = new CachedLegendTitle(new CountingSource(100), () -> 0);
+
+        x.arrange(g2, RectangleConstraint.NONE);
+        assertThat(getBlocks(x))
+                .hasSize(100)
+                .noneMatch(LabelBlock.class::isInstance);
+    }
+
+    @Test
+    public void testHorizontalOverflow() {
+        CachedLegendTitle x = new CachedLegendTitle(new CountingSource(100), () -> 0);
+        x.setPosition(RectangleEdge.BOTTOM);
+
+        x.arrange(g2, new RectangleConstraint(200, 150));
+        assertOverflow(x, 100);
+
+        // at most a third of the height
+        assertThat(x.getItemContainer().arrange(g2, RectangleConstraint.NONE.toFixedWidth(200)).getHeight()).isLessThanOrEqualTo(50);
+    }
+
+    @Test
+    public void testVerticalOverflow() {
+        CachedLegendTitle x = new CachedLegendTitle(new CountingSource(100), () -> 0);
+        x.setPosition(RectangleEdge.RIGHT);
+
+        x.arrange(g2, new RectangleConstraint(200, 150));
+        assertOverflow(x, 100);
+        assertThat(x.getItemContainer().arrange(g2, RectangleConstraint.NONE).getHeight()).isLessThanOrEqualTo(150);
+    }
+
+    private static void assertOverflow(CachedLegendTitle legend, int itemCount) {
+        List<Block> blocks = getBlocks(legend);
+        int shown = blocks.size() - 1;
+        assertThat(shown).isBetween(1, itemCount - 1);
+        assertThat(blocks.subList(0, shown)).noneMatch(LabelBlock.class::isInstance);
+        assertThat(blocks.get(shown))
+                .isInstanceOfSatisfying(LabelBlock.class, o -> assertThat(o.getText()).isEqualTo("+" + (itemCount - shown) + " more"));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<Block> getBlocks(CachedLegendTitle legend) {
+        return legend.getItemContainer().getBlocks();
+    }
+
+    private static final class CountingSource implements LegendItemSource {
+
+        private final int itemCount;
+        private int calls = 0;
+
+        CountingSource(int itemCount) {
+            this.itemCount = itemCount;
+        }
+
+        @Override
+        public LegendItemCollection getLegendItems() {
+            calls++;
+            LegendItemCollection result = new LegendItemCollection();
+            for (int i = 0; i < itemCount; i++) {
+                result.add(new LegendItem("series " + i, Color.BLUE));
+            }
+            return result;
+        }
+    }
+}
@@ -0,0 +1,88 @@
+/*
+ * Copyright 2026 National Bank of Belgium
+ *
+ * Licensed under the EUPL, Version 1.1 or - as soon they will be approved
+ * by the European Commission - subsequent versions of the EUPL (the "Licence");
+ * You may not use this work except in compliance with the Licence.
+ * You may obtain a copy of the Licence at:
+ *
+ * http://ec.europa.eu/idabc/eupl
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the Licence is distributed on an "AS IS" basis,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Licence for the specific language governing permissions and
+ * limitations under the Licence.
+ */
+package ec.util.chart.swing;
+
+import org.jfree.chart.ChartRenderingInfo;
+import org.jfree.chart.JFreeChart;
+import org.jfree.chart.plot.XYPlot;
+import org.junit.jupiter.api.Test;
+
+import java.awt.*;
+import java.awt.datatransfer.DataFlavor;
+import java.awt.datatransfer.Transferable;
+import java.awt.datatransfer.UnsupportedFlavorException;
+import java.awt.geom.Point2D;
+import java.awt.geom.Rectangle2D;
+import java.awt.image.BufferedImage;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * @author Philippe Charles
+ */
+public class ChartsTest {
+
+    @Test
+    public void testLazyChartTransferable() throws Exception {
+        CountingChart chart = new CountingChart();
+        Transferable x = new Charts.LazyChartTransferable(chart, 300, 200, 100, 100, 1000, 1000);
+        DataFlavor svgFlavor = x.getTransferDataFlavors()[1];
+
+        // nothing is drawn until a flavor is requested
+        assertThat(chart.draws).isZero();
+
+        Object image = x.getTransferData(DataFlavor.imageFlavor);
+        assertThat(image).isInstanceOfSatisfying(BufferedImage.class, o -> {
+            assertThat(o.getWidth()).isEqualTo(300);
+            assertThat(o.getHeight()).isEqualTo(200);
+        });
+        assertThat(chart.draws).isEqualTo(1);
+
+        // each flavor is drawn once
+        assertThat(x.getTransferData(DataFlavor.imageFlavor)).isSameAs(image);
+        assertThat(chart.draws).isEqualTo(1);
+
+        byte[] svg = (byte[]) x.getTransferData(svgFlavor);
+        assertThat(new String(svg, StandardCharsets.UTF_8)).contains("<svg");
+        assertThat(chart.draws).isEqualTo(2);
+
+        // the bytes are copied for each paste
+        byte[] other = (byte[]) x.getTransferData(svgFlavor);
+        assertThat(other).isEqualTo(svg).isNotSameAs(svg);
+        assertThat(chart.draws).isEqualTo(2);
+
+        assertThat(x.isDataFlavorSupported(DataFlavor.stringFlavor)).isFalse();
+        assertThatExceptionOfType(UnsupportedFlavorException.class)
+                .isThrownBy(() -> x.getTransferData(DataFlavor.stringFlavor));
+    }
+
+    private static final class CountingChart extends JFreeChart {
+
+        private int draws = 0;
+
+        CountingChart() {
+            super(new XYPlot());
+        }
+
+        @Override
+        public void draw(Graphics2D g2, Rectangle2D chartArea, Point2D anchor, ChartRenderingInfo info) {
+            draws++;
+            super.draw(g2, chartArea, anchor, info);
+        }
+    }
+}
@@ -0,0 +1,130 @@
+/*
+ * Copyright 2026 National Bank of Belgium
+ *
+ * Licensed under the EUPL, Version 1.1 or - as soon they will be approved
+ * by the European Commission - subsequent versions of the EUPL (the "Licence");
+ * You may not use this work except in compliance with the Licence.
+ * You may obtain a copy of the Licence at:
+ *
+ * http://ec.europa.eu/idabc/eupl
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the Licence is distributed on an "AS IS" basis,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Licence for the specific language governing permissions and
+ * limitations under the Licence.
+ */
+package ec.util.chart.swing;
+
+import org.jfree.data.DomainOrder;
+import org.jfree.data.time.Month;
+import org.jfree.data.time.TimeSeries;
+import org.jfree.data.time.TimeSeriesCollection;
+import org.junit.jupiter.api.Test;
+
+import java.nio.DoubleBuffer;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * @author Philippe Charles
+ */
+public class ColumnarXYDatasetTest {
+
+    @Test
+    public void testBuilder() {
+        ColumnarXYDataset x = ColumnarXYDataset.builder()
+                .series("s1", new double[]{1, 2, 3}, new double[]{10, 20, 30})
+                .series("s2", new double[]{1, 2}, new double[]{0.5, 1.5}, new double[]{1.5, 2.5}, new double[]{-1, -2})
+                .build();
+
+        assertThat(x.getSeriesCount()).isEqualTo(2);
+        assertThat(x.getSeriesKey(0)).isEqualTo("s1");
+        assertThat(x.getItemCount(0)).isEqualTo(3);
+        assertThat(x.getXValue(0, 1)).isEqualTo(2);
+        assertThat(x.getStartXValue(0, 1)).isEqualTo(2);
+        assertThat(x.getEndXValue(0, 1)).isEqualTo(2);
+        assertThat(x.getYValue(0, 2)).isEqualTo(30);
+        assertThat(x.getStartYValue(0, 2)).isEqualTo(30);
+        assertThat(x.getEndYValue(0, 2)).isEqualTo(30);
+        assertThat(x.getY(0, 2)).isEqualTo(30d);
+
+        assertThat(x.getSeriesKey(1)).isEqualTo("s2");
+        assertThat(x.getStartXValue(1, 1)).isEqualTo(1.5);
+        assertThat(x.getEndXValue(1, 1)).isEqualTo(2.5);
+        assertThat(x.getYValue(1, 1)).isEqualTo(-2);
+
+        assertThat(x.getDomainOrder()).isEqualTo(DomainOrder.ASCENDING);
+        assertThat(ColumnarXYDataset.builder().series("s1", new double[]{2, 1}, new double[]{0, 0}).build().getDomainOrder())
+                .isEqualTo(DomainOrder.NONE);
+
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> ColumnarXYDataset.builder().series("s1", new double[]{1, 2}, new double[]{1}));
+    }
+
+    @Test
+    public void testArraysAreCopied() {
+        double[] x = {1, 2, 3};
+        double[] y = {10, 20, 30};
+        ColumnarXYDataset dataset = ColumnarXYDataset.builder().series("s1", x, y).build();
+
+        x[0] = 100;
+        y[0] = 100;
+
+        assertThat(dataset.getXValue(0, 0)).isEqualTo(1);
+        assertThat(dataset.getStartXValue(0, 0)).isEqualTo(1);
+        assertThat(dataset.getYValue(0, 0)).isEqualTo(10);
+    }
+
+    @Test
+    public void testBuffers() {
+        DoubleBuffer x = DoubleBuffer.wrap(new double[]{1, 2});
+        DoubleBuffer y = DoubleBuffer.wrap(new double[]{3, 4});
+        ColumnarXYDataset dataset = ColumnarXYDataset.builder().series("s1", x, x, x, y).build();
+
+        assertThat(dataset.getItemCount(0)).isEqualTo(2);
+        assertThat(dataset.getXValue(0, 1)).isEqualTo(2);
+        assertThat(dataset.getYValue(0, 1)).isEqualTo(4);
+    }
+
+    @Test
+    public void testOffHeap() {
+        ColumnarXYDataset dataset = ColumnarXYDataset.builder()
+                .series("s1", new double[]{1, 2, 3}, new double[]{0.5, 1.5, 2.5}, new double[]{1.5, 2.5, 3.5}, new double[]{10, 20, 30})
+                .offHeap(true)
+                .build();
+
+        assertThat(dataset.getXValue(0, 2)).isEqualTo(3);
+        assertThat(dataset.getStartXValue(0, 2)).isEqualTo(2.5);
+        assertThat(dataset.getEndXValue(0, 2)).isEqualTo(3.5);
+        assertThat(dataset.getYValue(0, 2)).isEqualTo(30);
+    }
+
+    @Test
+    public void testCopyOf() {
+        TimeSeries series = new TimeSeries("s1");
+        series.add(new Month(1, 2010), 1.0);
+        series.add(new Month(2, 2010), null);
+        series.add(new Month(3, 2010), 3.0);
+        TimeSeriesCollection original = new TimeSeriesCollection(series);
+
+        ColumnarXYDataset copy = ColumnarXYDataset.copyOf(original);
+
+        assertThat(copy.getSeriesCount()).isEqualTo(1);
+        assertThat(copy.getSeriesKey(0)).isEqualTo("s1");
+        assertThat(copy.getItemCount(0)).isEqualTo(3);
+        for (int item = 0; item < 3; item++) {
+            assertThat(copy.getXValue(0, item)).isEqualTo(original.getXValue(0, item));
+            assertThat(copy.getStartXValue(0, item)).isEqualTo(original.getStartXValue(0, item));
+            assertThat(copy.getEndXValue(0, item)).isEqualTo(original.getEndXValue(0, item));
+        }
+        assertThat(copy.getYValue(0, 0)).isEqualTo(1);
+        assertThat(copy.getYValue(0, 1)).isNaN();
+
+        // the copy doesn't follow the original
+        series.add(new Month(4, 2010), 4.0);
+        assertThat(copy.getItemCount(0)).isEqualTo(3);
+
+        assertThat(ColumnarXYDataset.copyOf(copy)).isSameAs(copy);
+    }
+}
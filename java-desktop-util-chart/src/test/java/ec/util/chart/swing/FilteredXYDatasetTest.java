@@ -0,0 +1,54 @@
+/*
+ * Copyright 2026 National Bank of Belgium
+ *
+ * Licensed under the EUPL, Version 1.1 or - as soon they will be approved
+ * by the European Commission - subsequent versions of the EUPL (the "Licence");
+ * You may not use this work except in compliance with the Licence.
+ * You may obtain a copy of the Licence at:
+ *
+ * http://ec.europa.eu/idabc/eupl
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the Licence is distributed on an "AS IS" basis,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Licence for the specific language governing permissions and
+ * limitations under the Licence.
+ */
+package ec.util.chart.swing;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * @author Philippe Charles
+ */
+public class FilteredXYDatasetTest {
+
+    @Test
+    public void testIndexOf() {
+        double[] x = {1, 2};
+        ColumnarXYDataset original = ColumnarXYDataset.builder()
+                .series("s1", x, x)
+                .series("s2", x, x)
+                .series("s3", x, x)
+                .series("s4", x, x)
+                .build();
+        FilteredXYDataset dataset = new FilteredXYDataset(original, new int[]{3, 1});
+
+        assertThat(dataset.getSeriesCount()).isEqualTo(2);
+        assertThat(dataset.originalIndexOf(0)).isEqualTo(3);
+        assertThat(dataset.originalIndexOf(1)).isEqualTo(1);
+        assertThat(dataset.getSeriesKey(0)).isEqualTo("s4");
+
+        assertThat(dataset.filteredIndexOf(3)).isEqualTo(0);
+        assertThat(dataset.filteredIndexOf(1)).isEqualTo(1);
+        // filtered out or unknown
+        assertThat(dataset.filteredIndexOf(0)).isEqualTo(-1);
+        assertThat(dataset.filteredIndexOf(2)).isEqualTo(-1);
+        assertThat(dataset.filteredIndexOf(4)).isEqualTo(-1);
+        assertThat(dataset.filteredIndexOf(-1)).isEqualTo(-1);
+
+        assertThat(new FilteredXYDataset(original, new int[0]).filteredIndexOf(0)).isEqualTo(-1);
+    }
+}
@@ -0,0 +1,121 @@
+/*
+ * Copyright 2026 National Bank of Belgium
+ *
+ * Licensed under the EUPL, Version 1.1 or - as soon they will be approved
+ * by the European Commission - subsequent versions of the EUPL (the "Licence");
+ * You may not use this work except in compliance with the Licence.
+ * You may obtain a copy of the Licence at:
+ *
+ * http://ec.europa.eu/idabc/eupl
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the Licence is distributed on an "AS IS" basis,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Licence for the specific language governing permissions and
+ * limitations under the Licence.
+ */
+package ec.util.chart.swing;
+
+import ec.util.chart.swing.JTimeSeriesChartExporter.Report;
+import ec.util.chart.swing.JTimeSeriesChartExporter.Result;
+import ec.util.chart.swing.JTimeSeriesChartExporter.Spec;
+import org.junit.jupiter.api.Test;
+
+import javax.swing.*;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * @author Philippe Charles
+ */
+public class JTimeSeriesChartExporterTest {
+
+    private static final byte[] PNG_SIGNATURE = {(byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1A, '\n'};
+
+    @Test
+    public void testExport() {
+        List<ByteArrayOutputStream> outputs = new ArrayList<>();
+        List<Spec> specs = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            ByteArrayOutputStream output = new ByteArrayOutputStream();
+            outputs.add(output);
+            specs.add(Spec.of(JTimeSeriesChartTest.newDataset(i % 3 + 1), o -> o.setTitle("chart"), "image/png", 200, 100, () -> output));
+        }
+
+        try (JTimeSeriesChartExporter x = JTimeSeriesChartExporter.builder().parallelism(2).build()) {
+            Report report = x.export(specs);
+            assertThat(report.getErrorCount()).isZero();
+            assertThat(report.getResults()).extracting(Result::getSpec).containsExactlyElementsOf(specs);
+            assertThat(report.getResults()).extracting(Result::getError).containsOnlyNulls();
+        }
+
+        assertThat(outputs).allSatisfy(o -> assertThat(Arrays.copyOf(o.toByteArray(), PNG_SIGNATURE.length)).isEqualTo(PNG_SIGNATURE));
+    }
+
+    @Test
+    public void testRestoreTemplate() {
+        List<String> titles = Collections.synchronizedList(new ArrayList<>());
+        List<Spec> specs = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            String title = "chart" + i;
+            specs.add(Spec.of(JTimeSeriesChartTest.newDataset(1), o -> {
+                // the state left by the previous chart must not leak into this one
+                titles.add(o.getTitle());
+                o.setTitle(title);
+            }, "image/png", 100, 100, ByteArrayOutputStream::new));
+        }
+
+        try (JTimeSeriesChartExporter x = JTimeSeriesChartExporter.builder().parallelism(1).build()) {
+            assertThat(x.export(specs).getErrorCount()).isZero();
+        }
+
+        assertThat(titles).containsExactly("", "", "");
+    }
+
+    @Test
+    public void testFailures() {
+        IOException failure = new IOException("boom");
+        List<Spec> specs = Arrays.asList(
+                Spec.of(JTimeSeriesChartTest.newDataset(1), o -> {
+                }, "image/unknown", 100, 100, ByteArrayOutputStream::new),
+                Spec.of(JTimeSeriesChartTest.newDataset(1), o -> {
+                }, "image/png", 100, 100, () -> {
+                    throw failure;
+                }),
+                Spec.of(JTimeSeriesChartTest.newDataset(1), o -> {
+                    throw new IllegalStateException();
+                }, "image/png", 100, 100, ByteArrayOutputStream::new),
+                Spec.of(JTimeSeriesChartTest.newDataset(1), o -> {
+                }, "image/png", 100, 100, ByteArrayOutputStream::new)
+        );
+
+        try (JTimeSeriesChartExporter x = JTimeSeriesChartExporter.builder().parallelism(2).build()) {
+            Report report = x.export(specs);
+            // a failure doesn't stop the export
+            assertThat(report.getErrorCount()).isEqualTo(3);
+            assertThat(report.getResults().get(0).getError()).isInstanceOf(IOException.class).hasMessageContaining("image/unknown");
+            assertThat(report.getResults().get(1).getError()).isSameAs(failure);
+            assertThat(report.getResults().get(2).getError()).isInstanceOf(IllegalStateException.class);
+            assertThat(report.getResults().get(3).getError()).isNull();
+        }
+    }
+
+    @Test
+    public void testExportOnEDT() throws Exception {
+        try (JTimeSeriesChartExporter x = JTimeSeriesChartExporter.builder().build()) {
+            SwingUtilities.invokeAndWait(() -> assertThatIllegalStateException()
+                    .isThrownBy(() -> x.export(Collections.emptyList())));
+        }
+    }
+
+    @Test
+    public void testBuilder() {
+        assertThatIllegalArgumentException().isThrownBy(() -> JTimeSeriesChartExporter.builder().parallelism(0));
+    }
+}
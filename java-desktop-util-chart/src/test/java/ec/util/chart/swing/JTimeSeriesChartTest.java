@@ -0,0 +1,193 @@
+/*
+ * Copyright 2026 National Bank of Belgium
+ *
+ * Licensed under the EUPL, Version 1.1 or - as soon they will be approved
+ * by the European Commission - subsequent versions of the EUPL (the "Licence");
+ * You may not use this work except in compliance with the Licence.
+ * You may obtain a copy of the Licence at:
+ *
+ * http://ec.europa.eu/idabc/eupl
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the Licence is distributed on an "AS IS" basis,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Licence for the specific language governing permissions and
+ * limitations under the Licence.
+ */
+package ec.util.chart.swing;
+
+import ec.util.chart.SeriesFunction;
+import ec.util.chart.TimeSeriesChart.RendererType;
+import org.jfree.chart.JFreeChart;
+import org.jfree.chart.plot.CombinedDomainXYPlot;
+import org.jfree.chart.plot.XYPlot;
+import org.jfree.data.xy.XYDataset;
+import org.junit.jupiter.api.Test;
+
+import javax.swing.*;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static ec.util.chart.TimeSeriesChart.RendererType.*;
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * @author Philippe Charles
+ */
+public class JTimeSeriesChartTest {
+
+    @Test
+    public void testBatch() throws Exception {
+        SwingUtilities.invokeAndWait(() -> {
+            JTimeSeriesChart x = new JTimeSeriesChart();
+            JFreeChart chart = x.getJFreeChart();
+            AtomicInteger events = new AtomicInteger();
+            chart.addChangeListener(event -> events.incrementAndGet());
+
+            x.batch(() -> {
+                x.setDataset(newDataset(3));
+                x.setSeriesRenderer(SeriesFunction.array(LINE, COLUMN, LINE));
+                x.setTitle("title");
+                // nested calls join the outer transaction
+                x.batch(() -> x.setPlotWeights(new int[]{1, 2}));
+                // deferred until the end
+                assertThat(chart.getTitle().getText()).isNotEqualTo("title");
+                assertThat(getSubPlots(x)).hasSize(1);
+            });
+
+            assertThat(events).hasValue(1);
+            assertThat(chart.getTitle().getText()).isEqualTo("title");
+            assertThat(getSubPlots(x)).hasSize(2);
+            assertThat(getSeriesCount(x, 0, LINE)).isEqualTo(2);
+            assertThat(getSeriesCount(x, 0, COLUMN)).isEqualTo(1);
+
+            // not batched: each change refreshes the chart
+            events.set(0);
+            x.setTitle("other");
+            x.setSeriesRenderer(SeriesFunction.always(LINE));
+            assertThat(events.get()).isGreaterThan(1);
+        });
+    }
+
+    @Test
+    public void testBatchFailure() throws Exception {
+        SwingUtilities.invokeAndWait(() -> {
+            JTimeSeriesChart x = new JTimeSeriesChart();
+
+            assertThatIllegalStateException().isThrownBy(() -> x.batch(() -> {
+                x.setTitle("title");
+                throw new IllegalStateException();
+            }));
+
+            // the changes made before the failure are applied
+            assertThat(x.getJFreeChart().getTitle().getText()).isEqualTo("title");
+            assertThat(x.getJFreeChart().isNotify()).isTrue();
+        });
+    }
+
+    @Test
+    public void testDispatch() throws Exception {
+        SwingUtilities.invokeAndWait(() -> {
+            JTimeSeriesChart x = new JTimeSeriesChart();
+            x.setPlotWeights(new int[]{1, 1});
+            x.setDataset(newDataset(4));
+            x.setSeriesRenderer(SeriesFunction.array(LINE, LINE, COLUMN, LINE));
+            x.setPlotDispatcher(SeriesFunction.array(0, 0, 0, 1));
+
+            assertThat(getSeriesCount(x, 0, LINE)).isEqualTo(2);
+            assertThat(getSeriesCount(x, 0, COLUMN)).isEqualTo(1);
+            assertThat(getSeriesCount(x, 1, LINE)).isEqualTo(1);
+            FilteredXYDataset line0 = (FilteredXYDataset) getDataset(x, 0, LINE);
+            assertThat(line0.originalIndexOf(1)).isEqualTo(1);
+            XYDataset column0 = getDataset(x, 0, COLUMN);
+            XYDataset line1 = getDataset(x, 1, LINE);
+
+            // only the datasets whose series have changed are rebuilt
+            x.setSeriesRenderer(SeriesFunction.array(LINE, AREA, COLUMN, LINE));
+            assertThat(getDataset(x, 0, LINE)).isNotSameAs(line0);
+            assertThat(getSeriesCount(x, 0, LINE)).isEqualTo(1);
+            assertThat(getSeriesCount(x, 0, AREA)).isEqualTo(1);
+            assertThat(getDataset(x, 0, COLUMN)).isSameAs(column0);
+            assertThat(getDataset(x, 1, LINE)).isSameAs(line1);
+
+            // the same dispatch with another function
+            XYDataset area0 = getDataset(x, 0, AREA);
+            x.setPlotDispatcher(SeriesFunction.array(0, 0, 0, 1));
+            assertThat(getDataset(x, 0, AREA)).isSameAs(area0);
+            assertThat(getDataset(x, 1, LINE)).isSameAs(line1);
+
+            // a new dataset rebuilds all of them
+            x.setDataset(newDataset(4));
+            assertThat(getDataset(x, 0, COLUMN)).isNotSameAs(column0);
+            assertThat(getDataset(x, 1, LINE)).isNotSameAs(line1);
+            assertThat(getSeriesCount(x, 0, COLUMN)).isEqualTo(1);
+        });
+    }
+
+    @Test
+    public void testRendererSlots() throws Exception {
+        SwingUtilities.invokeAndWait(() -> {
+            JTimeSeriesChart x = new JTimeSeriesChart();
+
+            // only the first renderer, that draws the gridlines, is created upfront
+            assertThat(getRenderedTypes(x, 0)).containsExactly(MARKER);
+
+            x.setDataset(newDataset(2));
+            assertThat(getRenderedTypes(x, 0)).containsExactly(MARKER, LINE);
+            assertThat(getDataset(x, 0, SPLINE)).isNull();
+
+            x.setSeriesRenderer(SeriesFunction.array(LINE, STACKED_COLUMN));
+            assertThat(getRenderedTypes(x, 0)).containsExactly(MARKER, LINE, STACKED_COLUMN);
+            assertThat(getSeriesCount(x, 0, STACKED_COLUMN)).isEqualTo(1);
+
+            // slots are kept once created
+            x.setSeriesRenderer(SeriesFunction.always(LINE));
+            assertThat(getRenderedTypes(x, 0)).containsExactly(MARKER, LINE, STACKED_COLUMN);
+            assertThat(getSeriesCount(x, 0, STACKED_COLUMN)).isZero();
+            assertThat(getSeriesCount(x, 0, LINE)).isEqualTo(2);
+
+            // new subplots are created the same way
+            x.setPlotWeights(new int[]{1, 1});
+            assertThat(getRenderedTypes(x, 1)).containsExactly(MARKER);
+            x.setPlotDispatcher(SeriesFunction.array(0, 1));
+            assertThat(getRenderedTypes(x, 1)).containsExactly(MARKER, LINE);
+            assertThat(getSeriesCount(x, 1, LINE)).isEqualTo(1);
+        });
+    }
+
+    static List<RendererType> getRenderedTypes(JTimeSeriesChart chart, int plotIndex) {
+        XYPlot plot = getSubPlots(chart).get(plotIndex);
+        List<RendererType> result = new ArrayList<>();
+        for (int i = 0; i < chart.supportedRendererTypes.size(); i++) {
+            if (plot.getRenderer(i) != null) {
+                result.add(chart.supportedRendererTypes.get(i));
+            }
+        }
+        return result;
+    }
+
+    static List<XYPlot> getSubPlots(JTimeSeriesChart chart) {
+        @SuppressWarnings("unchecked")
+        List<XYPlot> result = ((CombinedDomainXYPlot) chart.getJFreeChart().getXYPlot()).getSubplots();
+        return result;
+    }
+
+    static XYDataset getDataset(JTimeSeriesChart chart, int plotIndex, RendererType type) {
+        return getSubPlots(chart).get(plotIndex).getDataset(chart.supportedRendererTypes.indexOf(type));
+    }
+
+    static int getSeriesCount(JTimeSeriesChart chart, int plotIndex, RendererType type) {
+        XYDataset result = getDataset(chart, plotIndex, type);
+        return result != null ? result.getSeriesCount() : 0;
+    }
+
+    static ColumnarXYDataset newDataset(int seriesCount) {
+        double[] x = {1, 2, 3};
+        ColumnarXYDataset.Builder result = ColumnarXYDataset.builder();
+        for (int series = 0; series < seriesCount; series++) {
+            result.series("s" + series, x, new double[]{series, series + 1, series + 2});
+        }
+        return result.build();
+    }
+}
@@ -0,0 +1,207 @@
+/*
+ * Copyright 2026 National Bank of Belgium
+ *
+ * Licensed under the EUPL, Version 1.1 or - as soon they will be approved
+ * by the European Commission - subsequent versions of the EUPL (the "Licence");
+ * You may not use this work except in compliance with the Licence.
+ * You may obtain a copy of the Licence at:
+ *
+ * http://ec.europa.eu/idabc/eupl
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the Licence is distributed on an "AS IS" basis,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Licence for the specific language governing permissions and
+ * limitations under the Licence.
+ */
+package ec.util.chart.swing;
+
+import ec.util.chart.TimeSeriesChart.RendererType;
+import org.jfree.chart.JFreeChart;
+import org.jfree.chart.axis.NumberAxis;
+import org.jfree.chart.plot.PlotOrientation;
+import org.jfree.chart.plot.XYPlot;
+import org.jfree.chart.renderer.xy.XYItemRenderer;
+import org.jfree.chart.renderer.xy.XYSplineRenderer;
+import org.jfree.data.xy.DefaultTableXYDataset;
+import org.jfree.data.xy.XYDataset;
+import org.jfree.data.xy.XYSeries;
+import org.jfree.data.xy.XYSeriesCollection;
+import org.junit.jupiter.api.Test;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * @author Philippe Charles
+ */
+public class JTimeSeriesRendererSupportTest {
+
+    @Test
+    public void testStackedColumn() {
+        assertSameAsStock(RendererType.STACKED_COLUMN);
+    }
+
+    @Test
+    public void testStackedArea() {
+        assertSameAsStock(RendererType.STACKED_AREA);
+    }
+
+    @Test
+    public void testSpline() {
+        XYSeriesCollection dataset = new XYSeriesCollection();
+        for (int series = 0; series < 3; series++) {
+            XYSeries s = new XYSeries("s" + series);
+            for (int item = 0; item < 30; item++) {
+                s.add(item * (series + 1) * 0.7, Math.sin(item * 0.5 + series) * 10 + series);
+            }
+            dataset.addSeries(s);
+        }
+        TestSupport support = new TestSupport();
+
+        // same styles as the renderer of the support
+        XYSplineRenderer stock = new XYSplineRenderer();
+        stock.setBaseShapesVisible(false);
+        for (int series = 0; series < dataset.getSeriesCount(); series++) {
+            stock.setSeriesPaint(series, support.getSeriesColor(series));
+            stock.setSeriesStroke(series, support.getSeriesStroke(series));
+        }
+
+        for (PlotOrientation orientation : new PlotOrientation[]{PlotOrientation.VERTICAL, PlotOrientation.HORIZONTAL}) {
+            BufferedImage expected = draw(dataset, stock, orientation, 0, 30, -15, 15);
+            BufferedImage actual = draw(dataset, support.createRenderer(RendererType.SPLINE), orientation, 0, 30, -15, 15);
+            assertThat(countDifferentPixels(actual, expected)).as("%s", orientation).isZero();
+        }
+    }
+
+    private static void assertSameAsStock(RendererType type) {
+        DefaultTableXYDataset original = newTableDataset();
+        // the cached sums are only used on filtered datasets
+        FilteredXYDataset filtered = new FilteredXYDataset(original, new int[]{0, 1, 2});
+        TestSupport support = new TestSupport();
+
+        for (PlotOrientation orientation : new PlotOrientation[]{PlotOrientation.VERTICAL, PlotOrientation.HORIZONTAL}) {
+            BufferedImage expected = draw(original, support.createRenderer(type), orientation, 0, 20, -40, 40);
+            BufferedImage actual = draw(filtered, support.createRenderer(type), orientation, 0, 20, -40, 40);
+            assertThat(countDifferentPixels(actual, expected)).as("%s %s", type, orientation).isZero();
+        }
+    }
+
+    private static DefaultTableXYDataset newTableDataset() {
+        DefaultTableXYDataset result = new DefaultTableXYDataset();
+        for (int series = 0; series < 3; series++) {
+            XYSeries s = new XYSeries("s" + series, true, false);
+            for (int item = 0; item < 20; item++) {
+                // positive, negative and missing values
+                s.add(item, item % 7 == series ? null : (double) ((item * (series + 3)) % 11 - 4));
+            }
+            result.addSeries(s);
+        }
+        return result;
+    }
+
+    static BufferedImage draw(XYDataset dataset, XYItemRenderer renderer, PlotOrientation orientation, double minX, double maxX, double minY, double maxY) {
+        NumberAxis domainAxis = new NumberAxis();
+        domainAxis.setRange(minX, maxX);
+        NumberAxis rangeAxis = new NumberAxis();
+        rangeAxis.setRange(minY, maxY);
+        XYPlot plot = new XYPlot(dataset, domainAxis, rangeAxis, renderer);
+        plot.setOrientation(orientation);
+        JFreeChart chart = new JFreeChart(null, JFreeChart.DEFAULT_TITLE_FONT, plot, false);
+
+        BufferedImage result = new BufferedImage(400, 300, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g2 = result.createGraphics();
+        try {
+            chart.draw(g2, new Rectangle(result.getWidth(), result.getHeight()));
+        } finally {
+            g2.dispose();
+        }
+        return result;
+    }
+
+    static int countDifferentPixels(BufferedImage actual, BufferedImage expected) {
+        int result = 0;
+        for (int y = 0; y < expected.getHeight(); y++) {
+            for (int x = 0; x < expected.getWidth(); x++) {
+                if (actual.getRGB(x, y) != expected.getRGB(x, y)) {
+                    result++;
+                }
+            }
+        }
+        return result;
+    }
+
+    static final class TestSupport extends JTimeSeriesRendererSupport {
+
+        private static final Color[] COLORS = {Color.RED, Color.GREEN, Color.BLUE};
+        private static final Stroke STROKE = new BasicStroke(2f);
+        private static final Font FONT = new Font(Font.SANS_SERIF, Font.PLAIN, 10);
+
+        @Override
+        public Color getPlotColor() {
+            return Color.WHITE;
+        }
+
+        @Override
+        public Color getSeriesColor(int series) {
+            return COLORS[series % COLORS.length];
+        }
+
+        @Override
+        public Stroke getSeriesStroke(int series) {
+            return STROKE;
+        }
+
+        @Override
+        public Color getSeriesLabelColor(int series) {
+            return Color.BLACK;
+        }
+
+        @Override
+        public String getSeriesLabel(int series) {
+            return "s" + series;
+        }
+
+        @Override
+        public Font getSeriesLabelFont(int series) {
+            return FONT;
+        }
+
+        @Override
+        public boolean isSeriesLabelVisible(int series) {
+            return true;
+        }
+
+        @Override
+        public Color getObsColor(int series, int item) {
+            return getSeriesColor(series);
+        }
+
+        @Override
+        public Stroke getObsStroke(int series, int item) {
+            return STROKE;
+        }
+
+        @Override
+        public boolean isObsHighlighted(int series, int item) {
+            return false;
+        }
+
+        @Override
+        public String getObsLabel(int series, int item) {
+            return "";
+        }
+
+        @Override
+        public Font getObsLabelFont(int series, int item) {
+            return FONT;
+        }
+
+        @Override
+        public boolean isObsLabelVisible(int series, int item) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,155 @@
+/*
+ * Copyright 2026 National Bank of Belgium
+ *
+ * Licensed under the EUPL, Version 1.1 or - as soon they will be approved
+ * by the European Commission - subsequent versions of the EUPL (the "Licence");
+ * You may not use this work except in compliance with the Licence.
+ * You may obtain a copy of the Licence at:
+ *
+ * http://ec.europa.eu/idabc/eupl
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the Licence is distributed on an "AS IS" basis,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Licence for the specific language governing permissions and
+ * limitations under the Licence.
+ */
+package ec.util.chart.swing;
+
+import org.junit.jupiter.api.Test;
+
+import javax.swing.*;
+import java.awt.*;
+import java.awt.image.BufferedImage;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * @author Philippe Charles
+ */
+public class LightweightSparklineCellRendererTest {
+
+    @Test
+    public void testCacheKey() throws Exception {
+        SwingUtilities.invokeAndWait(() -> {
+            CountingRenderer x = new CountingRenderer(10);
+            double[][] value = {{0, 1, 2}, {3, 1, 2}};
+
+            x.paint(value, false, 50, 20, 1);
+            assertThat(x.count).isEqualTo(1);
+
+            // same value, size, colors and scale
+            x.paint(value, false, 50, 20, 1);
+            assertThat(x.count).isEqualTo(1);
+
+            // values are compared by identity
+            x.paint(new double[][]{{0, 1, 2}, {3, 1, 2}}, false, 50, 20, 1);
+            assertThat(x.count).isEqualTo(2);
+
+            x.paint(value, false, 60, 20, 1);
+            assertThat(x.count).isEqualTo(3);
+
+            x.paint(value, true, 50, 20, 1);
+            assertThat(x.count).isEqualTo(4);
+
+            x.paint(value, false, 50, 20, 2);
+            assertThat(x.count).isEqualTo(5);
+
+            x.paint(value, false, 50, 20, 1);
+            assertThat(x.count).isEqualTo(5);
+
+            x.clearCache();
+            x.paint(value, false, 50, 20, 1);
+            assertThat(x.count).isEqualTo(6);
+        });
+    }
+
+    @Test
+    public void testLeastRecentlyUsed() throws Exception {
+        SwingUtilities.invokeAndWait(() -> {
+            CountingRenderer x = new CountingRenderer(2);
+            double[][] a = {{0, 1}, {0, 1}};
+            double[][] b = {{0, 1}, {1, 0}};
+            double[][] c = {{0, 1}, {1, 1}};
+
+            x.paint(a, false, 50, 20, 1);
+            x.paint(b, false, 50, 20, 1);
+            assertThat(x.count).isEqualTo(2);
+
+            // a becomes the most recently used
+            x.paint(a, false, 50, 20, 1);
+            assertThat(x.count).isEqualTo(2);
+
+            // evicts b
+            x.paint(c, false, 50, 20, 1);
+            assertThat(x.count).isEqualTo(3);
+
+            x.paint(a, false, 50, 20, 1);
+            assertThat(x.count).isEqualTo(3);
+
+            x.paint(b, false, 50, 20, 1);
+            assertThat(x.count).isEqualTo(4);
+        });
+    }
+
+    @Test
+    public void testPaint() throws Exception {
+        SwingUtilities.invokeAndWait(() -> {
+            LightweightSparklineCellRenderer x = new LightweightSparklineCellRenderer();
+            JList<Object> list = new JList<>();
+            list.setForeground(Color.BLACK);
+            list.setBackground(Color.WHITE);
+
+            BufferedImage empty = paint(x.getListCellRendererComponent(list, new double[][]{{}, {}}, 0, false, false), 50, 20, 1);
+            assertThat(countPixels(empty, Color.WHITE)).isEqualTo(50 * 20);
+
+            BufferedImage line = paint(x.getListCellRendererComponent(list, new double[][]{{0, 1, 2}, {0, 1, 2}}, 0, false, false), 50, 20, 1);
+            assertThat(countPixels(line, Color.WHITE)).isLessThan(50 * 20);
+        });
+    }
+
+    private static final class CountingRenderer extends LightweightSparklineCellRenderer {
+
+        private final JList<Object> list = new JList<>();
+        private int count = 0;
+
+        CountingRenderer(int cacheSize) {
+            super(cacheSize);
+        }
+
+        @Override
+        protected void paintSparkline(Graphics2D g2, Object value, int width, int height) {
+            count++;
+            super.paintSparkline(g2, value, width, height);
+        }
+
+        void paint(Object value, boolean selected, int width, int height, double scale) {
+            LightweightSparklineCellRendererTest.paint(getListCellRendererComponent(list, value, 0, selected, false), width, height, scale);
+        }
+    }
+
+    private static BufferedImage paint(Component component, int width, int height, double scale) {
+        BufferedImage result = new BufferedImage((int) (width * scale), (int) (height * scale), BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g2 = result.createGraphics();
+        try {
+            g2.scale(scale, scale);
+            component.setSize(width, height);
+            component.print(g2);
+        } finally {
+            g2.dispose();
+        }
+        return result;
+    }
+
+    private static int countPixels(BufferedImage image, Color color) {
+        int result = 0;
+        for (int x = 0; x < image.getWidth(); x++) {
+            for (int y = 0; y < image.getHeight(); y++) {
+                if (image.getRGB(x, y) == color.getRGB()) {
+                    result++;
+                }
+            }
+        }
+        return result;
+    }
+}
@@ -0,0 +1,180 @@
+/*
+ * Copyright 2026 National Bank of Belgium
+ *
+ * Licensed under the EUPL, Version 1.1 or - as soon they will be approved
+ * by the European Commission - subsequent versions of the EUPL (the "Licence");
+ * You may not use this work except in compliance with the Licence.
+ * You may obtain a copy of the Licence at:
+ *
+ * http://ec.europa.eu/idabc/eupl
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the Licence is distributed on an "AS IS" basis,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Licence for the specific language governing permissions and
+ * limitations under the Licence.
+ */
+package ec.util.chart.swing;
+
+import ec.util.chart.ObsIndex;
+import ec.util.chart.TimeSeriesChart.RendererType;
+import org.jfree.chart.axis.NumberAxis;
+import org.jfree.chart.entity.LegendItemEntity;
+import org.jfree.chart.entity.PlotEntity;
+import org.jfree.chart.entity.StandardEntityCollection;
+import org.jfree.chart.entity.XYItemEntity;
+import org.jfree.chart.plot.XYPlot;
+import org.jfree.chart.renderer.xy.XYBarRenderer;
+import org.jfree.chart.renderer.xy.XYItemRenderer;
+import org.jfree.chart.renderer.xy.XYLineAndShapeRenderer;
+import org.junit.jupiter.api.Test;
+
+import java.awt.geom.Rectangle2D;
+import java.util.Collections;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * @author Philippe Charles
+ */
+public class ObsHitResolverTest {
+
+    // 10 pixels per unit on both axes, the range axis going upwards
+    private static final Rectangle2D DATA_AREA = new Rectangle2D.Double(0, 0, 100, 100);
+
+    @Test
+    public void testLowerBound() {
+        ColumnarXYDataset dataset = ColumnarXYDataset.builder()
+                .series("s1", new double[]{1, 2, 2, 3}, new double[]{0, 0, 0, 0})
+                .series("empty", new double[0], new double[0])
+                .build();
+
+        assertThat(ObsHitResolver.lowerBound(dataset, 0, 0)).isEqualTo(0);
+        assertThat(ObsHitResolver.lowerBound(dataset, 0, 1)).isEqualTo(0);
+        assertThat(ObsHitResolver.lowerBound(dataset, 0, 1.5)).isEqualTo(1);
+        assertThat(ObsHitResolver.lowerBound(dataset, 0, 2)).isEqualTo(1);
+        assertThat(ObsHitResolver.lowerBound(dataset, 0, 3)).isEqualTo(3);
+        assertThat(ObsHitResolver.lowerBound(dataset, 0, 4)).isEqualTo(4);
+        assertThat(ObsHitResolver.lowerBound(dataset, 1, 0)).isEqualTo(0);
+    }
+
+    @Test
+    public void testPoint() {
+        double[] x = {0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 10};
+        ColumnarXYDataset original = ColumnarXYDataset.builder()
+                .series("other", x, new double[x.length])
+                .series("s1", x, x)
+                .build();
+        XYPlot plot = newPlot(new FilteredXYDataset(original, new int[]{1}), new XYLineAndShapeRenderer());
+
+        // indexed by the series of the original dataset
+        assertThat(getObsIndex(plot, RendererType.LINE, 50, 50)).isEqualTo(ObsIndex.valueOf(1, 5));
+        assertThat(getObsIndex(plot, RendererType.LINE, 52, 48)).isEqualTo(ObsIndex.valueOf(1, 5));
+        // the nearest item wins
+        assertThat(getObsIndex(plot, RendererType.LINE, 58, 42)).isEqualTo(ObsIndex.valueOf(1, 6));
+        // between two items
+        assertThat(getObsIndex(plot, RendererType.LINE, 55, 45)).isEqualTo(ObsIndex.NULL);
+        // first and last items
+        assertThat(getObsIndex(plot, RendererType.LINE, 0, 100)).isEqualTo(ObsIndex.valueOf(1, 0));
+        assertThat(getObsIndex(plot, RendererType.LINE, 100, 0)).isEqualTo(ObsIndex.valueOf(1, 10));
+    }
+
+    @Test
+    public void testColumn() {
+        ColumnarXYDataset original = ColumnarXYDataset.builder()
+                .series("s1", new double[]{2, 5, 8}, new double[]{1, 4, 7}, new double[]{3, 6, 9}, new double[]{4, 6, -2})
+                .build();
+        XYPlot plot = newPlot(new FilteredXYDataset(original, new int[]{0}), new XYBarRenderer());
+
+        assertThat(getObsIndex(plot, RendererType.COLUMN, 15, 90)).isEqualTo(ObsIndex.valueOf(0, 0));
+        assertThat(getObsIndex(plot, RendererType.COLUMN, 59, 41)).isEqualTo(ObsIndex.valueOf(0, 1));
+        // above a column
+        assertThat(getObsIndex(plot, RendererType.COLUMN, 15, 50)).isEqualTo(ObsIndex.NULL);
+        // between two columns
+        assertThat(getObsIndex(plot, RendererType.COLUMN, 35, 100)).isEqualTo(ObsIndex.NULL);
+        // below the base
+        assertThat(getObsIndex(plot, RendererType.COLUMN, 80, 115)).isEqualTo(ObsIndex.valueOf(0, 2));
+    }
+
+    @Test
+    public void testStackedColumn() {
+        double[] x = {2, 5, 8};
+        double[] startX = {1, 4, 7};
+        double[] endX = {3, 6, 9};
+        ColumnarXYDataset original = ColumnarXYDataset.builder()
+                .series("s1", x, startX, endX, new double[]{2, 2, 2})
+                .series("s2", x, startX, endX, new double[]{3, 3, 3})
+                .build();
+        XYBarRenderer renderer = new XYBarRenderer();
+        XYPlot plot = newPlot(new FilteredXYDataset(original, new int[]{0, 1}), renderer);
+
+        assertThat(getObsIndex(plot, RendererType.STACKED_COLUMN, 50, 90)).isEqualTo(ObsIndex.valueOf(0, 1));
+        assertThat(getObsIndex(plot, RendererType.STACKED_COLUMN, 50, 60)).isEqualTo(ObsIndex.valueOf(1, 1));
+        assertThat(getObsIndex(plot, RendererType.STACKED_COLUMN, 50, 40)).isEqualTo(ObsIndex.NULL);
+
+        // hidden series are neither hit nor stacked
+        renderer.setSeriesVisible(0, false);
+        assertThat(getObsIndex(plot, RendererType.STACKED_COLUMN, 50, 90)).isEqualTo(ObsIndex.valueOf(1, 1));
+        assertThat(getObsIndex(plot, RendererType.STACKED_COLUMN, 50, 60)).isEqualTo(ObsIndex.NULL);
+    }
+
+    @Test
+    public void testArea() {
+        double[] x = {0, 2, 4, 6, 8, 10};
+        ColumnarXYDataset original = ColumnarXYDataset.builder()
+                .series("s1", x, new double[]{5, 5, 5, 5, 5, 5})
+                .build();
+        XYPlot plot = newPlot(new FilteredXYDataset(original, new int[]{0}), new XYLineAndShapeRenderer());
+
+        // from the middle of the previous segment to the middle of the next one
+        assertThat(getObsIndex(plot, RendererType.AREA, 29, 80)).isEqualTo(ObsIndex.valueOf(0, 1));
+        assertThat(getObsIndex(plot, RendererType.AREA, 39, 80)).isEqualTo(ObsIndex.valueOf(0, 2));
+        assertThat(getObsIndex(plot, RendererType.AREA, 39, 40)).isEqualTo(ObsIndex.NULL);
+    }
+
+    @Test
+    public void testHiddenSeries() {
+        double[] x = {0, 5, 10};
+        ColumnarXYDataset original = ColumnarXYDataset.builder()
+                .series("s1", x, x)
+                .build();
+        XYLineAndShapeRenderer renderer = new XYLineAndShapeRenderer();
+        XYPlot plot = newPlot(new FilteredXYDataset(original, new int[]{0}), renderer);
+
+        assertThat(getObsIndex(plot, RendererType.LINE, 50, 50)).isEqualTo(ObsIndex.valueOf(0, 1));
+        renderer.setSeriesVisible(0, false);
+        assertThat(getObsIndex(plot, RendererType.LINE, 50, 50)).isEqualTo(ObsIndex.NULL);
+    }
+
+    @Test
+    public void testItemlessEntityCollection() {
+        ColumnarXYDataset dataset = ColumnarXYDataset.builder().build();
+        Rectangle2D area = new Rectangle2D.Double(0, 0, 1, 1);
+        XYItemEntity item = new XYItemEntity(area, dataset, 0, 0, null, null);
+        LegendItemEntity legend = new LegendItemEntity(area);
+        PlotEntity plot = new PlotEntity(area, new XYPlot());
+
+        ObsHitResolver.ItemlessEntityCollection x = new ObsHitResolver.ItemlessEntityCollection();
+        x.add(item);
+        x.add(legend);
+        assertThat(x.getEntities()).containsExactly(legend);
+
+        StandardEntityCollection other = new StandardEntityCollection();
+        other.add(item);
+        other.add(plot);
+        x.addAll(other);
+        assertThat(x.getEntities()).containsExactly(legend, plot);
+    }
+
+    private static XYPlot newPlot(FilteredXYDataset dataset, XYItemRenderer renderer) {
+        NumberAxis domainAxis = new NumberAxis();
+        domainAxis.setRange(0, 10);
+        NumberAxis rangeAxis = new NumberAxis();
+        rangeAxis.setRange(0, 10);
+        return new XYPlot(dataset, domainAxis, rangeAxis, renderer);
+    }
+
+    private static ObsIndex getObsIndex(XYPlot plot, RendererType type, double px, double py) {
+        return ObsHitResolver.getObsIndex(plot, DATA_AREA, Collections.singletonList(type), px, py);
+    }
+}
@@ -0,0 +1,173 @@
+/*
+ * Copyright 2026 National Bank of Belgium
+ *
+ * Licensed under the EUPL, Version 1.1 or - as soon they will be approved
+ * by the European Commission - subsequent versions of the EUPL (the "Licence");
+ * You may not use this work except in compliance with the Licence.
+ * You may obtain a copy of the Licence at:
+ *
+ * http://ec.europa.eu/idabc/eupl
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the Licence is distributed on an "AS IS" basis,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Licence for the specific language governing permissions and
+ * limitations under the Licence.
+ */
+package ec.util.chart.swing;
+
+import org.jfree.chart.ChartPanel;
+import org.jfree.chart.ChartRenderingInfo;
+import org.junit.jupiter.api.Test;
+
+import javax.swing.*;
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * @author Philippe Charles
+ */
+public class OffscreenChartRendererTest {
+
+    private static final Rectangle AREA = new Rectangle(0, 0, 10, 10);
+
+    @Test
+    public void testStaleFrames() throws Exception {
+        OffscreenChartRenderer x = onEDT(() -> new OffscreenChartRenderer(new ChartPanel(null)));
+
+        // nothing to paint until the first frame is done
+        CountDownLatch first = new CountDownLatch(1);
+        FrameFactory red = new FrameFactory(Color.RED, first, null);
+        assertThat(onEDT(() -> paint(x, red))).isEqualTo(0);
+        assertThat(red.calls).hasValue(1);
+
+        // the queued request is replaced by the latest one
+        FrameFactory replaced = new FrameFactory(Color.GREEN, null, null);
+        FrameFactory blue = new FrameFactory(Color.BLUE, null, null);
+        onEDT(() -> {
+            x.invalidate();
+            paint(x, replaced);
+            x.invalidate();
+            return paint(x, blue);
+        });
+
+        // the stale frame is either skipped or painted until the latest one is done
+        first.countDown();
+        waitFor(x, Color.BLUE);
+        assertThat(replaced.calls).hasValue(0);
+        assertThat(blue.calls).hasValue(1);
+
+        // same size and not invalidated: no new frame
+        assertThat(onEDT(() -> paint(x, blue))).isEqualTo(Color.BLUE.getRGB());
+        assertThat(blue.calls).hasValue(1);
+
+        // a stale frame never replaces the current one
+        CountDownLatch third = new CountDownLatch(1);
+        FrameFactory stale = new FrameFactory(Color.GREEN, third, null);
+        CountDownLatch fourth = new CountDownLatch(1);
+        CountDownLatch fourthStarted = new CountDownLatch(1);
+        FrameFactory yellow = new FrameFactory(Color.YELLOW, fourth, fourthStarted);
+        onEDT(() -> {
+            x.invalidate();
+            paint(x, stale);
+            x.invalidate();
+            return paint(x, yellow);
+        });
+        third.countDown();
+        assertThat(fourthStarted.await(10, TimeUnit.SECONDS)).isTrue();
+        assertThat(onEDT(() -> paint(x, yellow))).isEqualTo(Color.BLUE.getRGB());
+
+        fourth.countDown();
+        waitFor(x, Color.YELLOW);
+        assertThat(stale.calls).hasValue(1);
+        assertThat(yellow.calls).hasValue(1);
+    }
+
+    @Test
+    public void testDispose() throws Exception {
+        OffscreenChartRenderer x = onEDT(() -> new OffscreenChartRenderer(new ChartPanel(null)));
+        FrameFactory red = new FrameFactory(Color.RED, null, null);
+        onEDT(() -> paint(x, red));
+        waitFor(x, Color.RED);
+
+        onEDT(() -> {
+            x.dispose();
+            return null;
+        });
+        // a disposed renderer paints nothing
+        FrameFactory blue = new FrameFactory(Color.BLUE, null, null);
+        assertThat(onEDT(() -> paint(x, blue))).isEqualTo(0);
+    }
+
+    private static final class FrameFactory implements Supplier<OffscreenChartRenderer.Frame> {
+
+        private final Color color;
+        private final CountDownLatch release;
+        private final CountDownLatch started;
+        private final AtomicInteger calls = new AtomicInteger();
+
+        private FrameFactory(Color color, CountDownLatch release, CountDownLatch started) {
+            this.color = color;
+            this.release = release;
+            this.started = started;
+        }
+
+        @Override
+        public OffscreenChartRenderer.Frame get() {
+            calls.incrementAndGet();
+            return (g2, area) -> {
+                if (started != null) {
+                    started.countDown();
+                }
+                if (release != null) {
+                    try {
+                        release.await(10, TimeUnit.SECONDS);
+                    } catch (InterruptedException ex) {
+                        Thread.currentThread().interrupt();
+                    }
+                }
+                g2.setColor(color);
+                g2.fill(area);
+                return new ChartRenderingInfo();
+            };
+        }
+    }
+
+    // returns the painted color, 0 if nothing was painted
+    private static int paint(OffscreenChartRenderer renderer, Supplier<OffscreenChartRenderer.Frame> frames) {
+        BufferedImage image = new BufferedImage(AREA.width, AREA.height, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g2 = image.createGraphics();
+        try {
+            renderer.paint(g2, AREA, frames);
+        } finally {
+            g2.dispose();
+        }
+        return image.getRGB(AREA.width / 2, AREA.height / 2);
+    }
+
+    private static void waitFor(OffscreenChartRenderer renderer, Color color) throws Exception {
+        FrameFactory unused = new FrameFactory(Color.BLACK, null, null);
+        for (long deadline = System.currentTimeMillis() + 10_000; System.currentTimeMillis() < deadline; ) {
+            if (onEDT(() -> paint(renderer, unused)) == color.getRGB()) {
+                assertThat(unused.calls).hasValue(0);
+                return;
+            }
+            Thread.sleep(10);
+        }
+        fail("Frame not painted");
+    }
+
+    private static <T> T onEDT(Supplier<T> supplier) throws Exception {
+        Object[] result = new Object[1];
+        SwingUtilities.invokeAndWait(() -> result[0] = supplier.get());
+        @SuppressWarnings("unchecked")
+        T t = (T) result[0];
+        return t;
+    }
+}
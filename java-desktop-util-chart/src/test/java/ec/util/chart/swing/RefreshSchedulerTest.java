@@ -0,0 +1,178 @@
+/*
+ * Copyright 2026 National Bank of Belgium
+ *
+ * Licensed under the EUPL, Version 1.1 or - as soon they will be approved
+ * by the European Commission - subsequent versions of the EUPL (the "Licence");
+ * You may not use this work except in compliance with the Licence.
+ * You may obtain a copy of the Licence at:
+ *
+ * http://ec.europa.eu/idabc/eupl
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the Licence is distributed on an "AS IS" basis,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Licence for the specific language governing permissions and
+ * limitations under the Licence.
+ */
+package ec.util.chart.swing;
+
+import org.junit.jupiter.api.Test;
+
+import javax.swing.*;
+import javax.swing.event.AncestorListener;
+import java.awt.*;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * @author Philippe Charles
+ */
+public class RefreshSchedulerTest {
+
+    @Test
+    public void testCoalescing() throws Exception {
+        RefreshScheduler x = new RefreshScheduler(16, 12);
+        Recorder recorder = new Recorder(1);
+        RefreshScheduler.Task task = x.newTask(new JPanel(), recorder, 0);
+
+        SwingUtilities.invokeAndWait(() -> {
+            task.request();
+            task.request();
+            task.request();
+        });
+        recorder.await();
+        settle();
+        assertThat(recorder.runs).hasSize(1);
+
+        // requests from other threads are coalesced too
+        recorder.reset(1);
+        task.request();
+        task.request();
+        recorder.await();
+        settle();
+        assertThat(recorder.runs).hasSize(1);
+    }
+
+    @Test
+    public void testMaxRate() throws Exception {
+        RefreshScheduler x = new RefreshScheduler(16, 12);
+        Recorder recorder = new Recorder(2);
+        RefreshScheduler.Task task = x.newTask(new JPanel(), recorder, 10);
+
+        task.request();
+        for (long deadline = System.currentTimeMillis() + 10_000; recorder.runs.isEmpty() && System.currentTimeMillis() < deadline; ) {
+            Thread.sleep(1);
+        }
+        task.request();
+        recorder.await();
+
+        assertThat(recorder.runs.get(1) - recorder.runs.get(0)).isGreaterThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(100));
+    }
+
+    @Test
+    public void testDeferral() throws Exception {
+        RefreshScheduler x = new RefreshScheduler(16, 12);
+        Recorder recorder = new Recorder(1);
+        ScrolledComponent component = new ScrolledComponent();
+        RefreshScheduler.Task task = x.newTask(component, recorder, 0);
+
+        task.request();
+        settle();
+        assertThat(recorder.runs).isEmpty();
+
+        // the component is scrolled into view
+        SwingUtilities.invokeAndWait(() -> {
+            component.inView = true;
+            for (AncestorListener o : component.getAncestorListeners()) {
+                o.ancestorMoved(null);
+            }
+        });
+        recorder.await();
+        assertThat(recorder.runs).hasSize(1);
+    }
+
+    @Test
+    public void testFrameBudget() throws Exception {
+        RefreshScheduler x = new RefreshScheduler(200, 50);
+        Recorder recorder = new Recorder(3);
+        List<RefreshScheduler.Task> tasks = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            tasks.add(x.newTask(new JPanel(), () -> {
+                recorder.run();
+                sleep(30);
+            }, 0));
+        }
+
+        SwingUtilities.invokeAndWait(() -> tasks.forEach(RefreshScheduler.Task::request));
+        recorder.await();
+
+        // the first frame runs two tasks and the last one waits for the next frame
+        assertThat(recorder.runs.get(1) - recorder.runs.get(0)).isLessThan(TimeUnit.MILLISECONDS.toNanos(200));
+        assertThat(recorder.runs.get(2) - recorder.runs.get(1)).isGreaterThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(200));
+    }
+
+    private static final class Recorder implements Runnable {
+
+        private final List<Long> runs = Collections.synchronizedList(new ArrayList<>());
+        private volatile CountDownLatch latch;
+
+        private Recorder(int expected) {
+            reset(expected);
+        }
+
+        void reset(int expected) {
+            runs.clear();
+            latch = new CountDownLatch(expected);
+        }
+
+        @Override
+        public void run() {
+            runs.add(System.nanoTime());
+            latch.countDown();
+        }
+
+        void await() throws InterruptedException {
+            assertThat(latch.await(10, TimeUnit.SECONDS)).isTrue();
+        }
+    }
+
+    // a displayed component whose visibility is driven by the test
+    private static final class ScrolledComponent extends JComponent {
+
+        private volatile boolean inView = false;
+
+        @Override
+        public boolean isDisplayable() {
+            return true;
+        }
+
+        @Override
+        public boolean isShowing() {
+            return true;
+        }
+
+        @Override
+        public Rectangle getVisibleRect() {
+            return inView ? new Rectangle(0, 0, 10, 10) : new Rectangle();
+        }
+    }
+
+    private static void settle() throws Exception {
+        Thread.sleep(100);
+        SwingUtilities.invokeAndWait(() -> {
+        });
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,140 @@
+/*
+ * Copyright 2026 National Bank of Belgium
+ *
+ * Licensed under the EUPL, Version 1.1 or - as soon they will be approved
+ * by the European Commission - subsequent versions of the EUPL (the "Licence");
+ * You may not use this work except in compliance with the Licence.
+ * You may obtain a copy of the Licence at:
+ *
+ * http://ec.europa.eu/idabc/eupl
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the Licence is distributed on an "AS IS" basis,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Licence for the specific language governing permissions and
+ * limitations under the Licence.
+ */
+package ec.util.chart.swing;
+
+import org.jfree.data.DomainOrder;
+import org.jfree.data.time.Day;
+import org.jfree.data.time.Month;
+import org.jfree.data.time.Quarter;
+import org.jfree.data.time.RegularTimePeriod;
+import org.jfree.data.time.TimePeriodAnchor;
+import org.jfree.data.time.TimeSeries;
+import org.jfree.data.time.TimeSeriesCollection;
+import org.jfree.data.xy.IntervalXYDataset;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.Period;
+import java.time.ZoneId;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * @author Philippe Charles
+ */
+public class RegularXYDatasetTest {
+
+    @Test
+    public void testMonthly() {
+        RegularXYDataset x = RegularXYDataset.builder()
+                .series("s1", LocalDate.of(2010, 1, 1), Period.ofMonths(1), new double[]{1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 13, 14})
+                // shares the timeline with an offset
+                .series("s2", LocalDate.of(2010, 3, 1), Period.ofMonths(1), new double[]{1, 2, 3})
+                // extends the timeline backwards
+                .series("s3", LocalDate.of(2009, 11, 1), Period.ofMonths(1), new double[]{1, 2, 3, 4})
+                .build();
+
+        TimeSeriesCollection expected = new TimeSeriesCollection();
+        expected.addSeries(newTimeSeries("s1", new Month(1, 2010), 14));
+        expected.addSeries(newTimeSeries("s2", new Month(3, 2010), 3));
+        expected.addSeries(newTimeSeries("s3", new Month(11, 2009), 4));
+
+        assertEquivalent(x, expected);
+    }
+
+    @Test
+    public void testQuarterlyAndDaily() {
+        RegularXYDataset x = RegularXYDataset.builder()
+                .series("s1", LocalDate.of(2010, 1, 1), Period.ofMonths(3), new double[]{1, 2, 3, 4, 5, 6})
+                .series("s2", LocalDate.of(2010, 3, 25), Period.ofDays(1), new double[]{1, 2, 3, 4, 5, 6, 7, 8, 9, 10})
+                .build();
+
+        TimeSeriesCollection expected = new TimeSeriesCollection();
+        expected.addSeries(newTimeSeries("s1", new Quarter(1, 2010), 6));
+        expected.addSeries(newTimeSeries("s2", new Day(25, 3, 2010), 10));
+
+        assertEquivalent(x, expected);
+    }
+
+    @Test
+    public void testAnchor() {
+        for (TimePeriodAnchor anchor : new TimePeriodAnchor[]{TimePeriodAnchor.START, TimePeriodAnchor.MIDDLE, TimePeriodAnchor.END}) {
+            RegularXYDataset x = RegularXYDataset.builder()
+                        .anchor(anchor)
+                    .series("s1", LocalDate.of(2010, 1, 1), Period.ofMonths(1), new double[]{1, 2, 3})
+                    .build();
+
+            TimeSeriesCollection expected = new TimeSeriesCollection();
+            expected.setXPosition(anchor);
+            expected.addSeries(newTimeSeries("s1", new Month(1, 2010), 3));
+
+            assertEquivalent(x, expected);
+        }
+    }
+
+    @Test
+    public void testZone() {
+        ZoneId zone = ZoneId.of("Pacific/Auckland");
+        RegularXYDataset x = RegularXYDataset.builder()
+                .zone(zone)
+                .series("s1", LocalDate.of(2010, 1, 1), Period.ofMonths(1), new double[]{1, 2})
+                .build();
+
+        assertThat(x.getStartXValue(0, 0)).isEqualTo(LocalDate.of(2010, 1, 1).atStartOfDay(zone).toInstant().toEpochMilli());
+        assertThat(x.getEndXValue(0, 1)).isEqualTo(LocalDate.of(2010, 3, 1).atStartOfDay(zone).toInstant().toEpochMilli() - 1);
+    }
+
+    @Test
+    public void testBuilder() {
+        double[] values = {1, 2, 3};
+        RegularXYDataset x = RegularXYDataset.builder()
+                .series("s1", LocalDate.of(2010, 1, 1), Period.ofMonths(1), values)
+                .build();
+        values[0] = 100;
+
+        assertThat(x.getYValue(0, 0)).isEqualTo(1);
+        assertThat(x.getDomainOrder()).isEqualTo(DomainOrder.ASCENDING);
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> RegularXYDataset.builder().series("s1", LocalDate.of(2010, 1, 1), Period.ZERO, values));
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> RegularXYDataset.builder().series("s1", LocalDate.of(2010, 1, 1), Period.ofMonths(-1), values));
+    }
+
+    private static TimeSeries newTimeSeries(String key, RegularTimePeriod start, int count) {
+        TimeSeries result = new TimeSeries(key);
+        RegularTimePeriod period = start;
+        for (int i = 0; i < count; i++) {
+            result.add(period, i + 1);
+            period = period.next();
+        }
+        return result;
+    }
+
+    private static void assertEquivalent(IntervalXYDataset actual, IntervalXYDataset expected) {
+        assertThat(actual.getSeriesCount()).isEqualTo(expected.getSeriesCount());
+        for (int series = 0; series < expected.getSeriesCount(); series++) {
+            assertThat(actual.getSeriesKey(series)).isEqualTo(expected.getSeriesKey(series));
+            assertThat(actual.getItemCount(series)).isEqualTo(expected.getItemCount(series));
+            for (int item = 0; item < expected.getItemCount(series); item++) {
+                assertThat(actual.getXValue(series, item)).isEqualTo(expected.getXValue(series, item));
+                assertThat(actual.getStartXValue(series, item)).isEqualTo(expected.getStartXValue(series, item));
+                assertThat(actual.getEndXValue(series, item)).isEqualTo(expected.getEndXValue(series, item));
+                assertThat(actual.getYValue(series, item)).isEqualTo(expected.getYValue(series, item));
+            }
+        }
+    }
+}
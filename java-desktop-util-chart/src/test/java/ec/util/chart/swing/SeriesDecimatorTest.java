@@ -0,0 +1,216 @@
+/*
+ * Copyright 2026 National Bank of Belgium
+ *
+ * Licensed under the EUPL, Version 1.1 or - as soon they will be approved
+ * by the European Commission - subsequent versions of the EUPL (the "Licence");
+ * You may not use this work except in compliance with the Licence.
+ * You may obtain a copy of the Licence at:
+ *
+ * http://ec.europa.eu/idabc/eupl
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the Licence is distributed on an "AS IS" basis,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Licence for the specific language governing permissions and
+ * limitations under the Licence.
+ */
+package ec.util.chart.swing;
+
+import org.jfree.chart.axis.NumberAxis;
+import org.jfree.chart.plot.XYPlot;
+import org.jfree.data.DomainOrder;
+import org.jfree.data.xy.DefaultXYDataset;
+import org.jfree.ui.RectangleEdge;
+import org.junit.jupiter.api.Test;
+
+import java.awt.geom.Rectangle2D;
+import java.util.BitSet;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * @author Philippe Charles
+ */
+public class SeriesDecimatorTest {
+
+    @Test
+    public void testComputeMinMaxSparse() {
+        DefaultXYDataset dataset = newDataset(40);
+        NumberAxis axis = newAxis(0, 39);
+
+        assertThat(SeriesDecimator.computeMinMax(dataset, 0, axis, new Rectangle2D.Double(0, 0, 10, 10), RectangleEdge.BOTTOM))
+                .isNull();
+    }
+
+    @Test
+    public void testComputeMinMaxDense() {
+        int count = 1000;
+        int width = 10;
+        DefaultXYDataset dataset = newDataset(count);
+        NumberAxis axis = newAxis(0, count);
+        Rectangle2D dataArea = new Rectangle2D.Double(0, 0, width, 10);
+
+        BitSet mask = SeriesDecimator.computeMinMax(dataset, 0, axis, dataArea, RectangleEdge.BOTTOM);
+
+        assertThat(mask).isNotNull();
+        assertThat(mask.cardinality()).isLessThanOrEqualTo(4 * width + 2);
+        assertThat(mask.get(0)).isTrue();
+        assertThat(mask.get(count - 1)).isTrue();
+
+        // the first, last, lowest and highest items of each pixel column are kept
+        int itemsPerColumn = count / width;
+        for (int column = 0; column < width; column++) {
+            int from = column * itemsPerColumn;
+            int to = from + itemsPerColumn;
+            int min = from, max = from;
+            for (int item = from; item < to; item++) {
+                if (dataset.getYValue(0, item) < dataset.getYValue(0, min)) {
+                    min = item;
+                }
+                if (dataset.getYValue(0, item) > dataset.getYValue(0, max)) {
+                    max = item;
+                }
+            }
+            assertThat(mask.get(from)).isTrue();
+            assertThat(mask.get(to - 1)).isTrue();
+            assertThat(mask.get(min)).isTrue();
+            assertThat(mask.get(max)).isTrue();
+        }
+    }
+
+    @Test
+    public void testComputeMinMaxVertical() {
+        int count = 1000;
+        DefaultXYDataset dataset = newDataset(count);
+        NumberAxis axis = newAxis(0, count);
+
+        // the height of the data area is the length of a vertical domain axis
+        assertThat(SeriesDecimator.computeMinMax(dataset, 0, axis, new Rectangle2D.Double(0, 0, 10, 1000), RectangleEdge.LEFT))
+                .isNull();
+        assertThat(SeriesDecimator.computeMinMax(dataset, 0, axis, new Rectangle2D.Double(0, 0, 1000, 10), RectangleEdge.LEFT))
+                .isNotNull();
+    }
+
+    @Test
+    public void testComputeMinMaxMissingValues() {
+        int count = 1000;
+        double[] x = new double[count];
+        double[] y = new double[count];
+        for (int i = 0; i < count; i++) {
+            x[i] = i;
+            y[i] = i % 2 == 0 ? Double.NaN : i;
+        }
+        DefaultXYDataset dataset = new DefaultXYDataset();
+        dataset.addSeries("s1", new double[][]{x, y});
+
+        BitSet mask = SeriesDecimator.computeMinMax(dataset, 0, newAxis(0, count), new Rectangle2D.Double(0, 0, 10, 10), RectangleEdge.BOTTOM);
+
+        assertThat(mask).isNotNull();
+        // NaN values are never the lowest or highest item of a column
+        assertThat(mask.stream().filter(item -> item != 0 && item % 100 != 0 && item % 100 != 99))
+                .allMatch(item -> item % 2 == 1);
+    }
+
+    @Test
+    public void testComputeMinMaxVisibleRange() {
+        int count = 100_000;
+        CountingDataset dataset = newSortedDataset(count);
+        Rectangle2D dataArea = new Rectangle2D.Double(0, 0, 10, 10);
+
+        BitSet mask = SeriesDecimator.computeMinMax(dataset, 0, newAxis(50_000, 51_000), dataArea, RectangleEdge.BOTTOM);
+
+        assertThat(mask).isNotNull();
+        // only the visible items and their neighbours are read
+        assertThat(dataset.reads).isLessThanOrEqualTo(1003);
+        assertThat(mask.get(0)).isTrue();
+        assertThat(mask.get(count - 1)).isTrue();
+        assertThat(mask.get(49_999)).isTrue();
+        assertThat(mask.get(51_001)).isTrue();
+        assertThat(mask.get(1, 49_999).isEmpty()).isTrue();
+        assertThat(mask.get(51_002, count - 1).isEmpty()).isTrue();
+
+        // few visible items are not decimated
+        assertThat(SeriesDecimator.computeMinMax(dataset, 0, newAxis(50_000, 50_030), dataArea, RectangleEdge.BOTTOM))
+                .isNull();
+    }
+
+    @Test
+    public void testResetKeepsMasks() {
+        int count = 10_000;
+        CountingDataset dataset = newSortedDataset(count);
+        NumberAxis axis = newAxis(0, count);
+        XYPlot plot = new XYPlot(dataset, axis, new NumberAxis(), null);
+        SeriesDecimator decimator = new SeriesDecimator();
+        dataset.reads = 0;
+
+        decimator.reset(true, plot, dataset, new Rectangle2D.Double(0, 0, 10, 10));
+        assertThat(decimator.isKept(0, 0)).isTrue();
+        assertThat(dataset.reads).isEqualTo(count);
+
+        // unchanged view
+        dataset.reads = 0;
+        decimator.reset(true, plot, dataset, new Rectangle2D.Double(0, 0, 10, 10));
+        assertThat(decimator.isKept(0, 0)).isTrue();
+        assertThat(dataset.reads).isZero();
+
+        // resized
+        decimator.reset(true, plot, dataset, new Rectangle2D.Double(0, 0, 20, 10));
+        assertThat(decimator.isKept(0, 0)).isTrue();
+        assertThat(dataset.reads).isEqualTo(count);
+
+        // zoomed
+        dataset.reads = 0;
+        axis.setRange(0, count / 2);
+        decimator.reset(true, plot, dataset, new Rectangle2D.Double(0, 0, 20, 10));
+        assertThat(decimator.isKept(0, 0)).isTrue();
+        assertThat(dataset.reads).isPositive();
+
+        // changed content
+        dataset.reads = 0;
+        dataset.addSeries("s2", new double[][]{{0}, {0}});
+        decimator.reset(true, plot, dataset, new Rectangle2D.Double(0, 0, 20, 10));
+        assertThat(decimator.isKept(0, 0)).isTrue();
+        assertThat(dataset.reads).isPositive();
+    }
+
+    private static DefaultXYDataset newDataset(int count) {
+        return fill(new DefaultXYDataset(), count);
+    }
+
+    private static CountingDataset newSortedDataset(int count) {
+        return fill(new CountingDataset(), count);
+    }
+
+    private static <T extends DefaultXYDataset> T fill(T result, int count) {
+        double[] x = new double[count];
+        double[] y = new double[count];
+        for (int i = 0; i < count; i++) {
+            x[i] = i;
+            y[i] = Math.sin(i * 0.37) * (i % 7);
+        }
+        result.addSeries("s1", new double[][]{x, y});
+        return result;
+    }
+
+    private static final class CountingDataset extends DefaultXYDataset {
+
+        int reads = 0;
+
+        @Override
+        public DomainOrder getDomainOrder() {
+            return DomainOrder.ASCENDING;
+        }
+
+        @Override
+        public double getYValue(int series, int item) {
+            reads++;
+            return super.getYValue(series, item);
+        }
+    }
+
+    private static NumberAxis newAxis(double lower, double upper) {
+        NumberAxis result = new NumberAxis();
+        result.setRange(lower, upper);
+        return result;
+    }
+}
@@ -0,0 +1,205 @@
+/*
+ * Copyright 2026 National Bank of Belgium
+ *
+ * Licensed under the EUPL, Version 1.1 or - as soon they will be approved
+ * by the European Commission - subsequent versions of the EUPL (the "Licence");
+ * You may not use this work except in compliance with the Licence.
+ * You may obtain a copy of the Licence at:
+ *
+ * http://ec.europa.eu/idabc/eupl
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the Licence is distributed on an "AS IS" basis,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Licence for the specific language governing permissions and
+ * limitations under the Licence.
+ */
+package ec.util.chart.swing;
+
+import org.jfree.chart.axis.NumberAxis;
+import org.jfree.chart.plot.XYPlot;
+import org.jfree.chart.renderer.xy.XYLineAndShapeRenderer;
+import org.jfree.data.Range;
+import org.jfree.data.xy.XYDataset;
+import org.junit.jupiter.api.Test;
+
+import javax.swing.*;
+import java.util.BitSet;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * @author Philippe Charles
+ */
+public class SeriesRangeIndexTest {
+
+    @Test
+    public void testIsSupported() {
+        ColumnarXYDataset sorted = newDataset(10);
+        ColumnarXYDataset unsorted = ColumnarXYDataset.builder().series("s1", new double[]{2, 1}, new double[]{0, 0}).build();
+
+        assertThat(SeriesRangeIndex.isSupported(null)).isFalse();
+        assertThat(SeriesRangeIndex.isSupported(sorted)).isFalse();
+        assertThat(SeriesRangeIndex.isSupported(new FilteredXYDataset(sorted, new int[]{0, 1}))).isTrue();
+        assertThat(SeriesRangeIndex.isSupported(new FilteredXYDataset(unsorted, new int[]{0}))).isFalse();
+    }
+
+    @Test
+    public void testFindRangeBounds() {
+        ColumnarXYDataset original = newDataset(1000);
+        FilteredXYDataset dataset = new FilteredXYDataset(original, new int[]{1});
+        XYLineAndShapeRenderer renderer = new XYLineAndShapeRenderer();
+
+        // no plot: all the items
+        assertThat(SeriesRangeIndex.findRangeBounds(renderer, dataset))
+                .isEqualTo(bruteForce(original, 1, Double.NEGATIVE_INFINITY, Double.POSITIVE_INFINITY));
+
+        NumberAxis domainAxis = new NumberAxis();
+        new XYPlot(dataset, domainAxis, new NumberAxis(), renderer);
+        for (double[] range : new double[][]{{0, 999}, {10, 20}, {0.5, 1.5}, {31, 33}, {100, 900}, {998, 2000}}) {
+            domainAxis.setRange(range[0], range[1]);
+            assertThat(SeriesRangeIndex.findRangeBounds(renderer, dataset))
+                    .isEqualTo(bruteForce(original, 1, range[0], range[1]));
+        }
+
+        domainAxis.setRange(2000, 3000);
+        assertThat(SeriesRangeIndex.findRangeBounds(renderer, dataset)).isNull();
+    }
+
+    @Test
+    public void testFindRangeBoundsHiddenSeries() {
+        ColumnarXYDataset original = newDataset(100);
+        FilteredXYDataset dataset = new FilteredXYDataset(original, new int[]{0, 1});
+        XYLineAndShapeRenderer renderer = new XYLineAndShapeRenderer();
+
+        renderer.setSeriesVisible(0, false);
+        assertThat(SeriesRangeIndex.findRangeBounds(renderer, dataset))
+                .isEqualTo(bruteForce(original, 1, Double.NEGATIVE_INFINITY, Double.POSITIVE_INFINITY));
+
+        renderer.setSeriesVisible(1, false);
+        assertThat(SeriesRangeIndex.findRangeBounds(renderer, dataset)).isNull();
+    }
+
+    @Test
+    public void testFindRangeBoundsStreaming() throws Exception {
+        StreamingXYDataset original = new StreamingXYDataset(100);
+        FilteredXYDataset dataset = new FilteredXYDataset(original, new int[]{0});
+        XYLineAndShapeRenderer renderer = new XYLineAndShapeRenderer();
+        Random random = new Random(0);
+
+        original.addSeries("s1");
+        for (int i = 0; i < 250; i++) {
+            original.append(0, i, random.nextGaussian());
+            if (i % 10 == 9) {
+                // appends, then appends with evictions
+                flush();
+                assertThat(SeriesRangeIndex.findRangeBounds(renderer, dataset))
+                        .isEqualTo(bruteForce(original, 0, Double.NEGATIVE_INFINITY, Double.POSITIVE_INFINITY));
+            }
+        }
+    }
+
+    @Test
+    public void testFindLevelOfDetail() throws Exception {
+        int count = 100_000;
+        ColumnarXYDataset original = newDataset(count);
+        FilteredXYDataset dataset = new FilteredXYDataset(original, new int[]{0});
+
+        // computed in background
+        BitSet mask = null;
+        for (long deadline = System.currentTimeMillis() + 10_000; mask == null && System.currentTimeMillis() < deadline; ) {
+            mask = SeriesRangeIndex.findLevelOfDetail(dataset, 0, 0, count, 10);
+            Thread.sleep(10);
+        }
+
+        assertThat(mask).isNotNull();
+        // blocks of 4096 items plus the partial blocks on the edges
+        assertThat(mask.cardinality()).isLessThan(count / 10);
+        assertThat(mask.get(0)).isTrue();
+        assertThat(mask.get(count - 1)).isTrue();
+        assertThat(mask.get(indexOfMin(original, 0, count))).isTrue();
+        assertThat(mask.get(indexOfMax(original, 0, count))).isTrue();
+
+        // not dense enough
+        assertThat(SeriesRangeIndex.findLevelOfDetail(dataset, 0, 0, count, count)).isNull();
+    }
+
+    @Test
+    public void testFindLevelOfDetailMutable() throws Exception {
+        int count = 100_000;
+        StreamingXYDataset original = new StreamingXYDataset(count);
+        FilteredXYDataset dataset = new FilteredXYDataset(original, new int[]{0});
+        Random random = new Random(0);
+
+        SwingUtilities.invokeAndWait(() -> {
+            original.addSeries("s1");
+            for (int i = 0; i < count; i++) {
+                original.append(0, i, random.nextGaussian());
+            }
+        });
+        flush();
+
+        // computed on the calling thread, never in background
+        BitSet[] mask = new BitSet[1];
+        SwingUtilities.invokeAndWait(() -> mask[0] = SeriesRangeIndex.findLevelOfDetail(dataset, 0, 0, count, 10));
+
+        assertThat(mask[0]).isNotNull();
+        assertThat(mask[0].get(0)).isTrue();
+        assertThat(mask[0].get(count - 1)).isTrue();
+        assertThat(mask[0].get(indexOfMin(original, 0, count))).isTrue();
+        assertThat(mask[0].get(indexOfMax(original, 0, count))).isTrue();
+    }
+
+    private static void flush() throws Exception {
+        // the dataset is synced by a task queued on the EDT
+        SwingUtilities.invokeAndWait(() -> {
+        });
+    }
+
+    private static ColumnarXYDataset newDataset(int count) {
+        Random random = new Random(count);
+        double[] x = new double[count];
+        double[] y1 = new double[count];
+        double[] y2 = new double[count];
+        for (int i = 0; i < count; i++) {
+            x[i] = i;
+            y1[i] = random.nextGaussian();
+            y2[i] = random.nextGaussian() * 10;
+        }
+        return ColumnarXYDataset.builder().series("s1", x, y1).series("s2", x, y2).build();
+    }
+
+    private static Range bruteForce(XYDataset dataset, int series, double lower, double upper) {
+        double min = Double.POSITIVE_INFINITY;
+        double max = Double.NEGATIVE_INFINITY;
+        for (int item = 0; item < dataset.getItemCount(series); item++) {
+            double x = dataset.getXValue(series, item);
+            if (lower <= x && x <= upper) {
+                min = Math.min(min, dataset.getYValue(series, item));
+                max = Math.max(max, dataset.getYValue(series, item));
+            }
+        }
+        return min <= max ? new Range(min, max) : null;
+    }
+
+    private static int indexOfMin(XYDataset dataset, int series, int count) {
+        int result = 0;
+        for (int item = 1; item < count; item++) {
+            if (dataset.getYValue(series, item) < dataset.getYValue(series, result)) {
+                result = item;
+            }
+        }
+        return result;
+    }
+
+    private static int indexOfMax(XYDataset dataset, int series, int count) {
+        int result = 0;
+        for (int item = 1; item < count; item++) {
+            if (dataset.getYValue(series, item) > dataset.getYValue(series, result)) {
+                result = item;
+            }
+        }
+        return result;
+    }
+}
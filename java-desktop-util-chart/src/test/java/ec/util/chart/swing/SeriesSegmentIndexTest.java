@@ -0,0 +1,157 @@
+/*
+ * Copyright 2026 National Bank of Belgium
+ *
+ * Licensed under the EUPL, Version 1.1 or - as soon they will be approved
+ * by the European Commission - subsequent versions of the EUPL (the "Licence");
+ * You may not use this work except in compliance with the Licence.
+ * You may obtain a copy of the Licence at:
+ *
+ * http://ec.europa.eu/idabc/eupl
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the Licence is distributed on an "AS IS" basis,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Licence for the specific language governing permissions and
+ * limitations under the Licence.
+ */
+package ec.util.chart.swing;
+
+import org.jfree.chart.ChartPanel;
+import org.jfree.chart.axis.NumberAxis;
+import org.jfree.chart.entity.LegendItemEntity;
+import org.jfree.chart.plot.PlotOrientation;
+import org.jfree.chart.plot.XYPlot;
+import org.jfree.chart.renderer.xy.XYLineAndShapeRenderer;
+import org.jfree.data.xy.DefaultXYDataset;
+import org.junit.jupiter.api.Test;
+
+import java.awt.geom.Rectangle2D;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * @author Philippe Charles
+ */
+public class SeriesSegmentIndexTest {
+
+    private static final int TOLERANCE = 3;
+
+    @Test
+    public void testGetSeriesForPoint() {
+        ChartPanel chartPanel = new ChartPanel(null);
+        DefaultXYDataset dataset = new DefaultXYDataset();
+        // a long diagonal from the bottom left to the top right
+        dataset.addSeries("diagonal", new double[][]{{0, 100}, {0, 100}});
+        dataset.addSeries("flat", new double[][]{{0, 50, 100}, {80, 80, 80}});
+        XYPlot plot = newPlot(dataset);
+        Rectangle2D dataArea = new Rectangle2D.Double(0, 0, 100, 100);
+
+        SeriesSegmentIndex x = SeriesSegmentIndex.of(chartPanel, plot, dataArea, TOLERANCE);
+
+        assertThat(seriesKeyOf(x.getSeriesForPoint(50, 50))).isEqualTo("diagonal");
+        assertThat(seriesKeyOf(x.getSeriesForPoint(52, 50))).isEqualTo("diagonal");
+        assertThat(seriesKeyOf(x.getSeriesForPoint(90, 21))).isEqualTo("flat");
+        // within the bounding box of the diagonal but far from it
+        assertThat(x.getSeriesForPoint(10, 10)).isNull();
+        assertThat(x.getSeriesForPoint(90, 90)).isNull();
+        // outside of the data area
+        assertThat(x.getSeriesForPoint(-10, 50)).isNull();
+    }
+
+    @Test
+    public void testCellsNearTheEdgesOfASegment() {
+        ChartPanel chartPanel = new ChartPanel(null);
+        Rectangle2D dataArea = new Rectangle2D.Double(0, 0, 100, 100);
+
+        // steep and shallow segments that cross cells diagonally
+        DefaultXYDataset steep = new DefaultXYDataset();
+        steep.addSeries("steep", new double[][]{{10, 13}, {0, 100}});
+        SeriesSegmentIndex x = SeriesSegmentIndex.of(chartPanel, newPlot(steep), dataArea, TOLERANCE);
+
+        // every point within the tolerance is found, whatever its cell
+        for (int i = 0; i <= 100; i++) {
+            double y = 100 - i;
+            double steepX = 10 + 3 * i / 100.0;
+            assertThat(seriesKeyOf(x.getSeriesForPoint(steepX + TOLERANCE - 0.5, y))).as("right at %s", i).isEqualTo("steep");
+            assertThat(seriesKeyOf(x.getSeriesForPoint(steepX - TOLERANCE + 0.5, y))).as("left at %s", i).isEqualTo("steep");
+            assertThat(x.getSeriesForPoint(steepX + TOLERANCE + 1, y)).as("far at %s", i).isNull();
+        }
+
+        DefaultXYDataset shallow = new DefaultXYDataset();
+        shallow.addSeries("shallow", new double[][]{{0, 100}, {60, 67}});
+        x = SeriesSegmentIndex.of(chartPanel, newPlot(shallow), dataArea, TOLERANCE);
+
+        for (int i = 0; i <= 100; i++) {
+            double shallowY = 100 - (60 + 7 * i / 100.0);
+            assertThat(seriesKeyOf(x.getSeriesForPoint(i, shallowY + TOLERANCE - 0.5))).as("below at %s", i).isEqualTo("shallow");
+            assertThat(seriesKeyOf(x.getSeriesForPoint(i, shallowY - TOLERANCE + 0.5))).as("above at %s", i).isEqualTo("shallow");
+            assertThat(x.getSeriesForPoint(i, shallowY - TOLERANCE - 1)).as("far at %s", i).isNull();
+        }
+    }
+
+    @Test
+    public void testOf() {
+        ChartPanel chartPanel = new ChartPanel(null);
+        DefaultXYDataset dataset = new DefaultXYDataset();
+        dataset.addSeries("diagonal", new double[][]{{0, 100}, {0, 100}});
+        XYPlot plot = newPlot(dataset);
+        Rectangle2D dataArea = new Rectangle2D.Double(0, 0, 100, 100);
+
+        SeriesSegmentIndex first = SeriesSegmentIndex.of(chartPanel, plot, dataArea, TOLERANCE);
+        assertThat(SeriesSegmentIndex.of(chartPanel, plot, new Rectangle2D.Double(0, 0, 100, 100), TOLERANCE)).isSameAs(first);
+        assertThat(first.getSeriesForPoint(10, 10)).isNull();
+
+        // an inverted domain axis mirrors the diagonal
+        plot.getDomainAxis().setInverted(true);
+        SeriesSegmentIndex inverted = SeriesSegmentIndex.of(chartPanel, plot, dataArea, TOLERANCE);
+        assertThat(inverted).isNotSameAs(first);
+        assertThat(seriesKeyOf(inverted.getSeriesForPoint(10, 10))).isEqualTo("diagonal");
+
+        // so does an inverted range axis
+        plot.getRangeAxis().setInverted(true);
+        SeriesSegmentIndex both = SeriesSegmentIndex.of(chartPanel, plot, dataArea, TOLERANCE);
+        assertThat(both).isNotSameAs(inverted);
+        assertThat(both.getSeriesForPoint(10, 10)).isNull();
+        assertThat(seriesKeyOf(both.getSeriesForPoint(10, 90))).isEqualTo("diagonal");
+
+        plot.getDomainAxis().setInverted(false);
+        plot.getRangeAxis().setInverted(false);
+        plot.setOrientation(PlotOrientation.HORIZONTAL);
+        assertThat(SeriesSegmentIndex.of(chartPanel, plot, dataArea, TOLERANCE)).isNotSameAs(both);
+
+        SeriesSegmentIndex current = SeriesSegmentIndex.of(chartPanel, plot, dataArea, TOLERANCE);
+        assertThat(SeriesSegmentIndex.of(chartPanel, plot, dataArea, TOLERANCE)).isSameAs(current);
+        plot.getDomainAxis().setRange(0, 50);
+        assertThat(SeriesSegmentIndex.of(chartPanel, plot, dataArea, TOLERANCE)).isNotSameAs(current);
+
+        current = SeriesSegmentIndex.of(chartPanel, plot, dataArea, TOLERANCE);
+        dataset.addSeries("other", new double[][]{{0}, {0}});
+        assertThat(SeriesSegmentIndex.of(chartPanel, plot, dataArea, TOLERANCE)).isNotSameAs(current);
+    }
+
+    @Test
+    public void testHiddenSeries() {
+        ChartPanel chartPanel = new ChartPanel(null);
+        DefaultXYDataset dataset = new DefaultXYDataset();
+        dataset.addSeries("diagonal", new double[][]{{0, 100}, {0, 100}});
+        XYPlot plot = newPlot(dataset);
+        Rectangle2D dataArea = new Rectangle2D.Double(0, 0, 100, 100);
+
+        assertThat(SeriesSegmentIndex.of(chartPanel, plot, dataArea, TOLERANCE).getSeriesForPoint(50, 50)).isNotNull();
+
+        plot.getRenderer().setSeriesVisible(0, false);
+        assertThat(SeriesSegmentIndex.of(chartPanel, plot, dataArea, TOLERANCE).getSeriesForPoint(50, 50)).isNull();
+    }
+
+    private static XYPlot newPlot(DefaultXYDataset dataset) {
+        NumberAxis domainAxis = new NumberAxis();
+        domainAxis.setRange(0, 100);
+        NumberAxis rangeAxis = new NumberAxis();
+        rangeAxis.setRange(0, 100);
+        return new XYPlot(dataset, domainAxis, rangeAxis, new XYLineAndShapeRenderer());
+    }
+
+    private static Comparable<?> seriesKeyOf(LegendItemEntity entity) {
+        return entity != null ? entity.getSeriesKey() : null;
+    }
+}
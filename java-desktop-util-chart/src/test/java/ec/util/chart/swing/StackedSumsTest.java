@@ -0,0 +1,136 @@
+/*
+ * Copyright 2026 National Bank of Belgium
+ *
+ * Licensed under the EUPL, Version 1.1 or - as soon they will be approved
+ * by the European Commission - subsequent versions of the EUPL (the "Licence");
+ * You may not use this work except in compliance with the Licence.
+ * You may obtain a copy of the Licence at:
+ *
+ * http://ec.europa.eu/idabc/eupl
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the Licence is distributed on an "AS IS" basis,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Licence for the specific language governing permissions and
+ * limitations under the Licence.
+ */
+package ec.util.chart.swing;
+
+import org.jfree.chart.renderer.xy.XYLineAndShapeRenderer;
+import org.jfree.data.Range;
+import org.jfree.data.xy.DefaultXYDataset;
+import org.junit.jupiter.api.Test;
+
+import java.awt.*;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * @author Philippe Charles
+ */
+public class StackedSumsTest {
+
+    @Test
+    public void testIsSupported() {
+        assertThat(StackedSums.isSupported(null)).isFalse();
+        assertThat(StackedSums.isSupported(new DefaultXYDataset())).isFalse();
+        assertThat(StackedSums.isSupported(newDataset())).isTrue();
+    }
+
+    @Test
+    public void testCompute() {
+        StackedSums.Table x = StackedSums.Table.compute(newDataset(), new XYLineAndShapeRenderer());
+
+        // nothing below the first series
+        assertThat(x.getPositiveBase(0, 0)).isZero();
+        assertThat(x.getNegativeBase(0, 0)).isZero();
+
+        assertThat(x.getPositiveBase(1, 0)).isEqualTo(1);
+        assertThat(x.getNegativeBase(1, 1)).isEqualTo(-2);
+        assertThat(x.getPositiveBase(2, 0)).isEqualTo(11);
+        assertThat(x.getNegativeBase(2, 1)).isEqualTo(-2);
+        // missing values count as zero
+        assertThat(x.getPositiveBase(2, 2)).isEqualTo(3);
+
+        // totals
+        assertThat(x.getPositiveBase(3, 0)).isEqualTo(111);
+        assertThat(x.getNegativeBase(3, 1)).isEqualTo(-202);
+        assertThat(x.getPositiveBase(3, 2)).isEqualTo(303);
+
+        assertThat(x.getBase(2, 1, 5)).isEqualTo(20);
+        assertThat(x.getBase(2, 1, -5)).isEqualTo(-2);
+
+        assertThat(x.getRangeBounds()).isEqualTo(new Range(-202, 303));
+    }
+
+    @Test
+    public void testComputeHiddenSeries() {
+        XYLineAndShapeRenderer renderer = new XYLineAndShapeRenderer();
+        renderer.setSeriesVisible(1, false);
+        StackedSums.Table x = StackedSums.Table.compute(newDataset(), renderer);
+
+        assertThat(x.getPositiveBase(2, 0)).isEqualTo(1);
+        assertThat(x.getNegativeBase(2, 1)).isEqualTo(-2);
+        assertThat(x.getPositiveBase(3, 0)).isEqualTo(101);
+        assertThat(x.getRangeBounds()).isEqualTo(new Range(-202, 303));
+    }
+
+    @Test
+    public void testRangeBoundsIncludeZero() {
+        FilteredXYDataset positive = new FilteredXYDataset(ColumnarXYDataset.builder()
+                .series("s1", new double[]{1, 2}, new double[]{5, 10})
+                .build(), new int[]{0});
+
+        assertThat(StackedSums.Table.compute(positive, new XYLineAndShapeRenderer()).getRangeBounds()).isEqualTo(new Range(0, 10));
+    }
+
+    @Test
+    public void testOf() {
+        FilteredXYDataset dataset = newDataset();
+        XYLineAndShapeRenderer renderer = new XYLineAndShapeRenderer();
+
+        StackedSums.Table first = StackedSums.of(renderer, dataset);
+        assertThat(StackedSums.of(renderer, dataset)).isSameAs(first);
+
+        // not a change of the visible series
+        renderer.setSeriesPaint(1, Color.RED);
+        assertThat(StackedSums.of(renderer, dataset)).isSameAs(first);
+
+        // a change of the visible series
+        renderer.setSeriesVisible(1, false);
+        StackedSums.Table second = StackedSums.of(renderer, dataset);
+        assertThat(second).isNotSameAs(first);
+        assertThat(second.getPositiveBase(3, 0)).isEqualTo(101);
+        assertThat(StackedSums.of(renderer, dataset)).isSameAs(second);
+
+        // a change of the dataset
+        dataset.fireChanged();
+        StackedSums.Table third = StackedSums.of(renderer, dataset);
+        assertThat(third).isNotSameAs(second);
+
+        // another renderer
+        XYLineAndShapeRenderer other = new XYLineAndShapeRenderer();
+        StackedSums.Table fourth = StackedSums.of(other, dataset);
+        assertThat(fourth).isNotSameAs(third);
+        assertThat(fourth.getPositiveBase(3, 0)).isEqualTo(111);
+    }
+
+    @Test
+    public void testComputeEmpty() {
+        FilteredXYDataset empty = new FilteredXYDataset(ColumnarXYDataset.builder().build(), new int[0]);
+        StackedSums.Table x = StackedSums.Table.compute(empty, new XYLineAndShapeRenderer());
+
+        assertThat(x.getPositiveBase(0, 0)).isZero();
+        assertThat(x.getRangeBounds()).isEqualTo(new Range(0, 0));
+    }
+
+    private static FilteredXYDataset newDataset() {
+        double[] x = {1, 2, 3};
+        ColumnarXYDataset original = ColumnarXYDataset.builder()
+                .series("s1", x, new double[]{1, -2, 3})
+                .series("s2", x, new double[]{10, 20, Double.NaN})
+                .series("s3", x, new double[]{100, -200, 300})
+                .build();
+        return new FilteredXYDataset(original, new int[]{0, 1, 2});
+    }
+}
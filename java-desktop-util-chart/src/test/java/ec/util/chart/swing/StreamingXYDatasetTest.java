@@ -0,0 +1,155 @@
+/*
+ * Copyright 2026 National Bank of Belgium
+ *
+ * Licensed under the EUPL, Version 1.1 or - as soon they will be approved
+ * by the European Commission - subsequent versions of the EUPL (the "Licence");
+ * You may not use this work except in compliance with the Licence.
+ * You may obtain a copy of the Licence at:
+ *
+ * http://ec.europa.eu/idabc/eupl
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the Licence is distributed on an "AS IS" basis,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Licence for the specific language governing permissions and
+ * limitations under the Licence.
+ */
+package ec.util.chart.swing;
+
+import org.jfree.data.DomainOrder;
+import org.junit.jupiter.api.Test;
+
+import javax.swing.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * @author Philippe Charles
+ */
+public class StreamingXYDatasetTest {
+
+    @Test
+    public void testConstructor() {
+        assertThatIllegalArgumentException().isThrownBy(() -> new StreamingXYDataset(0));
+        assertThat(new StreamingXYDataset(10).getCapacity()).isEqualTo(10);
+    }
+
+    @Test
+    public void testAppend() throws Exception {
+        StreamingXYDataset x = new StreamingXYDataset(10);
+        AtomicInteger events = new AtomicInteger();
+        x.addChangeListener(event -> events.incrementAndGet());
+
+        SwingUtilities.invokeAndWait(() -> {
+            assertThat(x.addSeries("s1")).isEqualTo(0);
+            assertThat(x.addSeries("s2")).isEqualTo(1);
+            x.append(0, 1, 10);
+            x.append(0, 2, 20);
+            x.append(1, 1, 0.5, 1.5, 30);
+            // applied later on the EDT
+            assertThat(x.getSeriesCount()).isZero();
+        });
+        flush();
+        assertThat(events).hasValue(1);
+
+        assertThat(x.getSeriesCount()).isEqualTo(2);
+        assertThat(x.getSeriesKey(1)).isEqualTo("s2");
+        assertThat(x.getDomainOrder()).isEqualTo(DomainOrder.ASCENDING);
+        assertThat(x.getItemCount(0)).isEqualTo(2);
+        assertThat(x.getXValue(0, 1)).isEqualTo(2);
+        assertThat(x.getYValue(0, 1)).isEqualTo(20);
+        assertThat(x.getStartXValue(0, 1)).isEqualTo(2);
+        assertThat(x.getEndXValue(0, 1)).isEqualTo(2);
+        assertThat(x.getItemCount(1)).isEqualTo(1);
+        assertThat(x.getStartXValue(1, 0)).isEqualTo(0.5);
+        assertThat(x.getEndXValue(1, 0)).isEqualTo(1.5);
+        assertThat(x.getY(1, 0)).isEqualTo(30d);
+
+        assertThatIllegalArgumentException().isThrownBy(() -> x.append(0, 1, 0));
+        assertThatIndexOutOfBoundsException().isThrownBy(() -> x.append(2, 3, 0));
+    }
+
+    @Test
+    public void testEviction() throws Exception {
+        StreamingXYDataset x = new StreamingXYDataset(3);
+        x.addSeries("s1");
+        x.append(0, 1, 10);
+        x.append(0, 2, 20);
+        flush();
+        assertThat(x.getEvictedCount(0)).isZero();
+
+        x.append(0, 3, 30);
+        x.append(0, 4, 40);
+        x.append(0, 5, 50);
+        flush();
+        assertThat(x.getItemCount(0)).isEqualTo(3);
+        assertThat(x.getEvictedCount(0)).isEqualTo(2);
+        assertThat(new double[]{x.getXValue(0, 0), x.getXValue(0, 1), x.getXValue(0, 2)}).containsExactly(3, 4, 5);
+        assertThat(new double[]{x.getYValue(0, 0), x.getYValue(0, 1), x.getYValue(0, 2)}).containsExactly(30, 40, 50);
+
+        // more observations than the capacity between two syncs
+        for (int i = 6; i < 10; i++) {
+            x.append(0, i, i * 10);
+        }
+        flush();
+        assertThat(x.getItemCount(0)).isEqualTo(3);
+        assertThat(new double[]{x.getXValue(0, 0), x.getXValue(0, 1), x.getXValue(0, 2)}).containsExactly(7, 8, 9);
+    }
+
+    @Test
+    public void testGrowth() throws Exception {
+        int capacity = 100;
+        StreamingXYDataset x = new StreamingXYDataset(capacity);
+        x.addSeries("s1");
+
+        // buffers grow from a small length up to the capacity, then evict
+        for (int i = 0; i < 250; i++) {
+            x.append(0, i, i * 10);
+            if (i % 7 == 6 || i == 249) {
+                flush();
+                int count = Math.min(i + 1, capacity);
+                assertThat(x.getItemCount(0)).isEqualTo(count);
+                assertThat(x.getEvictedCount(0)).isEqualTo(i + 1 - count);
+                for (int item = 0; item < count; item++) {
+                    assertThat(x.getXValue(0, item)).isEqualTo(i + 1 - count + item);
+                    assertThat(x.getYValue(0, item)).isEqualTo((i + 1 - count + item) * 10);
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testProducerThreads() throws Exception {
+        int threadCount = 4;
+        int itemCount = 1000;
+        StreamingXYDataset x = new StreamingXYDataset(itemCount);
+        Thread[] threads = new Thread[threadCount];
+        for (int i = 0; i < threadCount; i++) {
+            int series = x.addSeries("s" + i);
+            threads[i] = new Thread(() -> {
+                for (int item = 0; item < itemCount; item++) {
+                    x.append(series, item, series);
+                }
+            });
+            threads[i].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        flush();
+
+        assertThat(x.getSeriesCount()).isEqualTo(threadCount);
+        for (int series = 0; series < threadCount; series++) {
+            assertThat(x.getItemCount(series)).isEqualTo(itemCount);
+            assertThat(x.getXValue(series, itemCount - 1)).isEqualTo(itemCount - 1);
+            assertThat(x.getYValue(series, 0)).isEqualTo(series);
+        }
+    }
+
+    private static void flush() throws Exception {
+        // the dataset is synced by a task queued on the EDT
+        SwingUtilities.invokeAndWait(() -> {
+        });
+    }
+}
@@ -0,0 +1,139 @@
+/*
+ * Copyright 2026 National Bank of Belgium
+ *
+ * Licensed under the EUPL, Version 1.1 or - as soon they will be approved
+ * by the European Commission - subsequent versions of the EUPL (the "Licence");
+ * You may not use this work except in compliance with the Licence.
+ * You may obtain a copy of the Licence at:
+ *
+ * http://ec.europa.eu/idabc/eupl
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the Licence is distributed on an "AS IS" basis,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Licence for the specific language governing permissions and
+ * limitations under the Licence.
+ */
+package ec.util.demo;
+
+import ec.util.chart.swing.JTimeSeriesChart;
+import ec.util.chart.swing.RegularXYDataset;
+import org.jfree.data.time.Day;
+import org.jfree.data.time.RegularTimePeriod;
+import org.jfree.data.time.TimePeriodAnchor;
+import org.jfree.data.time.TimeSeries;
+import org.jfree.data.time.TimeSeriesCollection;
+
+import javax.swing.*;
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.time.LocalDate;
+import java.time.Period;
+import java.util.Random;
+
+/**
+ * Helpers shared by the chart benchmarks.
+ *
+ * @author Philippe Charles
+ */
+final class BenchmarkSupport {
+
+    private BenchmarkSupport() {
+        // static class
+    }
+
+    static int getArg(String[] args, int index, int defaultValue) {
+        return index < args.length ? Integer.parseInt(args[index]) : defaultValue;
+    }
+
+    /**
+     * Creates random walks of daily observations.
+     */
+    static TimeSeriesCollection newDailyDataset(int seriesCount, int obsCount) {
+        Random random = new Random(0);
+        TimeSeriesCollection result = new TimeSeriesCollection();
+        result.setXPosition(TimePeriodAnchor.MIDDLE);
+        for (int i = 0; i < seriesCount; i++) {
+            TimeSeries series = new TimeSeries("S" + i);
+            RegularTimePeriod period = new Day(1, 1, 2000);
+            double value = 100;
+            for (int j = 0; j < obsCount; j++) {
+                value += random.nextGaussian();
+                series.add(period, value, false);
+                period = period.next();
+            }
+            result.addSeries(series);
+        }
+        return result;
+    }
+
+    /**
+     * Creates random walks of monthly observations.
+     */
+    static RegularXYDataset newMonthlyDataset(Random random, int seriesCount, int obsCount) {
+        RegularXYDataset.Builder result = RegularXYDataset.builder();
+        for (int i = 0; i < seriesCount; i++) {
+            double[] values = new double[obsCount];
+            double value = 100;
+            for (int j = 0; j < values.length; j++) {
+                value += random.nextGaussian();
+                values[j] = value;
+            }
+            result.series("S" + i, LocalDate.of(2000, 1, 1), Period.ofMonths(1), values);
+        }
+        return result.build();
+    }
+
+    /**
+     * Paints a chart several times. Each frame changes the series selection
+     * so that the whole chart is drawn again with new styles.
+     *
+     * @return the elapsed time in nanoseconds
+     */
+    static long paint(JTimeSeriesChart chart, BufferedImage image, int frames) {
+        ListSelectionModel selection = chart.getSeriesSelectionModel();
+        int seriesCount = chart.getDataset().getSeriesCount();
+        long start = System.nanoTime();
+        for (int i = 0; i < frames; i++) {
+            int index = i % (seriesCount + 1);
+            if (index == seriesCount) {
+                selection.clearSelection();
+            } else {
+                selection.setSelectionInterval(index, index);
+            }
+            Graphics2D g2 = image.createGraphics();
+            try {
+                chart.paint(g2);
+            } finally {
+                g2.dispose();
+            }
+        }
+        return System.nanoTime() - start;
+    }
+
+    /**
+     * Gets the bytes allocated so far by the current thread.
+     *
+     * @return a number of bytes, -1 if not supported by the JVM
+     */
+    static long getAllocatedBytes() {
+        java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        return bean instanceof com.sun.management.ThreadMXBean
+                ? ((com.sun.management.ThreadMXBean) bean).getThreadAllocatedBytes(Thread.currentThread().getId())
+                : -1;
+    }
+
+    static long getGcCount() {
+        return ManagementFactory.getGarbageCollectorMXBeans().stream().mapToLong(GarbageCollectorMXBean::getCollectionCount).sum();
+    }
+
+    static long getGcTime() {
+        return ManagementFactory.getGarbageCollectorMXBeans().stream().mapToLong(GarbageCollectorMXBean::getCollectionTime).sum();
+    }
+
+    static double percentile(long[] sorted, double p) {
+        return sorted.length > 0 ? sorted[(int) Math.min(sorted.length - 1, Math.floor(p * sorted.length))] : 0;
+    }
+}
@@ -0,0 +1,79 @@
+/*
+ * Copyright 2026 National Bank of Belgium
+ *
+ * Licensed under the EUPL, Version 1.1 or - as soon they will be approved
+ * by the European Commission - subsequent versions of the EUPL (the "Licence");
+ * You may not use this work except in compliance with the Licence.
+ * You may obtain a copy of the Licence at:
+ *
+ * http://ec.europa.eu/idabc/eupl
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the Licence is distributed on an "AS IS" basis,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Licence for the specific language governing permissions and
+ * limitations under the Licence.
+ */
+package ec.util.demo;
+
+import ec.util.chart.swing.JTimeSeriesChartExporter;
+import ec.util.chart.swing.JTimeSeriesChartExporter.Report;
+import ec.util.chart.swing.JTimeSeriesChartExporter.Result;
+import ec.util.chart.swing.JTimeSeriesChartExporter.Spec;
+
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static ec.util.demo.BenchmarkSupport.*;
+
+/**
+ * Measures the throughput of {@link JTimeSeriesChartExporter} by exporting
+ * monthly charts as PNG images into a discarding stream.
+ * <p>
+ * Usage: <code>JTimeSeriesChartExportBenchmark [charts] [parallelism]</code>
+ *
+ * @author Philippe Charles
+ */
+public final class JTimeSeriesChartExportBenchmark {
+
+    private static final int WIDTH = 800;
+    private static final int HEIGHT = 400;
+
+    public static void main(String[] args) {
+        System.setProperty("java.awt.headless", "true");
+        int chartCount = getArg(args, 0, 1000);
+        int parallelism = getArg(args, 1, Runtime.getRuntime().availableProcessors());
+
+        List<Spec> specs = new ArrayList<>(chartCount);
+        Random random = new Random(0);
+        for (int i = 0; i < chartCount; i++) {
+            String title = "Chart " + i;
+            specs.add(Spec.of(newMonthlyDataset(random, 3, 240), chart -> chart.setTitle(title), "image/png", WIDTH, HEIGHT, JTimeSeriesChartExportBenchmark::newNullStream));
+        }
+
+        try (JTimeSeriesChartExporter exporter = JTimeSeriesChartExporter.builder().parallelism(parallelism).build()) {
+            exporter.export(specs.subList(0, Math.min(chartCount, parallelism * 4))); // warm-up
+            Report report = exporter.export(specs);
+            long[] nanos = report.getResults().stream().mapToLong(Result::getNanos).sorted().toArray();
+            System.out.printf("charts=%d parallelism=%d errors=%d%n", chartCount, parallelism, report.getErrorCount());
+            System.out.printf("total: %.0f ms%n", report.getNanos() / 1e6);
+            System.out.printf("throughput: %.1f images/s%n", report.getThroughput());
+            System.out.printf("time/image: median %.2f ms, p95 %.2f ms, max %.2f ms%n",
+                    percentile(nanos, 0.5) / 1e6, percentile(nanos, 0.95) / 1e6, nanos.length > 0 ? nanos[nanos.length - 1] / 1e6 : 0);
+        }
+    }
+
+    private static OutputStream newNullStream() {
+        return new OutputStream() {
+            @Override
+            public void write(int b) {
+            }
+
+            @Override
+            public void write(byte[] b, int off, int len) {
+            }
+        };
+    }
+}
@@ -0,0 +1,72 @@
+/*
+ * Copyright 2026 National Bank of Belgium
+ *
+ * Licensed under the EUPL, Version 1.1 or - as soon they will be approved
+ * by the European Commission - subsequent versions of the EUPL (the "Licence");
+ * You may not use this work except in compliance with the Licence.
+ * You may obtain a copy of the Licence at:
+ *
+ * http://ec.europa.eu/idabc/eupl
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the Licence is distributed on an "AS IS" basis,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Licence for the specific language governing permissions and
+ * limitations under the Licence.
+ */
+package ec.util.demo;
+
+import ec.util.chart.swing.JTimeSeriesChart;
+
+import javax.swing.*;
+import java.awt.event.ComponentEvent;
+import java.awt.image.BufferedImage;
+
+import static ec.util.demo.BenchmarkSupport.*;
+
+/**
+ * Compares the time needed to paint a {@link JTimeSeriesChart} during an
+ * interaction, when its frames are coarse, with the time needed to paint it
+ * at full quality. The interaction is simulated by a resize event.
+ * <p>
+ * Usage: <code>JTimeSeriesChartInteractionBenchmark [series] [obs] [frames]</code>
+ *
+ * @author Philippe Charles
+ */
+public final class JTimeSeriesChartInteractionBenchmark {
+
+    private static final int WIDTH = 1200;
+    private static final int HEIGHT = 800;
+
+    public static void main(String[] args) throws Exception {
+        int seriesCount = getArg(args, 0, 50);
+        int obsCount = getArg(args, 1, 2000);
+        int frames = getArg(args, 2, 50);
+        SwingUtilities.invokeAndWait(() -> run(seriesCount, obsCount, frames));
+    }
+
+    private static void run(int seriesCount, int obsCount, int frames) {
+        JTimeSeriesChart chart = new JTimeSeriesChart();
+        chart.setDataset(newDailyDataset(seriesCount, obsCount));
+        chart.setInteractionQualityDelay(200);
+        chart.setSize(WIDTH, HEIGHT);
+        chart.doLayout();
+
+        BufferedImage image = new BufferedImage(WIDTH, HEIGHT, BufferedImage.TYPE_INT_ARGB);
+
+        paint(chart, image, Math.max(1, frames / 10)); // warm-up
+        long full = paint(chart, image, frames);
+
+        // the idle timer cannot end the interaction while the EDT is busy
+        chart.dispatchEvent(new ComponentEvent(chart, ComponentEvent.COMPONENT_RESIZED));
+        if (!chart.isCoarseRendering()) {
+            throw new IllegalStateException("Coarse rendering not started");
+        }
+        paint(chart, image, Math.max(1, frames / 10)); // warm-up
+        long coarse = paint(chart, image, frames);
+
+        System.out.printf("series=%d obs=%d frames=%d%n", seriesCount, obsCount, frames);
+        System.out.printf("full quality/frame: %.2f ms%n", full / 1e6 / frames);
+        System.out.printf("coarse/frame: %.2f ms%n", coarse / 1e6 / frames);
+    }
+}
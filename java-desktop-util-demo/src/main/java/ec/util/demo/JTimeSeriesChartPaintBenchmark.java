@@ -0,0 +1,85 @@
+/*
+ * Copyright 2026 National Bank of Belgium
+ *
+ * Licensed under the EUPL, Version 1.1 or - as soon they will be approved
+ * by the European Commission - subsequent versions of the EUPL (the "Licence");
+ * You may not use this work except in compliance with the Licence.
+ * You may obtain a copy of the Licence at:
+ *
+ * http://ec.europa.eu/idabc/eupl
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the Licence is distributed on an "AS IS" basis,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Licence for the specific language governing permissions and
+ * limitations under the Licence.
+ */
+package ec.util.demo;
+
+import ec.util.chart.swing.JTimeSeriesChart;
+
+import javax.swing.*;
+import java.awt.image.BufferedImage;
+import java.util.function.Consumer;
+
+import static ec.util.demo.BenchmarkSupport.*;
+
+/**
+ * Measures the time and the memory allocated while painting a large
+ * {@link JTimeSeriesChart}. Each frame changes the series selection so that
+ * the whole chart is repainted with new styles. The chart is first painted
+ * with its defaults as a baseline and then with each optimization enabled.
+ * <p>
+ * Usage: <code>JTimeSeriesChartPaintBenchmark [series] [obs] [frames]</code>
+ *
+ * @author Philippe Charles
+ */
+public final class JTimeSeriesChartPaintBenchmark {
+
+    private static final int WIDTH = 1200;
+    private static final int HEIGHT = 800;
+
+    public static void main(String[] args) throws Exception {
+        int seriesCount = getArg(args, 0, 50);
+        int obsCount = getArg(args, 1, 2000);
+        int frames = getArg(args, 2, 100);
+        SwingUtilities.invokeAndWait(() -> {
+            System.out.printf("series=%d obs=%d frames=%d%n", seriesCount, obsCount, frames);
+            run("baseline", chart -> {
+            }, seriesCount, obsCount, frames);
+            run("decimation", chart -> chart.setDecimationEnabled(true), seriesCount, obsCount, frames);
+            run("line batching", chart -> chart.setLineBatchingEnabled(true), seriesCount, obsCount, frames);
+            run("decimation + line batching", chart -> {
+                chart.setDecimationEnabled(true);
+                chart.setLineBatchingEnabled(true);
+            }, seriesCount, obsCount, frames);
+        });
+    }
+
+    private static void run(String name, Consumer<JTimeSeriesChart> options, int seriesCount, int obsCount, int frames) {
+        JTimeSeriesChart chart = new JTimeSeriesChart();
+        options.accept(chart);
+        chart.setDataset(newDailyDataset(seriesCount, obsCount));
+        chart.setSize(WIDTH, HEIGHT);
+        chart.doLayout();
+
+        BufferedImage image = new BufferedImage(WIDTH, HEIGHT, BufferedImage.TYPE_INT_ARGB);
+
+        paint(chart, image, Math.max(1, frames / 10)); // warm-up
+
+        long gcCount = getGcCount();
+        long gcTime = getGcTime();
+        long allocated = getAllocatedBytes();
+
+        long elapsed = paint(chart, image, frames);
+
+        allocated = getAllocatedBytes() - allocated;
+        gcCount = getGcCount() - gcCount;
+        gcTime = getGcTime() - gcTime;
+
+        System.out.printf("[%s]%n", name);
+        System.out.printf("time/frame: %.2f ms%n", elapsed / 1e6 / frames);
+        System.out.printf("allocated/frame: %.1f KB%n", allocated / 1024.0 / frames);
+        System.out.printf("gc: %d collections, %d ms%n", gcCount, gcTime);
+    }
+}
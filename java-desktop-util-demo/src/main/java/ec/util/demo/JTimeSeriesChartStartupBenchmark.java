@@ -0,0 +1,86 @@
+/*
+ * Copyright 2026 National Bank of Belgium
+ *
+ * Licensed under the EUPL, Version 1.1 or - as soon they will be approved
+ * by the European Commission - subsequent versions of the EUPL (the "Licence");
+ * You may not use this work except in compliance with the Licence.
+ * You may obtain a copy of the Licence at:
+ *
+ * http://ec.europa.eu/idabc/eupl
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the Licence is distributed on an "AS IS" basis,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Licence for the specific language governing permissions and
+ * limitations under the Licence.
+ */
+package ec.util.demo;
+
+import ec.util.chart.SeriesFunction;
+import ec.util.chart.swing.JTimeSeriesChart;
+import ec.util.chart.swing.RegularXYDataset;
+
+import javax.swing.*;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static ec.util.demo.BenchmarkSupport.*;
+
+/**
+ * Measures the cost of creating {@link JTimeSeriesChart} instances, as done
+ * by a dashboard at startup: each chart is constructed, split into several
+ * plots and given a small dataset.
+ * <p>
+ * Usage: <code>JTimeSeriesChartStartupBenchmark [charts] [plots]</code>
+ *
+ * @author Philippe Charles
+ */
+public final class JTimeSeriesChartStartupBenchmark {
+
+    public static void main(String[] args) throws Exception {
+        int chartCount = getArg(args, 0, 40);
+        int plotCount = getArg(args, 1, 3);
+        SwingUtilities.invokeAndWait(() -> run(chartCount, plotCount));
+    }
+
+    private static void run(int chartCount, int plotCount) {
+        RegularXYDataset dataset = newMonthlyDataset(new Random(0), plotCount, 120);
+        int[] weights = new int[plotCount];
+        Arrays.fill(weights, 1);
+        Integer[] plots = new Integer[plotCount];
+        Arrays.setAll(plots, i -> i);
+        SeriesFunction<Integer> dispatcher = SeriesFunction.array(plots);
+
+        create(chartCount, dataset, weights, dispatcher); // warm-up
+
+        long allocated = getAllocatedBytes();
+        long start = System.nanoTime();
+        long constructed = create(chartCount, dataset, weights, dispatcher);
+        long elapsed = System.nanoTime() - start;
+        allocated = getAllocatedBytes() - allocated;
+
+        System.out.printf("charts=%d plots=%d%n", chartCount, plotCount);
+        System.out.printf("constructor/chart: %.3f ms%n", constructed / 1e6 / chartCount);
+        System.out.printf("total/chart: %.3f ms%n", elapsed / 1e6 / chartCount);
+        System.out.printf("allocated/chart: %.1f KB%n", allocated / 1024.0 / chartCount);
+    }
+
+    private static long create(int chartCount, RegularXYDataset dataset, int[] weights, SeriesFunction<Integer> dispatcher) {
+        List<JTimeSeriesChart> charts = new ArrayList<>(chartCount);
+        long result = 0;
+        for (int i = 0; i < chartCount; i++) {
+            long start = System.nanoTime();
+            JTimeSeriesChart chart = new JTimeSeriesChart();
+            result += System.nanoTime() - start;
+            chart.batch(() -> {
+                chart.setPlotWeights(weights);
+                chart.setPlotDispatcher(dispatcher);
+                chart.setDataset(dataset);
+            });
+            charts.add(chart);
+        }
+        return result;
+    }
+}